@@ -0,0 +1,75 @@
+package com.auth0.json.mgmt.users;
+
+import com.auth0.json.mgmt.PageDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the single-pass {@link PageDeserializer} used for {@link UsersPage} against the tree-based approach it replaced, which read the
+ * payload into a {@link JsonNode} and then bound the items array a second time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UsersPageDeserializerBenchmark {
+
+    @Param({"100", "1000"})
+    public int users;
+
+    private byte[] payload;
+    private ObjectReader pageReader;
+    private ObjectMapper treeMapper;
+    private ObjectReader itemsReader;
+
+    @Setup
+    public void setUp() {
+        payload = usersPage(users).getBytes();
+        ObjectMapper mapper = new ObjectMapper();
+        pageReader = mapper.readerFor(UsersPage.class);
+        treeMapper = new ObjectMapper();
+        itemsReader = treeMapper.readerFor(treeMapper.getTypeFactory().constructCollectionType(List.class, User.class));
+    }
+
+    @Benchmark
+    public UsersPage streaming() throws IOException {
+        return pageReader.readValue(payload);
+    }
+
+    @Benchmark
+    public UsersPage tree() throws IOException {
+        JsonNode node = treeMapper.readTree(payload);
+        List<User> items = itemsReader.readValue(node.get("users"));
+        return new UsersPage(node.get("start").intValue(), node.get("length").intValue(), node.get("total").intValue(),
+                node.get("limit").intValue(), null, items);
+    }
+
+    private static String usersPage(int count) {
+        StringBuilder sb = new StringBuilder("{\"start\":0,\"length\":").append(count)
+                .append(",\"total\":").append(count)
+                .append(",\"limit\":").append(count)
+                .append(",\"users\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"user_id\":\"auth0|").append(i).append("\",")
+                    .append("\"email\":\"user").append(i).append("@example.com\",")
+                    .append("\"email_verified\":true,")
+                    .append("\"created_at\":\"2022-01-01T10:00:00.000Z\",")
+                    .append("\"identities\":[{\"provider\":\"auth0\",\"user_id\":\"").append(i).append("\",\"connection\":\"Username-Password-Authentication\",\"isSocial\":false}],")
+                    .append("\"app_metadata\":{\"plan\":\"enterprise\",\"roles\":[\"admin\",\"billing\"]},")
+                    .append("\"logins_count\":").append(i)
+                    .append('}');
+        }
+        return sb.append("]}").toString();
+    }
+}
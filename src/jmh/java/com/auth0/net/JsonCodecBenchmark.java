@@ -0,0 +1,46 @@
+package com.auth0.net;
+
+import com.auth0.json.mgmt.users.UsersPage;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding a users page with a fresh {@link ObjectMapper} per request, as the request classes used to do,
+ * against a client-scoped {@link JsonCodec}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonCodecBenchmark {
+
+    @Param({"10", "100"})
+    public int users;
+
+    private String payload;
+    private JsonCodec codec;
+
+    @Setup
+    public void setUp() {
+        payload = Payloads.usersPage(users);
+        codec = new JsonCodec();
+    }
+
+    @Benchmark
+    public UsersPage mapperPerRequest() throws IOException {
+        return new ObjectMapper().readValue(payload, new TypeReference<UsersPage>() {
+        });
+    }
+
+    @Benchmark
+    public UsersPage sharedCodec() throws IOException {
+        return codec.readerFor(new TypeReference<UsersPage>() {
+        }).readValue(payload);
+    }
+}
@@ -0,0 +1,39 @@
+package com.auth0.net;
+
+/**
+ * Builds the JSON payloads used by the benchmarks.
+ */
+final class Payloads {
+
+    private Payloads() {
+    }
+
+    static String user(int index) {
+        return "{"
+                + "\"user_id\":\"auth0|" + index + "\","
+                + "\"email\":\"user" + index + "@example.com\","
+                + "\"email_verified\":true,"
+                + "\"username\":\"user" + index + "\","
+                + "\"created_at\":\"2022-01-01T10:00:00.000Z\","
+                + "\"updated_at\":\"2022-06-01T10:00:00.000Z\","
+                + "\"identities\":[{\"provider\":\"auth0\",\"user_id\":\"" + index + "\",\"connection\":\"Username-Password-Authentication\",\"isSocial\":false}],"
+                + "\"app_metadata\":{\"plan\":\"enterprise\",\"roles\":[\"admin\",\"billing\"],\"tenant\":\"t" + index + "\"},"
+                + "\"user_metadata\":{\"locale\":\"en-US\",\"theme\":\"dark\"},"
+                + "\"logins_count\":" + index
+                + "}";
+    }
+
+    static String usersPage(int count) {
+        StringBuilder sb = new StringBuilder("{\"start\":0,\"length\":").append(count)
+                .append(",\"total\":").append(count)
+                .append(",\"limit\":").append(count)
+                .append(",\"users\":[");
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(user(i));
+        }
+        return sb.append("]}").toString();
+    }
+}
@@ -0,0 +1,64 @@
+package com.auth0.net;
+
+import com.auth0.client.mgmt.ManagementAPI;
+import com.auth0.client.mgmt.UsersEntity;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.users.User;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares building the HTTP request of a Management API call the way the entities used to, with a new entity per
+ * call, a URL rendered to a string and parsed again, and an Authorization header concatenated for every request,
+ * against the current pipeline, which keeps the parsed URL and reuses the entity and its header.
+ * <p>
+ * Run with {@code -prof gc} to compare the bytes allocated per request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestPipelineBenchmark {
+
+    private static final String API_TOKEN = "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9.benchmark.token";
+
+    private ManagementAPI api;
+    private OkHttpClient client;
+    private JsonCodec codec;
+    private HttpUrl baseUrl;
+
+    @Setup
+    public void setUp() {
+        api = new ManagementAPI("benchmark.auth0.com", API_TOKEN);
+        client = new OkHttpClient();
+        codec = new JsonCodec();
+        baseUrl = HttpUrl.get("https://benchmark.auth0.com/");
+    }
+
+    @Benchmark
+    public okhttp3.Request reparsedUrl() throws Auth0Exception {
+        // what UsersEntity#get used to do
+        String url = baseUrl
+                .newBuilder()
+                .addPathSegments("api/v2/users")
+                .addPathSegment("auth0|123456")
+                .build()
+                .toString();
+        CustomRequest<User> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<User>() {
+        });
+        request.addHeader("Authorization", "Bearer " + API_TOKEN);
+        return request.createRequest();
+    }
+
+    @Benchmark
+    public okhttp3.Request parsedUrl() throws Auth0Exception {
+        UsersEntity users = api.users();
+        return ((BaseRequest<User>) users.get("auth0|123456", null)).createRequest();
+    }
+}
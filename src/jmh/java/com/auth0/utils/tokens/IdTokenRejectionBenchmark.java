@@ -0,0 +1,91 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.exception.IdTokenValidationException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import org.openjdk.jmh.annotations.*;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the throughput of {@link IdTokenVerifier} verifying RS256 ID tokens, of which a given percentage is invalid
+ * (expired, issued by someone else or for someone else), with and without
+ * {@link IdTokenVerifier.Builder#withFastRejection(boolean)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdTokenRejectionBenchmark {
+
+    private static final String ISSUER = "https://benchmark.auth0.com/";
+    private static final String AUDIENCE = "benchmark-client-id";
+    private static final int TOKENS = 1024;
+
+    @Param({"0", "50", "90"})
+    public int invalidPercent;
+
+    private String[] tokens;
+    private IdTokenVerifier verifier;
+    private IdTokenVerifier fastRejectionVerifier;
+    private int next;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        Algorithm algorithm = Algorithm.RSA256((RSAPublicKey) keyPair.getPublic(), (RSAPrivateKey) keyPair.getPrivate());
+
+        long now = System.currentTimeMillis();
+        Random random = new Random(42);
+        tokens = new String[TOKENS];
+        for (int i = 0; i < TOKENS; i++) {
+            boolean invalid = random.nextInt(100) < invalidPercent;
+            int reason = invalid ? random.nextInt(3) : -1;
+            tokens[i] = JWT.create()
+                    .withKeyId("benchmark-key")
+                    .withIssuer(reason == 0 ? "https://attacker.example.com/" : ISSUER)
+                    .withSubject("auth0|benchmark")
+                    .withAudience(reason == 1 ? "other-client-id" : AUDIENCE)
+                    .withIssuedAt(new Date(now))
+                    .withExpiresAt(new Date(reason == 2 ? now - TimeUnit.HOURS.toMillis(1) : now + TimeUnit.HOURS.toMillis(10)))
+                    .sign(algorithm);
+        }
+
+        SignatureVerifier signatureVerifier = SignatureVerifier.forRS256(keyId -> (RSAPublicKey) keyPair.getPublic());
+        verifier = IdTokenVerifier.init(ISSUER, AUDIENCE, signatureVerifier).build();
+        fastRejectionVerifier = IdTokenVerifier.init(ISSUER, AUDIENCE, signatureVerifier).withFastRejection(true).build();
+    }
+
+    private String nextToken() {
+        return tokens[next++ & (TOKENS - 1)];
+    }
+
+    @Benchmark
+    public boolean verify() {
+        return verify(verifier, nextToken());
+    }
+
+    @Benchmark
+    public boolean verifyWithFastRejection() {
+        return verify(fastRejectionVerifier, nextToken());
+    }
+
+    private static boolean verify(IdTokenVerifier verifier, String token) {
+        try {
+            verifier.verify(token);
+            return true;
+        } catch (IdTokenValidationException e) {
+            return false;
+        }
+    }
+}
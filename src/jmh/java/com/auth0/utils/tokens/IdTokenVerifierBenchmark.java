@@ -0,0 +1,95 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.exception.IdTokenValidationException;
+import com.auth0.jwt.JWT;
+import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the verification of an ID token with {@link IdTokenVerifier}, with its HS256 signature, with its claims
+ * only, by a verifier whose signature verifier returns the already decoded token, and in batches of 1000 tokens with
+ * {@link IdTokenVerifier#verifyAll(java.util.Collection)}.
+ * <p>
+ * Run with {@code -prof gc} to compare the bytes allocated per verification.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdTokenVerifierBenchmark {
+
+    private static final String ISSUER = "https://benchmark.auth0.com/";
+    private static final String AUDIENCE = "benchmark-client-id";
+    private static final String SECRET = "benchmark-secret";
+
+    private String token;
+    private IdTokenVerifier verifier;
+    private IdTokenVerifier claimsVerifier;
+    private List<String> batch;
+
+    @Setup
+    public void setUp() {
+        long now = System.currentTimeMillis();
+        token = JWT.create()
+                .withIssuer(ISSUER)
+                .withSubject("auth0|benchmark")
+                .withAudience(AUDIENCE)
+                .withIssuedAt(new Date(now))
+                .withExpiresAt(new Date(now + TimeUnit.HOURS.toMillis(10)))
+                .withClaim("nonce", "benchmark-nonce")
+                .withClaim("auth_time", new Date(now))
+                .sign(Algorithm.HMAC256(SECRET));
+
+        verifier = IdTokenVerifier.init(ISSUER, AUDIENCE, SignatureVerifier.forHS256(SECRET)).build();
+        DecodedJWT decoded = JWT.decode(token);
+        claimsVerifier = IdTokenVerifier.init(ISSUER, AUDIENCE, new DecodedSignatureVerifier(decoded)).build();
+
+        batch = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            batch.add(token);
+        }
+    }
+
+    @Benchmark
+    public void verify() {
+        verifier.verify(token, "benchmark-nonce", 3600);
+    }
+
+    @Benchmark
+    public void verifyClaims() {
+        claimsVerifier.verify(token, "benchmark-nonce", 3600);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(1000)
+    public Map<String, IdTokenValidationException> verifyAll() {
+        return verifier.verifyAll(batch);
+    }
+
+    /**
+     * Returns the token decoded beforehand, so that only the verification of the claims is measured.
+     */
+    private static final class DecodedSignatureVerifier extends SignatureVerifier {
+
+        private final DecodedJWT decoded;
+
+        DecodedSignatureVerifier(DecodedJWT decoded) {
+            super(Algorithm.none());
+            this.decoded = decoded;
+        }
+
+        @Override
+        DecodedJWT verifySignature(String token) {
+            return decoded;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.auth0.client;
+
+/**
+ * Receives the state transitions of the circuit breakers of an API client, for example to log them or to report
+ * them as metrics.
+ * <p>
+ * The method is called on the thread executing the request that caused the transition, so implementations must be
+ * thread-safe, should return quickly and must not throw.
+ *
+ * @see CircuitBreakerOptions#setListener(CircuitBreakerListener)
+ */
+public interface CircuitBreakerListener {
+
+    /**
+     * Called when the circuit breaker of an endpoint family changes state.
+     *
+     * @param endpointFamily the endpoint family, for example {@code users} or {@code jobs}.
+     * @param from           the previous state.
+     * @param to             the new state.
+     */
+    void onStateChange(String endpointFamily, CircuitBreakerState from, CircuitBreakerState to);
+}
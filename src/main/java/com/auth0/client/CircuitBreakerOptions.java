@@ -0,0 +1,75 @@
+package com.auth0.client;
+
+/**
+ * Used to configure the circuit breakers of the Management API client.
+ * <p>
+ * Each endpoint family, which is the first path segment after {@code /api/v2/} (for example {@code users} or
+ * {@code jobs}), has its own circuit breaker, so that a partial outage of one family does not affect the others.
+ * A circuit opens after a number of consecutive failures, which are 5xx responses and requests that failed without
+ * a response, such as timeouts. While open, requests to the family fail fast with a
+ * {@link com.auth0.exception.CircuitBreakerOpenException} instead of being sent. Once the cooldown elapses, a single
+ * probe request is sent: the circuit closes if it succeeds, and opens again for another cooldown otherwise.
+ * Rate-limited (429) and other 4xx responses are not failures.
+ *
+ * @see HttpOptions#setCircuitBreakerOptions(CircuitBreakerOptions)
+ */
+public class CircuitBreakerOptions {
+
+    private int failureThreshold = 5;
+    private int cooldown = 30;
+    private CircuitBreakerListener listener;
+
+    /**
+     * Sets the number of consecutive failures that open the circuit of an endpoint family. Defaults to five.
+     *
+     * @param failureThreshold the number of consecutive failures. Must be one or greater.
+     */
+    public void setFailureThreshold(int failureThreshold) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be one or greater.");
+        }
+        this.failureThreshold = failureThreshold;
+    }
+
+    /**
+     * @return the number of consecutive failures that open the circuit of an endpoint family.
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Sets how long a circuit stays open before a probe request is sent. Defaults to thirty seconds.
+     *
+     * @param cooldown the time to stay open, in seconds. Must be one or greater.
+     */
+    public void setCooldown(int cooldown) {
+        if (cooldown < 1) {
+            throw new IllegalArgumentException("cooldown must be one or greater.");
+        }
+        this.cooldown = cooldown;
+    }
+
+    /**
+     * @return how long a circuit stays open before a probe request is sent, in seconds.
+     */
+    public int getCooldown() {
+        return cooldown;
+    }
+
+    /**
+     * Sets the listener to notify of the state transitions of the circuits.
+     *
+     * @param listener the listener to notify, or null.
+     */
+    public void setListener(CircuitBreakerListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * @return the listener notified of the state transitions of the circuits, or null.
+     */
+    public CircuitBreakerListener getListener() {
+        return listener;
+    }
+}
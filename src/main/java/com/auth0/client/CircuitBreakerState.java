@@ -0,0 +1,25 @@
+package com.auth0.client;
+
+/**
+ * The state of the circuit breaker of an endpoint family.
+ *
+ * @see CircuitBreakerOptions
+ */
+public enum CircuitBreakerState {
+
+    /**
+     * Requests are sent, and consecutive failures are counted.
+     */
+    CLOSED,
+
+    /**
+     * Requests fail fast with a {@link com.auth0.exception.CircuitBreakerOpenException}, until the cooldown elapses.
+     */
+    OPEN,
+
+    /**
+     * The cooldown elapsed and a single probe request is sent. The circuit closes if it succeeds, and opens again
+     * otherwise. Other requests fail fast in the meantime.
+     */
+    HALF_OPEN
+}
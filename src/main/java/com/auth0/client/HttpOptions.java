@@ -1,5 +1,12 @@
 package com.auth0.client;
 
+import com.auth0.net.VirtualThreads;
+import com.auth0.net.metrics.MetricsRecorder;
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+
 /**
  * Used to configure additional configuration options when customizing the API client instance.
  */
@@ -11,7 +18,25 @@ public class HttpOptions {
     private int mgmtApiMaxRetries = 3;
     private int maxRequests = 64;
     private int maxRequestsPerHost = 5;
+    private int maxIdleConnections = 5;
+    private int keepAliveDuration = 300;
+    private boolean http2Enabled = true;
     private LoggingOptions loggingOptions;
+    private boolean rateLimitPacingEnabled = false;
+    private int rateLimitPacingMaxWait = 10;
+    private boolean requestCoalescingEnabled = false;
+    private boolean adaptiveConcurrencyEnabled = false;
+    private boolean requestCompressionEnabled = false;
+    private int requestCompressionThreshold = 1024;
+    private boolean tokenCacheEnabled = false;
+    private CircuitBreakerOptions circuitBreakerOptions;
+    private ResponseCacheOptions responseCacheOptions;
+    private ExecutorService dispatcherExecutor;
+    private Executor decodingExecutor;
+    private boolean virtualThreadsEnabled = false;
+    private MetricsRecorder metricsRecorder;
+    private int maxQueuedRequests = 0;
+    private QueueOverflowPolicy queueOverflowPolicy = QueueOverflowPolicy.REJECT;
 
     /**
      * Getter for the Proxy configuration options
@@ -149,4 +174,365 @@ public class HttpOptions {
     public int getMaxRequests() {
         return this.maxRequests;
     }
+
+    /**
+     * Sets the maximum number of idle connections to keep in the connection pool. Defaults to five.
+     *
+     * @param maxIdleConnections the maximum number of idle connections to keep. Must be zero or greater.
+     */
+    public void setMaxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections < 0) {
+            throw new IllegalArgumentException("maxIdleConnections must be zero or greater.");
+        }
+        this.maxIdleConnections = maxIdleConnections;
+    }
+
+    /**
+     * @return the maximum number of idle connections to keep in the connection pool.
+     */
+    public int getMaxIdleConnections() {
+        return maxIdleConnections;
+    }
+
+    /**
+     * Sets how long an idle connection is kept in the connection pool before being closed, in seconds. Defaults to
+     * five minutes.
+     *
+     * @param keepAliveDuration the time to keep idle connections, in seconds. Must be one or greater.
+     */
+    public void setKeepAliveDuration(int keepAliveDuration) {
+        if (keepAliveDuration < 1) {
+            throw new IllegalArgumentException("keepAliveDuration must be one or greater.");
+        }
+        this.keepAliveDuration = keepAliveDuration;
+    }
+
+    /**
+     * @return the time to keep idle connections in the connection pool, in seconds.
+     */
+    public int getKeepAliveDuration() {
+        return keepAliveDuration;
+    }
+
+    /**
+     * Sets whether HTTP/2 may be negotiated with the server. When enabled, which is the default, HTTP/2 is preferred
+     * and concurrent requests share a connection; when disabled, only HTTP/1.1 is used and each concurrent request
+     * uses its own connection.
+     *
+     * @param http2Enabled whether to allow HTTP/2.
+     */
+    public void setHttp2Enabled(boolean http2Enabled) {
+        this.http2Enabled = http2Enabled;
+    }
+
+    /**
+     * @return whether HTTP/2 may be negotiated with the server.
+     */
+    public boolean isHttp2Enabled() {
+        return http2Enabled;
+    }
+
+    /**
+     * Enables pacing of outgoing requests according to the rate-limit budget reported by the server in the
+     * {@code X-RateLimit-*} response headers. The budget is tracked for each endpoint family (e.g. users, logs, jobs),
+     * and requests are delayed as it runs low instead of being rejected with a rate-limit error. Disabled by default.
+     *
+     * @param enabled whether to pace requests according to the rate-limit budget.
+     * @see #setRateLimitPacingMaxWait(int)
+     */
+    public void setRateLimitPacingEnabled(boolean enabled) {
+        this.rateLimitPacingEnabled = enabled;
+    }
+
+    /**
+     * @return whether requests are paced according to the rate-limit budget reported by the server.
+     */
+    public boolean isRateLimitPacingEnabled() {
+        return rateLimitPacingEnabled;
+    }
+
+    /**
+     * Sets the maximum time a request can be delayed when rate-limit pacing is enabled, in seconds. Defaults to ten
+     * seconds. Requests that would need to wait longer are sent anyway.
+     *
+     * @param maxWait the maximum time to delay a request, in seconds. Must be zero or greater.
+     */
+    public void setRateLimitPacingMaxWait(int maxWait) {
+        if (maxWait < 0) {
+            throw new IllegalArgumentException("maxWait must be zero or greater.");
+        }
+        this.rateLimitPacingMaxWait = maxWait;
+    }
+
+    /**
+     * @return the maximum time a request can be delayed when rate-limit pacing is enabled, in seconds.
+     */
+    public int getRateLimitPacingMaxWait() {
+        return rateLimitPacingMaxWait;
+    }
+
+    /**
+     * Enables coalescing of identical GET requests executed concurrently. When a GET request is executed while
+     * another one with the same URL and credentials is in flight, it waits for that request and receives a copy of
+     * its response instead of being sent over the network. Disabled by default.
+     *
+     * @param enabled whether to coalesce identical concurrent GET requests.
+     */
+    public void setRequestCoalescingEnabled(boolean enabled) {
+        this.requestCoalescingEnabled = enabled;
+    }
+
+    /**
+     * @return whether identical concurrent GET requests are coalesced.
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return requestCoalescingEnabled;
+    }
+
+    /**
+     * Enables the gzip compression of JSON request bodies of at least {@link #setRequestCompressionThreshold(int)}
+     * bytes. Compressed bodies are sent with a {@code Content-Encoding: gzip} header; an endpoint that rejects them
+     * with a {@code 415 Unsupported Media Type} response, or with a {@code 400 Bad Request} response that an
+     * uncompressed body does not get, is sent uncompressed bodies from then on. Disabled by default.
+     * <p>
+     * When a metrics recorder is set, the sizes of the bodies before and after compression are reported to it.
+     *
+     * @param enabled whether to compress large request bodies.
+     */
+    public void setRequestCompressionEnabled(boolean enabled) {
+        this.requestCompressionEnabled = enabled;
+    }
+
+    /**
+     * @return whether large request bodies are compressed.
+     */
+    public boolean isRequestCompressionEnabled() {
+        return requestCompressionEnabled;
+    }
+
+    /**
+     * Sets the size from which request bodies are compressed, when compression is enabled. Defaults to 1024 bytes,
+     * below which compression saves too little to be worth it.
+     *
+     * @param threshold the size from which request bodies are compressed, in bytes. Must be zero or greater.
+     */
+    public void setRequestCompressionThreshold(int threshold) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must be zero or greater.");
+        }
+        this.requestCompressionThreshold = threshold;
+    }
+
+    /**
+     * @return the size from which request bodies are compressed, in bytes.
+     */
+    public int getRequestCompressionThreshold() {
+        return requestCompressionThreshold;
+    }
+
+    /**
+     * Enables the token cache of the Authentication API client. Tokens obtained with
+     * {@link com.auth0.client.auth.AuthAPI#requestToken(String)} are then returned from the cache, for the same
+     * audience, scope and other parameters, until they are about to expire. They are renewed in the background
+     * shortly before that, and a single request for a token is made at a time however many threads need it.
+     * Disabled by default.
+     * <p>
+     * A rejected token can be removed from the cache with
+     * {@link com.auth0.client.auth.AuthAPI#invalidateCachedToken(String)}, which the
+     * {@link com.auth0.client.mgmt.ClientCredentialsTokenProvider} does when the Management API rejects its token.
+     * When a metrics recorder is set, the cache hits and misses are reported to it.
+     *
+     * @param enabled whether to cache the tokens obtained with the client credentials grant.
+     */
+    public void setTokenCacheEnabled(boolean enabled) {
+        this.tokenCacheEnabled = enabled;
+    }
+
+    /**
+     * @return whether the tokens obtained with the client credentials grant are cached.
+     */
+    public boolean isTokenCacheEnabled() {
+        return tokenCacheEnabled;
+    }
+
+    /**
+     * Enables the circuit breakers of the Management API client, which fail requests fast while an endpoint family
+     * keeps failing with server errors or timeouts, instead of sending them and waiting for them to fail too.
+     * Disabled by default.
+     *
+     * @param circuitBreakerOptions the circuit breaker configuration, or null to disable the circuit breakers.
+     */
+    public void setCircuitBreakerOptions(CircuitBreakerOptions circuitBreakerOptions) {
+        this.circuitBreakerOptions = circuitBreakerOptions;
+    }
+
+    /**
+     * @return the circuit breaker configuration, or null if the circuit breakers are disabled.
+     */
+    public CircuitBreakerOptions getCircuitBreakerOptions() {
+        return circuitBreakerOptions;
+    }
+
+    /**
+     * Enables the adaptive concurrency limit. Instead of the fixed {@link #setMaxRequestsPerHost(int)} limit, the
+     * number of requests in flight starts at that value and then grows while the latency of the responses stays flat,
+     * up to {@link #setMaxRequests(int)}, and shrinks when the latency inflates or requests are rate-limited.
+     * This applies to both synchronous and asynchronous requests. Disabled by default.
+     * <p>
+     * When a client is created with a shared {@link HttpTransport}, the adaptive limit must also be enabled in the
+     * options the transport was created with, so that its dispatcher does not cap it at the fixed limit.
+     *
+     * @param enabled whether to adapt the number of requests in flight to the server's responses.
+     * @see com.auth0.net.AdaptiveConcurrencyLimiter
+     */
+    public void setAdaptiveConcurrencyEnabled(boolean enabled) {
+        this.adaptiveConcurrencyEnabled = enabled;
+    }
+
+    /**
+     * @return whether the number of requests in flight adapts to the server's responses.
+     */
+    public boolean isAdaptiveConcurrencyEnabled() {
+        return adaptiveConcurrencyEnabled;
+    }
+
+    /**
+     * Enables the HTTP response cache. Responses are cached according to the caching headers the server sends with
+     * them, and stale responses that carry an {@code ETag} or {@code Last-Modified} header are revalidated with a
+     * conditional request, so that unchanged bodies are not transferred again. The {@code AuthAPI} client does not cache
+     * the responses to requests sent with an access token, such as the user info, as they depend on the token. The
+     * {@code ManagementAPI} client only returns or revalidates a cached response for requests sent with the same token
+     * as the one it was cached for, and records a digest of the token rather than the token itself. Disabled by default.
+     *
+     * @param responseCacheOptions the response cache configuration, or null to disable the cache.
+     */
+    public void setResponseCacheOptions(ResponseCacheOptions responseCacheOptions) {
+        this.responseCacheOptions = responseCacheOptions;
+    }
+
+    /**
+     * @return the response cache configuration, or null if the cache is disabled.
+     */
+    public ResponseCacheOptions getResponseCacheOptions() {
+        return responseCacheOptions;
+    }
+
+    /**
+     * Sets the executor on which asynchronous requests are executed. By default, each client creates its own pool of
+     * threads. The executor is not shut down by the client. The number of requests executed at once is still limited
+     * by {@link #setMaxRequests(int)} and {@link #setMaxRequestsPerHost(int)}.
+     *
+     * @param dispatcherExecutor the executor to execute asynchronous requests on, or null to use the default one.
+     */
+    public void setDispatcherExecutor(ExecutorService dispatcherExecutor) {
+        this.dispatcherExecutor = dispatcherExecutor;
+    }
+
+    /**
+     * @return the executor asynchronous requests are executed on, or null if the default one is used.
+     */
+    public ExecutorService getDispatcherExecutor() {
+        return dispatcherExecutor;
+    }
+
+    /**
+     * Sets the executor on which the responses of asynchronous requests are deserialized and their futures completed,
+     * so that parsing large responses does not hold up the threads executing requests. By default, responses are
+     * deserialized on the thread that received them. The executor is not shut down by the client.
+     *
+     * @param decodingExecutor the executor to deserialize responses on, or null to use the receiving thread.
+     */
+    public void setDecodingExecutor(Executor decodingExecutor) {
+        this.decodingExecutor = decodingExecutor;
+    }
+
+    /**
+     * @return the executor the responses of asynchronous requests are deserialized on, or null if they are
+     * deserialized on the thread that received them.
+     */
+    public Executor getDecodingExecutor() {
+        return decodingExecutor;
+    }
+
+    /**
+     * Executes asynchronous requests on virtual threads instead of a pool of platform threads, unless an executor was
+     * set with {@link #setDispatcherExecutor(ExecutorService)}. Requires Java 21 or later. Disabled by default.
+     * <p>
+     * Synchronous requests always run on the calling thread, so calling {@link com.auth0.net.Request#execute()} from
+     * virtual threads is enough for them to scale with the number of concurrent callers.
+     *
+     * @param enabled whether to execute asynchronous requests on virtual threads.
+     * @throws IllegalStateException if enabling them on a runtime that does not support virtual threads.
+     */
+    public void setVirtualThreadsEnabled(boolean enabled) {
+        if (enabled && !VirtualThreads.isAvailable()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later.");
+        }
+        this.virtualThreadsEnabled = enabled;
+    }
+
+    /**
+     * @return whether asynchronous requests are executed on virtual threads.
+     */
+    public boolean isVirtualThreadsEnabled() {
+        return virtualThreadsEnabled;
+    }
+
+    /**
+     * Sets the recorder to report request metrics to: latency and status code by endpoint, rate-limit retries,
+     * bytes transferred, and the number of queued and running calls. Disabled by default.
+     *
+     * @param metricsRecorder the recorder to report metrics to, or null to disable metrics.
+     * @see com.auth0.net.metrics.InMemoryMetricsRecorder
+     */
+    public void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * @return the recorder request metrics are reported to, or null if metrics are disabled.
+     */
+    public MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Sets the maximum number of asynchronous requests that can wait for one of the {@link #setMaxRequests(int)}
+     * slots at once. Once the queue is full, further calls to {@link com.auth0.net.Request#executeAsync()} are handled
+     * according to the {@link #setQueueOverflowPolicy(QueueOverflowPolicy) overflow policy}, which keeps memory bounded
+     * when requests are submitted faster than they complete. Defaults to zero, for an unbounded queue.
+     *
+     * @param maxQueuedRequests the maximum number of queued requests, or zero for no limit. Must be zero or greater.
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("maxQueuedRequests must be zero or greater.");
+        }
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * @return the maximum number of queued asynchronous requests, or zero if the queue is unbounded.
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Sets what to do with the asynchronous requests submitted while the request queue is full. Defaults to
+     * {@link QueueOverflowPolicy#REJECT}. Has no effect unless {@link #setMaxQueuedRequests(int)} is set.
+     *
+     * @param queueOverflowPolicy the policy to apply. Must not be null.
+     */
+    public void setQueueOverflowPolicy(QueueOverflowPolicy queueOverflowPolicy) {
+        Asserts.assertNotNull(queueOverflowPolicy, "queue overflow policy");
+        this.queueOverflowPolicy = queueOverflowPolicy;
+    }
+
+    /**
+     * @return what is done with the asynchronous requests submitted while the request queue is full.
+     */
+    public QueueOverflowPolicy getQueueOverflowPolicy() {
+        return queueOverflowPolicy;
+    }
 }
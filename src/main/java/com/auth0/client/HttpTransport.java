@@ -0,0 +1,100 @@
+package com.auth0.client;
+
+import com.auth0.net.JsonCodec;
+import com.auth0.net.VirtualThreads;
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The networking resources that API clients use to execute requests: the connection pool, the dispatcher and its
+ * threads, and the JSON codec.
+ * <p>
+ * By default, each {@link com.auth0.client.mgmt.ManagementAPI} and {@link com.auth0.client.auth.AuthAPI} instance
+ * creates its own transport. An application that manages many tenants can instead create a single transport and
+ * pass it to every client, so that they all share the same connections, threads and JSON serializer caches. Each
+ * client keeps its own credentials, telemetry, logging, proxy, timeouts, retries, pacing, coalescing and response
+ * cache, as configured by the {@link HttpOptions} it is given.
+ * <p>
+ * The settings read from the {@link HttpOptions} used to create the transport are the ones that configure the
+ * shared resources: {@link HttpOptions#setMaxRequests(int)}, {@link HttpOptions#setMaxRequestsPerHost(int)},
+ * {@link HttpOptions#setDispatcherExecutor(java.util.concurrent.ExecutorService)},
+ * {@link HttpOptions#setVirtualThreadsEnabled(boolean)}, {@link HttpOptions#setMaxIdleConnections(int)},
+ * {@link HttpOptions#setAdaptiveConcurrencyEnabled(boolean)} (to lift the per-host limit of the dispatcher),
+ * {@link HttpOptions#setKeepAliveDuration(int)} and
+ * {@link HttpOptions#setDecodingExecutor(java.util.concurrent.Executor)}. The same settings are ignored in the
+ * options given to a client created with a shared transport. Note that the request limits then apply to all the
+ * clients together.
+ * <p>
+ * This class is thread-safe.
+ */
+public class HttpTransport {
+
+    private final OkHttpClient baseClient;
+    private final JsonCodec codec;
+
+    /**
+     * Creates a new transport with the default configuration.
+     */
+    public HttpTransport() {
+        this(new HttpOptions());
+    }
+
+    /**
+     * Creates a new transport whose resources are configured by the given options.
+     *
+     * @param options the options to configure the shared resources with.
+     */
+    public HttpTransport(HttpOptions options) {
+        Asserts.assertNotNull(options, "options");
+        Dispatcher dispatcher;
+        if (options.getDispatcherExecutor() != null) {
+            dispatcher = new Dispatcher(options.getDispatcherExecutor());
+        } else if (options.isVirtualThreadsEnabled()) {
+            dispatcher = new Dispatcher(VirtualThreads.newExecutor("auth0-dispatcher-"));
+        } else {
+            dispatcher = new Dispatcher();
+        }
+        dispatcher.setMaxRequests(options.getMaxRequests());
+        // the adaptive limit takes over from the fixed one
+        dispatcher.setMaxRequestsPerHost(options.isAdaptiveConcurrencyEnabled() ? options.getMaxRequests() : options.getMaxRequestsPerHost());
+        this.baseClient = new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .connectionPool(new ConnectionPool(options.getMaxIdleConnections(), options.getKeepAliveDuration(), TimeUnit.SECONDS))
+                .build();
+        this.codec = new JsonCodec(new ObjectMapper(), options.getDecodingExecutor());
+    }
+
+    /**
+     * Creates a builder for a networking client that shares the connection pool and dispatcher of this transport.
+     * <p>
+     * <strong>Note: This method is not intended for general use, and may change at any time.</strong>
+     *
+     * @return a new builder for a networking client backed by this transport.
+     */
+    public OkHttpClient.Builder newClientBuilder() {
+        return baseClient.newBuilder();
+    }
+
+    /**
+     * <strong>Note: This method is not intended for general use, and may change at any time.</strong>
+     *
+     * @return the dispatcher shared by the clients of this transport.
+     */
+    public Dispatcher getDispatcher() {
+        return baseClient.dispatcher();
+    }
+
+    /**
+     * <strong>Note: This method is not intended for general use, and may change at any time.</strong>
+     *
+     * @return the JSON codec shared by the clients of this transport.
+     */
+    public JsonCodec getCodec() {
+        return codec;
+    }
+}
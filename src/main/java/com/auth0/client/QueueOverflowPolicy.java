@@ -0,0 +1,28 @@
+package com.auth0.client;
+
+/**
+ * What to do with an asynchronous request submitted while the request queue is full.
+ *
+ * @see HttpOptions#setMaxQueuedRequests(int)
+ */
+public enum QueueOverflowPolicy {
+
+    /**
+     * Fail the request. Its future completes exceptionally with an {@link com.auth0.exception.Auth0Exception}
+     * caused by a {@link java.util.concurrent.RejectedExecutionException}, without the request being sent.
+     */
+    REJECT,
+
+    /**
+     * Block the thread calling {@link com.auth0.net.Request#executeAsync()} until the queue has room for the request.
+     * The request is not created until then. Should not be used from the callbacks of other asynchronous requests,
+     * as blocking the threads that complete them can prevent the queue from ever draining.
+     */
+    BLOCK,
+
+    /**
+     * Execute the request synchronously on the thread calling {@link com.auth0.net.Request#executeAsync()}, which
+     * returns an already completed future. This slows callers down to the rate at which requests complete.
+     */
+    CALLER_RUNS
+}
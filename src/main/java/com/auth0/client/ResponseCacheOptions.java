@@ -0,0 +1,54 @@
+package com.auth0.client;
+
+import com.auth0.utils.Asserts;
+
+import java.io.File;
+
+/**
+ * Used to configure the HTTP response cache. Responses are cached on disk, in the given directory, according to the
+ * standard HTTP caching headers the server sends with them. A cached response that carries an {@code ETag} or a
+ * {@code Last-Modified} header is revalidated with a conditional request once it is stale, and when the server
+ * answers that it has not been modified the cached body is used instead of being transferred again.
+ * <p>
+ * Cached responses may contain sensitive information, so the directory should only be readable by the application.
+ * Each client must be given its own directory, and it must not be shared between clients that use different
+ * credentials.
+ */
+public class ResponseCacheOptions {
+
+    private final File directory;
+    private final long maxSize;
+
+    /**
+     * Builds a new instance that caches responses in the given directory.
+     *
+     * @param directory the directory to store the cached responses in. It is created if it does not exist.
+     * @param maxSize   the maximum size of the cache, in bytes. Must be greater than zero.
+     */
+    public ResponseCacheOptions(File directory, long maxSize) {
+        Asserts.assertNotNull(directory, "directory");
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be greater than zero.");
+        }
+        this.directory = directory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Getter of the directory the cached responses are stored in.
+     *
+     * @return the directory the cached responses are stored in.
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Getter of the maximum size of the cache.
+     *
+     * @return the maximum size of the cache, in bytes.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+}
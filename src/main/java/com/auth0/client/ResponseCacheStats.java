@@ -0,0 +1,60 @@
+package com.auth0.client;
+
+/**
+ * A snapshot of the statistics of the HTTP response cache of a client.
+ *
+ * @see HttpOptions#setResponseCacheOptions(ResponseCacheOptions)
+ */
+public class ResponseCacheStats {
+
+    private final long requestCount;
+    private final long hitCount;
+    private final long networkCount;
+
+    /**
+     * Builds a new snapshot.
+     *
+     * @param requestCount the number of requests made through the cache.
+     * @param hitCount     the number of responses provided by the cache, including the ones revalidated with the server.
+     * @param networkCount the number of requests sent over the network, including the revalidations.
+     */
+    public ResponseCacheStats(long requestCount, long hitCount, long networkCount) {
+        this.requestCount = requestCount;
+        this.hitCount = hitCount;
+        this.networkCount = networkCount;
+    }
+
+    /**
+     * @return the number of requests made through the cache.
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * @return the number of responses provided by the cache, including the ones revalidated with the server.
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * @return the number of requests that could not be served from the cache and received a full response.
+     */
+    public long getMissCount() {
+        return requestCount - hitCount;
+    }
+
+    /**
+     * @return the number of requests sent over the network, including the revalidations of cached responses.
+     */
+    public long getNetworkCount() {
+        return networkCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStats{requests=" + requestCount + ", hits=" + hitCount + ", misses=" + getMissCount()
+                + ", network=" + networkCount + "}";
+    }
+}
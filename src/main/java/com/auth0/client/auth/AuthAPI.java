@@ -1,13 +1,19 @@
 package com.auth0.client.auth;
 
 import com.auth0.client.HttpOptions;
+import com.auth0.client.HttpTransport;
 import com.auth0.client.LoggingOptions;
 import com.auth0.client.ProxyOptions;
+import com.auth0.client.ResponseCacheOptions;
+import com.auth0.client.ResponseCacheStats;
 import com.auth0.json.auth.PasswordlessEmailResponse;
 import com.auth0.json.auth.PasswordlessSmsResponse;
 import com.auth0.json.auth.UserInfo;
 import com.auth0.net.Request;
 import com.auth0.net.*;
+import com.auth0.net.metrics.MetricsEventListener;
+import com.auth0.net.metrics.MetricsInterceptor;
+import com.auth0.net.metrics.MetricsRecorder;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.*;
@@ -15,6 +21,8 @@ import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -50,11 +58,13 @@ public class AuthAPI {
     private static final String PATH_START = "start";
 
     private final OkHttpClient client;
+    private final JsonCodec codec;
     private final String clientId;
     private final String clientSecret;
     private final HttpUrl baseUrl;
     private final TelemetryInterceptor telemetry;
     private final HttpLoggingInterceptor logging;
+    private final TokenCache tokenCache;
 
     /**
      * Create a new instance with the given tenant's domain, application's client id and client secret.
@@ -68,10 +78,28 @@ public class AuthAPI {
      * @see #AuthAPI(String, String, String)
      */
     public AuthAPI(String domain, String clientId, String clientSecret, HttpOptions options) {
+        this(domain, clientId, clientSecret, options, options == null ? null : new HttpTransport(options));
+    }
+
+    /**
+     * Create a new instance with the given tenant's domain, application's client id and client secret, which
+     * executes its requests on the given transport. Use this constructor to share connections and threads among
+     * many client instances.
+     * In addition, accepts an {@link HttpOptions} that will be used to configure this client instance; the settings
+     * of the shared resources are taken from the transport instead. See {@link HttpTransport}.
+     *
+     * @param domain       tenant's domain.
+     * @param clientId     the application's client id.
+     * @param clientSecret the application's client secret.
+     * @param options      configuration options for this client instance.
+     * @param transport    the transport to execute the requests on.
+     */
+    public AuthAPI(String domain, String clientId, String clientSecret, HttpOptions options, HttpTransport transport) {
         Asserts.assertNotNull(domain, "domain");
         Asserts.assertNotNull(clientId, "client id");
         Asserts.assertNotNull(clientSecret, "client secret");
         Asserts.assertNotNull(options, "client options");
+        Asserts.assertNotNull(transport, "transport");
 
         this.baseUrl = createBaseUrl(domain);
         if (baseUrl == null) {
@@ -82,7 +110,9 @@ public class AuthAPI {
 
         telemetry = new TelemetryInterceptor();
         logging = new HttpLoggingInterceptor();
-        client = buildNetworkingClient(options);
+        client = buildNetworkingClient(options, transport);
+        codec = transport.getCodec();
+        tokenCache = options.isTokenCacheEnabled() ? new TokenCache(options.getMetricsRecorder()) : null;
     }
 
     /**
@@ -101,11 +131,12 @@ public class AuthAPI {
      * Given a set of options, it creates a new instance of the {@link OkHttpClient}
      * configuring them according to their availability.
      *
-     * @param options the options to set to the client.
+     * @param options   the options to set to the client.
+     * @param transport the transport whose connection pool and dispatcher the client uses.
      * @return a new networking client instance configured as requested.
      */
-    private OkHttpClient buildNetworkingClient(HttpOptions options) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+    private OkHttpClient buildNetworkingClient(HttpOptions options, HttpTransport transport) {
+        OkHttpClient.Builder clientBuilder = transport.newClientBuilder();
         final ProxyOptions proxyOptions = options.getProxyOptions();
         if (proxyOptions != null) {
             //Set proxy
@@ -130,18 +161,73 @@ public class AuthAPI {
             }
         }
         configureLogging(options.getLoggingOptions());
-        Dispatcher dispatcher = new Dispatcher();
-        dispatcher.setMaxRequests(options.getMaxRequests());
-        dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
-        return clientBuilder
+        final MetricsRecorder metricsRecorder = options.getMetricsRecorder();
+        if (options.getMaxQueuedRequests() > 0) {
+            // added first so that requests leave the queue as soon as the dispatcher starts them
+            clientBuilder.addInterceptor(new RequestQueueInterceptor(options.getMaxQueuedRequests(), options.getQueueOverflowPolicy(), metricsRecorder));
+        }
+        clientBuilder
                 .addInterceptor(logging)
-                .addInterceptor(telemetry)
+                .addInterceptor(telemetry);
+        if (metricsRecorder != null) {
+            clientBuilder
+                    .addInterceptor(new MetricsInterceptor(metricsRecorder))
+                    .eventListenerFactory(new MetricsEventListener.Factory(metricsRecorder, transport.getDispatcher()));
+        }
+        if (options.isRequestCompressionEnabled()) {
+            clientBuilder.addInterceptor(new RequestCompressionInterceptor(options.getRequestCompressionThreshold(), metricsRecorder));
+        }
+        if (options.isRequestCoalescingEnabled()) {
+            clientBuilder.addInterceptor(new RequestCoalescingInterceptor());
+        }
+        if (options.isRateLimitPacingEnabled()) {
+            clientBuilder.addInterceptor(new RateLimitGovernor(TimeUnit.SECONDS.toMillis(options.getRateLimitPacingMaxWait())));
+        }
+        if (options.isAdaptiveConcurrencyEnabled()) {
+            clientBuilder.addInterceptor(new AdaptiveConcurrencyLimiter(options.getMaxRequestsPerHost(), options.getMaxRequests()));
+        }
+        if (!options.isHttp2Enabled()) {
+            clientBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        final ResponseCacheOptions cacheOptions = options.getResponseCacheOptions();
+        if (cacheOptions != null) {
+            clientBuilder.cache(new Cache(cacheOptions.getDirectory(), cacheOptions.getMaxSize()));
+            // responses such as the user info depend on the access token, which is not part of the cache key
+            clientBuilder.addNetworkInterceptor(new AuthorizedResponseNoStoreInterceptor());
+        }
+        return clientBuilder
                 .connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS)
                 .readTimeout(options.getReadTimeout(), TimeUnit.SECONDS)
-                .dispatcher(dispatcher)
                 .build();
     }
 
+    /**
+     * Returns the statistics of the HTTP response cache of this client.
+     *
+     * @return a snapshot of the response cache statistics, or null if the response cache is not enabled.
+     * @see HttpOptions#setResponseCacheOptions(ResponseCacheOptions)
+     */
+    public ResponseCacheStats getResponseCacheStats() {
+        Cache cache = client.cache();
+        if (cache == null) {
+            return null;
+        }
+        return new ResponseCacheStats(cache.requestCount(), cache.hitCount(), cache.networkCount());
+    }
+
+    /**
+     * Opens connections to the tenant domain ahead of traffic, so that the first requests do not pay for DNS
+     * resolution and the TCP and TLS handshakes. The connections stay in the pool subject to
+     * {@link HttpOptions#setMaxIdleConnections(int)} and {@link HttpOptions#setKeepAliveDuration(int)}. When HTTP/2
+     * is negotiated, a single connection is opened as concurrent requests share it.
+     *
+     * @param connections the number of connections to open. Must be one or greater.
+     * @return a future that completes once the connections are open.
+     */
+    public CompletableFuture<Void> warmUp(int connections) {
+        return ConnectionWarmUp.warmUp(client, baseUrl, connections);
+    }
+
     /**
      * Avoid sending Telemetry data in every request to the Auth0 servers.
      */
@@ -288,7 +374,7 @@ public class AuthAPI {
                 .addPathSegment("userinfo")
                 .build()
                 .toString();
-        CustomRequest<UserInfo> request = new CustomRequest<>(client, url, "GET", new TypeReference<UserInfo>() {
+        CustomRequest<UserInfo> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<UserInfo>() {
         });
         request.addHeader("Authorization", "Bearer " + accessToken);
         return request;
@@ -323,7 +409,7 @@ public class AuthAPI {
                 .addPathSegment("change_password")
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_EMAIL, email);
         request.addParameter(KEY_CONNECTION, connection);
@@ -461,7 +547,7 @@ public class AuthAPI {
                 .addPathSegment("signup")
                 .build()
                 .toString();
-        CreateUserRequest request = new CreateUserRequest(client, url);
+        CreateUserRequest request = new CreateUserRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_EMAIL, email);
         request.addParameter(KEY_PASSWORD, password);
@@ -525,7 +611,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "password");
@@ -593,7 +679,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/password-realm");
@@ -639,7 +725,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/passwordless/otp");
@@ -652,6 +738,8 @@ public class AuthAPI {
     /**
      * Creates a request to get a Token for the given audience using the 'Client Credentials' grant.
      * Default used realm is defined in the "API Authorization Settings" in the account's advanced settings in the Auth0 Dashboard.
+     * When the token cache is enabled, the token is returned from the cache if one was already obtained with the same
+     * parameters and is not about to expire. See {@link HttpOptions#setTokenCacheEnabled(boolean)}.
      * <pre>
      * {@code
      * AuthAPI auth = new AuthAPI("me.auth0.com", "B3c6RYhk1v9SbIJcRIOwu62gIUGsnze", "2679NfkaBn62e6w5E8zNEzjr-yWfkaBne");
@@ -677,7 +765,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec, tokenCache);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "client_credentials");
@@ -685,6 +773,20 @@ public class AuthAPI {
         return request;
     }
 
+    /**
+     * Removes the given token from the token cache, so that the next {@link #requestToken(String)} with the same
+     * parameters obtains a new one, for example once the token was rejected. Does nothing if the token cache is not
+     * enabled or the token is not cached. See {@link HttpOptions#setTokenCacheEnabled(boolean)}.
+     *
+     * @param accessToken the access token to remove from the cache.
+     */
+    public void invalidateCachedToken(String accessToken) {
+        Asserts.assertNotNull(accessToken, "access token");
+        if (tokenCache != null) {
+            tokenCache.invalidate(accessToken);
+        }
+    }
+
     /**
      * Creates a request to revoke an existing Refresh Token.
      * <pre>
@@ -711,7 +813,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_REVOKE)
                 .build()
                 .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
+        VoidRequest request = new VoidRequest(client, url, "POST", codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_TOKEN, refreshToken);
@@ -745,7 +847,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "refresh_token");
@@ -782,7 +884,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "authorization_code");
@@ -825,7 +927,7 @@ public class AuthAPI {
                 .build()
                 .toString();
 
-        CustomRequest<PasswordlessEmailResponse> request = new CustomRequest<>(client, url, "POST", new TypeReference<PasswordlessEmailResponse>() {
+        CustomRequest<PasswordlessEmailResponse> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<PasswordlessEmailResponse>() {
         });
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
@@ -867,7 +969,7 @@ public class AuthAPI {
                 .build()
                 .toString();
 
-        CustomRequest<PasswordlessSmsResponse> request = new CustomRequest<>(client, url, "POST", new TypeReference<PasswordlessSmsResponse>() {
+        CustomRequest<PasswordlessSmsResponse> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<PasswordlessSmsResponse>() {
         });
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
@@ -908,7 +1010,7 @@ public class AuthAPI {
                 .addPathSegment(PATH_TOKEN)
                 .build()
                 .toString();
-        TokenRequest request = new TokenRequest(client, url);
+        TokenRequest request = new TokenRequest(client, url, codec);
         request.addParameter(KEY_CLIENT_ID, clientId);
         request.addParameter(KEY_CLIENT_SECRET, clientSecret);
         request.addParameter(KEY_GRANT_TYPE, "http://auth0.com/oauth/grant-type/mfa-otp");
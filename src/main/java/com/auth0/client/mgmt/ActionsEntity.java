@@ -6,6 +6,7 @@ import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.json.mgmt.actions.*;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -35,8 +36,8 @@ public class ActionsEntity extends BaseManagementEntity {
 
     private final static String AUTHORIZATION_HEADER = "Authorization";
 
-    ActionsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ActionsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -55,12 +56,12 @@ public class ActionsEntity extends BaseManagementEntity {
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH);
 
-        String url = builder.build().toString();
+        HttpUrl url = builder.build();
 
-        CustomRequest<Action> request = new CustomRequest<>(client, url, "POST", new TypeReference<Action>() {
+        CustomRequest<Action> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<Action>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(action);
         return request;
     }
@@ -76,18 +77,17 @@ public class ActionsEntity extends BaseManagementEntity {
     public Request<Action> get(String actionId) {
         Asserts.assertNotNull(actionId, "action ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
             .addPathSegment(actionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Action> request = new CustomRequest<>(client, url, "GET", new TypeReference<Action>() {
+        CustomRequest<Action> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Action>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -116,17 +116,16 @@ public class ActionsEntity extends BaseManagementEntity {
     public Request<Void> delete(String actionId, boolean force) {
         Asserts.assertNotNull(actionId, "action ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
             .addPathSegment(actionId)
             .addQueryParameter("force", String.valueOf(force))
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE");
-        voidRequest.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE", codec);
+        voidRequest.addHeader(AUTHORIZATION_HEADER, authorization);
         return voidRequest;
     }
 
@@ -137,17 +136,16 @@ public class ActionsEntity extends BaseManagementEntity {
      * @return a request to execute.
      */
     public Request<Triggers> getTriggers() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(TRIGGERS_PATH)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Triggers> request = new CustomRequest<>(client, url, "GET", new TypeReference<Triggers>() {
+        CustomRequest<Triggers> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Triggers>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -165,19 +163,18 @@ public class ActionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(actionId, "action ID");
         Asserts.assertNotNull(action, "action");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
             .addPathSegment(actionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Action> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<Action>() {
+        CustomRequest<Action> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<Action>() {
         });
 
         request.setBody(action);
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -195,19 +192,18 @@ public class ActionsEntity extends BaseManagementEntity {
     public Request<Version> deploy(String actionId) {
         Asserts.assertNotNull(actionId, "action ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
             .addPathSegment(actionId)
             .addPathSegment(DEPLOY_PATH)
-            .build()
-            .toString();
+            .build();
 
-        EmptyBodyRequest<Version> request = new EmptyBodyRequest<>(client, url, "POST", new TypeReference<Version>() {
+        EmptyBodyRequest<Version> request = new EmptyBodyRequest<>(client, url, "POST", codec, new TypeReference<Version>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -225,20 +221,19 @@ public class ActionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(actionId, "action ID");
         Asserts.assertNotNull(actionVersionId, "action version ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
             .addPathSegment(actionId)
             .addPathSegment(VERSIONS_PATH)
             .addPathSegment(actionVersionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Version> request = new CustomRequest<>(client, url, "GET", new TypeReference<Version>() {
+        CustomRequest<Version> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Version>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -257,7 +252,7 @@ public class ActionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(actionId, "action ID");
         Asserts.assertNotNull(actionVersionId, "action version ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(ACTIONS_PATH)
@@ -265,14 +260,13 @@ public class ActionsEntity extends BaseManagementEntity {
             .addPathSegment(VERSIONS_PATH)
             .addPathSegment(actionVersionId)
             .addPathSegment(DEPLOY_PATH)
-            .build()
-            .toString();
+            .build();
 
         // Needed to successfully call the roll-back endpoint until DXEX-1738 is resolved.
-        EmptyObjectRequest<Version> request = new EmptyObjectRequest<>(client, url, "POST", new TypeReference<Version>() {
+        EmptyObjectRequest<Version> request = new EmptyObjectRequest<>(client, url, "POST", codec, new TypeReference<Version>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -289,18 +283,17 @@ public class ActionsEntity extends BaseManagementEntity {
     public Request<Execution> getExecution(String executionId) {
         Asserts.assertNotNull(executionId, "execution ID");
 
-        String url =  baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(EXECUTIONS_PATH)
             .addPathSegment(executionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Execution> request = new CustomRequest<>(client, url, "GET", new TypeReference<Execution>() {
+        CustomRequest<Execution> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Execution>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -320,11 +313,11 @@ public class ActionsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<ActionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<ActionsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<ActionsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<ActionsPage>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -352,11 +345,11 @@ public class ActionsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<VersionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<VersionsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<VersionsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<VersionsPage>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -385,11 +378,11 @@ public class ActionsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<BindingsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<BindingsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<BindingsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<BindingsPage>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -409,20 +402,19 @@ public class ActionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(triggerId, "trigger ID");
         Asserts.assertNotNull(bindingsUpdateRequest, "request body");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ACTIONS_BASE_PATH)
             .addPathSegment(TRIGGERS_PATH)
             .addPathSegment(triggerId)
             .addPathSegment(BINDINGS_PATH)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<BindingsPage> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<BindingsPage>() {
+        CustomRequest<BindingsPage> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<BindingsPage>() {
         });
 
         request.setBody(bindingsUpdateRequest);
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -434,8 +426,8 @@ public class ActionsEntity extends BaseManagementEntity {
 
     // Temporary request implementation to send an empty json object on the request body.
     private static class EmptyObjectRequest<T> extends EmptyBodyRequest<T> {
-        EmptyObjectRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-            super(client, url, method, tType);
+        EmptyObjectRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec, TypeReference<T> tType) {
+            super(client, url, method, codec, tType);
         }
 
         @Override
@@ -1,5 +1,6 @@
 package com.auth0.client.mgmt;
 
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.fasterxml.jackson.core.type.TypeReference;
 import java.util.function.Consumer;
@@ -10,16 +11,21 @@ abstract class BaseManagementEntity {
     protected final OkHttpClient client;
     protected final HttpUrl baseUrl;
     protected final String apiToken;
+    protected final String authorization;
+    protected final JsonCodec codec;
 
-    BaseManagementEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
+    BaseManagementEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
         this.client = client;
         this.baseUrl = baseUrl;
         this.apiToken = apiToken;
+        // built once, rather than for every request. Without a token, it is set by the TokenProviderInterceptor
+        this.authorization = apiToken == null ? null : "Bearer " + apiToken;
+        this.codec = codec;
     }
 
     protected Request<Void> voidRequest(String method, Consumer<RequestBuilder<Void>> customizer) {
         return customizeRequest(
-            new RequestBuilder<>(client, method, baseUrl, new TypeReference<Void>() {
+            new RequestBuilder<>(client, codec, method, baseUrl, new TypeReference<Void>() {
             }),
             customizer
         );
@@ -27,13 +33,13 @@ abstract class BaseManagementEntity {
 
     protected <T> Request<T> request(String method, TypeReference<T> target, Consumer<RequestBuilder<T>> customizer) {
         return customizeRequest(
-            new RequestBuilder<>(client, method, baseUrl, target),
+            new RequestBuilder<>(client, codec, method, baseUrl, target),
             customizer
         );
     }
 
     private <T> Request<T> customizeRequest(RequestBuilder<T> builder, Consumer<RequestBuilder<T>> customizer) {
-        builder.withHeader("Authorization", "Bearer " + apiToken);
+        builder.withHeader("Authorization", authorization);
         customizer.accept(builder);
         return builder.build();
     }
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.Token;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class BlacklistsEntity extends BaseManagementEntity {
 
-    BlacklistsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    BlacklistsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -35,15 +36,14 @@ public class BlacklistsEntity extends BaseManagementEntity {
     public Request<List<Token>> getBlacklist(String audience) {
         Asserts.assertNotNull(audience, "audience");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/blacklists/tokens")
                 .addQueryParameter("aud", audience)
-                .build()
-                .toString();
-        CustomRequest<List<Token>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Token>>() {
+                .build();
+        CustomRequest<List<Token>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Token>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -57,13 +57,12 @@ public class BlacklistsEntity extends BaseManagementEntity {
     public Request<Void> blacklistToken(Token token) {
         Asserts.assertNotNull(token, "token");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/blacklists/tokens")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "POST");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "POST", codec);
+        request.addHeader("Authorization", authorization);
         request.setBody(token);
         return request;
     }
@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.json.mgmt.branding.BrandingSettings;
 import com.auth0.json.mgmt.branding.UniversalLoginTemplate;
 import com.auth0.json.mgmt.branding.UniversalLoginTemplateUpdate;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -19,8 +20,8 @@ import okhttp3.OkHttpClient;
 @SuppressWarnings("WeakerAccess")
 public class BrandingEntity extends BaseManagementEntity {
 
-    BrandingEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    BrandingEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -0,0 +1,148 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.auth.AuthAPI;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.TokenHolder;
+import com.auth0.utils.Asserts;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link TokenProvider} that obtains Management API tokens with the client credentials grant, using
+ * {@link AuthAPI#requestToken(String)}, and renews them shortly before they expire.
+ * <p>
+ * A single request for a new token is made at a time, however many threads need one: while the current token is
+ * still valid, the other threads keep using it, otherwise they wait for the new one. If renewing a token that is still
+ * valid fails, it keeps being used and the next request tries again.
+ * <p>
+ * This class is thread-safe.
+ */
+public class ClientCredentialsTokenProvider implements TokenProvider {
+
+    /**
+     * How long before their expiration tokens are renewed, at most half of their lifetime.
+     */
+    static final long REFRESH_MARGIN = TimeUnit.SECONDS.toMillis(60);
+
+    private final AuthAPI authAPI;
+    private final String audience;
+    private final LongSupplier clock;
+    private final AtomicReference<Token> token;
+    private final ReentrantLock refreshLock;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param authAPI  the client of the Authentication API to request the tokens with. It must be configured with the
+     *                 credentials of a client authorized to call the Management API.
+     * @param audience the audience of the Management API, e.g. {@code https://{YOUR_DOMAIN}/api/v2/}.
+     */
+    public ClientCredentialsTokenProvider(AuthAPI authAPI, String audience) {
+        this(authAPI, audience, System::currentTimeMillis);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     *
+     * @param authAPI  the client of the Authentication API to request the tokens with.
+     * @param audience the audience of the Management API.
+     * @param clock    the source of the current time, in milliseconds.
+     */
+    ClientCredentialsTokenProvider(AuthAPI authAPI, String audience, LongSupplier clock) {
+        Asserts.assertNotNull(authAPI, "auth api");
+        Asserts.assertNotNull(audience, "audience");
+        this.authAPI = authAPI;
+        this.audience = audience;
+        this.clock = clock;
+        this.token = new AtomicReference<>();
+        this.refreshLock = new ReentrantLock();
+    }
+
+    @Override
+    public String getToken() throws Auth0Exception {
+        Token current = token.get();
+        long now = clock.getAsLong();
+        if (current != null && now < current.refreshAt) {
+            return current.value;
+        }
+        if (current != null && now < current.expiresAt) {
+            // still valid, so it is renewed by a single thread while the others keep using it
+            if (!refreshLock.tryLock()) {
+                return current.value;
+            }
+            try {
+                return refresh(current).value;
+            } catch (Auth0Exception e) {
+                // the next request tries again
+                return current.value;
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+
+        refreshLock.lock();
+        try {
+            return refresh(current).value;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    @Override
+    public void invalidate(String rejected) {
+        if (rejected == null) {
+            return;
+        }
+        // otherwise the next request for a token would return the rejected one, when the token cache is enabled
+        authAPI.invalidateCachedToken(rejected);
+        Token current = token.get();
+        if (current != null && current.value.equals(rejected)) {
+            token.compareAndSet(current, null);
+        }
+    }
+
+    /**
+     * Obtains a new token, unless another thread already did while this one was waiting for the lock. Must be called
+     * while holding the lock.
+     *
+     * @param current the token the calling thread found, or null.
+     * @return the token to use, never null.
+     */
+    private Token refresh(Token current) throws Auth0Exception {
+        // read once, as the token can be invalidated at any time
+        Token latest = token.get();
+        if (latest == null || latest == current) {
+            latest = requestToken();
+            token.set(latest);
+        }
+        return latest;
+    }
+
+    private Token requestToken() throws Auth0Exception {
+        long requestedAt = clock.getAsLong();
+        TokenHolder holder = authAPI.requestToken(audience).execute();
+        if (holder.getAccessToken() == null) {
+            throw new Auth0Exception("The token response did not contain an access token.");
+        }
+        long lifetime = TimeUnit.SECONDS.toMillis(holder.getExpiresIn());
+        // a token returned by the token cache was issued before it was requested, so its lifetime is not counted from
+        // the request, unless the response did not say when the token expires
+        long expiresAt = holder.getExpiresAt() != null ? holder.getExpiresAt().getTime() : requestedAt + lifetime;
+        return new Token(holder.getAccessToken(), expiresAt - Math.min(REFRESH_MARGIN, lifetime / 2), expiresAt);
+    }
+
+    private static final class Token {
+        final String value;
+        final long refreshAt;
+        final long expiresAt;
+
+        Token(String value, long refreshAt, long expiresAt) {
+            this.value = value;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
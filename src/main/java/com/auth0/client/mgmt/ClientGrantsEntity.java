@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.ClientGrantsFilter;
 import com.auth0.json.mgmt.ClientGrant;
 import com.auth0.json.mgmt.ClientGrantsPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -24,8 +25,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class ClientGrantsEntity extends BaseManagementEntity {
 
-    ClientGrantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ClientGrantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -45,10 +46,10 @@ public class ClientGrantsEntity extends BaseManagementEntity {
             }
         }
 
-        String url = builder.build().toString();
-        CustomRequest<ClientGrantsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<ClientGrantsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<ClientGrantsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<ClientGrantsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -62,14 +63,13 @@ public class ClientGrantsEntity extends BaseManagementEntity {
      */
     @Deprecated
     public Request<List<ClientGrant>> list() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/client-grants")
-                .build()
-                .toString();
-        CustomRequest<List<ClientGrant>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<ClientGrant>>() {
+                .build();
+        CustomRequest<List<ClientGrant>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<ClientGrant>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -87,14 +87,13 @@ public class ClientGrantsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(audience, "audience");
         Asserts.assertNotNull(scope, "scope");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/client-grants")
-                .build()
-                .toString();
-        CustomRequest<ClientGrant> request = new CustomRequest<>(client, url, "POST", new TypeReference<ClientGrant>() {
+                .build();
+        CustomRequest<ClientGrant> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<ClientGrant>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.addParameter("client_id", clientId);
         request.addParameter("audience", audience);
         request.addParameter("scope", scope);
@@ -112,14 +111,13 @@ public class ClientGrantsEntity extends BaseManagementEntity {
     public Request<Void> delete(String clientGrantId) {
         Asserts.assertNotNull(clientGrantId, "client grant id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/client-grants")
                 .addPathSegment(clientGrantId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -135,15 +133,14 @@ public class ClientGrantsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(clientGrantId, "client grant id");
         Asserts.assertNotNull(scope, "scope");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/client-grants")
                 .addPathSegment(clientGrantId)
-                .build()
-                .toString();
-        CustomRequest<ClientGrant> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<ClientGrant>() {
+                .build();
+        CustomRequest<ClientGrant> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<ClientGrant>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.addParameter("scope", scope);
         return request;
     }
@@ -6,6 +6,7 @@ import com.auth0.json.mgmt.client.Client;
 import com.auth0.json.mgmt.client.ClientsPage;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -26,8 +27,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class ClientsEntity extends BaseManagementEntity {
 
-    ClientsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ClientsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -40,14 +41,13 @@ public class ClientsEntity extends BaseManagementEntity {
      */
     @Deprecated
     public Request<List<Client>> list() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
-                .build()
-                .toString();
-        CustomRequest<List<Client>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Client>>() {
+                .build();
+        CustomRequest<List<Client>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Client>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -67,10 +67,10 @@ public class ClientsEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<ClientsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<ClientsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<ClientsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<ClientsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -84,15 +84,14 @@ public class ClientsEntity extends BaseManagementEntity {
     public Request<Client> get(String clientId) {
         Asserts.assertNotNull(clientId, "client id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
                 .addPathSegment(clientId)
-                .build()
-                .toString();
-        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", new TypeReference<Client>() {
+                .build();
+        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Client>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -116,10 +115,10 @@ public class ClientsEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", new TypeReference<Client>() {
+        HttpUrl url = builder.build();
+        CustomRequest<Client> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Client>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -133,14 +132,13 @@ public class ClientsEntity extends BaseManagementEntity {
     public Request<Client> create(Client client) {
         Asserts.assertNotNull(client, "client");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
-                .build()
-                .toString();
-        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Client>() {
+                .build();
+        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<Client>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(client);
         return request;
     }
@@ -155,14 +153,13 @@ public class ClientsEntity extends BaseManagementEntity {
     public Request<Void> delete(String clientId) {
         Asserts.assertNotNull(clientId, "client id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
                 .addPathSegment(clientId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -178,15 +175,14 @@ public class ClientsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(clientId, "client id");
         Asserts.assertNotNull(client, "client");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
                 .addPathSegment(clientId)
-                .build()
-                .toString();
-        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Client>() {
+                .build();
+        CustomRequest<Client> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<Client>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(client);
         return request;
     }
@@ -202,16 +198,15 @@ public class ClientsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(clientId, "client id");
         Asserts.assertNotNull(client, "client");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/clients")
                 .addPathSegment(clientId)
                 .addPathSegment("rotate-secret")
-                .build()
-                .toString();
-        CustomRequest<Client> request = new EmptyBodyRequest<>(this.client, url, "POST", new TypeReference<Client>() {
+                .build();
+        CustomRequest<Client> request = new EmptyBodyRequest<>(this.client, url, "POST", codec, new TypeReference<Client>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
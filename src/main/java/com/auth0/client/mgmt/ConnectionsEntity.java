@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.ConnectionFilter;
 import com.auth0.json.mgmt.Connection;
 import com.auth0.json.mgmt.ConnectionsPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -24,8 +25,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class ConnectionsEntity extends BaseManagementEntity {
 
-    ConnectionsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ConnectionsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
 
@@ -45,10 +46,10 @@ public class ConnectionsEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<ConnectionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<ConnectionsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<ConnectionsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<ConnectionsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -75,10 +76,10 @@ public class ConnectionsEntity extends BaseManagementEntity {
                 }
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<List<Connection>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Connection>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<Connection>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Connection>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -102,10 +103,10 @@ public class ConnectionsEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<Connection> request = new CustomRequest<>(client, url, "GET", new TypeReference<Connection>() {
+        HttpUrl url = builder.build();
+        CustomRequest<Connection> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Connection>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -119,14 +120,13 @@ public class ConnectionsEntity extends BaseManagementEntity {
     public Request<Connection> create(Connection connection) {
         Asserts.assertNotNull(connection, "connection");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/connections")
-                .build()
-                .toString();
-        CustomRequest<Connection> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Connection>() {
+                .build();
+        CustomRequest<Connection> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<Connection>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(connection);
         return request;
     }
@@ -141,14 +141,13 @@ public class ConnectionsEntity extends BaseManagementEntity {
     public Request<Void> delete(String connectionId) {
         Asserts.assertNotNull(connectionId, "connection id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/connections")
                 .addPathSegment(connectionId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -164,15 +163,14 @@ public class ConnectionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(connectionId, "connection id");
         Asserts.assertNotNull(connection, "connection");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/connections")
                 .addPathSegment(connectionId)
-                .build()
-                .toString();
-        CustomRequest<Connection> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Connection>() {
+                .build();
+        CustomRequest<Connection> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<Connection>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(connection);
         return request;
     }
@@ -189,16 +187,15 @@ public class ConnectionsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(connectionId, "connection id");
         Asserts.assertNotNull(email, "email");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/connections")
                 .addPathSegment(connectionId)
                 .addPathSegment("users")
                 .addQueryParameter("email", email)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(this.client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.client.mgmt.filter.DeviceCredentialsFilter;
 import com.auth0.json.mgmt.DeviceCredentials;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,8 +24,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class DeviceCredentialsEntity extends BaseManagementEntity {
 
-    DeviceCredentialsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    DeviceCredentialsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -43,10 +44,10 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<List<DeviceCredentials>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<DeviceCredentials>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<DeviceCredentials>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<DeviceCredentials>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -60,14 +61,13 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
     public Request<DeviceCredentials> create(DeviceCredentials deviceCredentials) {
         Asserts.assertNotNull(deviceCredentials, "device credentials");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/device-credentials")
-                .build()
-                .toString();
-        CustomRequest<DeviceCredentials> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<DeviceCredentials>() {
+                .build();
+        CustomRequest<DeviceCredentials> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<DeviceCredentials>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(deviceCredentials);
         return request;
     }
@@ -82,14 +82,13 @@ public class DeviceCredentialsEntity extends BaseManagementEntity {
     public Request<Void> delete(String deviceCredentialsId) {
         Asserts.assertNotNull(deviceCredentialsId, "device credentials id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/device-credentials")
                 .addPathSegment(deviceCredentialsId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
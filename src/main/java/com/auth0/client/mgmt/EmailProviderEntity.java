@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.client.mgmt.filter.FieldsFilter;
 import com.auth0.json.mgmt.emailproviders.EmailProvider;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.Map;
  */
 @SuppressWarnings("WeakerAccess")
 public class EmailProviderEntity extends BaseManagementEntity {
-    EmailProviderEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    EmailProviderEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -41,10 +42,10 @@ public class EmailProviderEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(client, url, "GET", new TypeReference<EmailProvider>() {
+        HttpUrl url = builder.build();
+        CustomRequest<EmailProvider> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<EmailProvider>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -58,14 +59,13 @@ public class EmailProviderEntity extends BaseManagementEntity {
     public Request<EmailProvider> setup(EmailProvider emailProvider) {
         Asserts.assertNotNull(emailProvider, "email provider");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/emails/provider")
-                .build()
-                .toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<EmailProvider>() {
+                .build();
+        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<EmailProvider>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(emailProvider);
         return request;
     }
@@ -77,13 +77,12 @@ public class EmailProviderEntity extends BaseManagementEntity {
      * @return a Request to execute.
      */
     public Request<Void> delete() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/emails/provider")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -97,14 +96,13 @@ public class EmailProviderEntity extends BaseManagementEntity {
     public Request<EmailProvider> update(EmailProvider emailProvider) {
         Asserts.assertNotNull(emailProvider, "email provider");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/emails/provider")
-                .build()
-                .toString();
-        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<EmailProvider>() {
+                .build();
+        CustomRequest<EmailProvider> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<EmailProvider>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(emailProvider);
         return request;
     }
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.EmailTemplate;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -28,8 +29,8 @@ public class EmailTemplatesEntity extends BaseManagementEntity {
     public static final String TEMPLATE_PASSWORD_RESET = "password_reset";
     public static final String TEMPLATE_MFA_OOB_CODE = "mfa_oob_code";
 
-    EmailTemplatesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    EmailTemplatesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -45,10 +46,10 @@ public class EmailTemplatesEntity extends BaseManagementEntity {
                 .newBuilder()
                 .addPathSegments("api/v2/email-templates")
                 .addPathSegment(templateName);
-        String url = builder.build().toString();
-        CustomRequest<EmailTemplate> request = new CustomRequest<>(client, url, "GET", new TypeReference<EmailTemplate>() {
+        HttpUrl url = builder.build();
+        CustomRequest<EmailTemplate> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<EmailTemplate>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -62,14 +63,13 @@ public class EmailTemplatesEntity extends BaseManagementEntity {
     public Request<EmailTemplate> create(EmailTemplate template) {
         Asserts.assertNotNull(template, "template");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/email-templates")
-                .build()
-                .toString();
-        CustomRequest<EmailTemplate> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<EmailTemplate>() {
+                .build();
+        CustomRequest<EmailTemplate> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<EmailTemplate>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(template);
         return request;
     }
@@ -86,15 +86,14 @@ public class EmailTemplatesEntity extends BaseManagementEntity {
         Asserts.assertNotNull(templateName, "template name");
         Asserts.assertNotNull(template, "template");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/email-templates")
                 .addPathSegment(templateName)
-                .build()
-                .toString();
-        CustomRequest<EmailTemplate> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<EmailTemplate>() {
+                .build();
+        CustomRequest<EmailTemplate> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<EmailTemplate>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(template);
         return request;
     }
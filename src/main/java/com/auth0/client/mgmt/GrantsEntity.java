@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.GrantsFilter;
 import com.auth0.json.mgmt.Grant;
 import com.auth0.json.mgmt.GrantsPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -24,8 +25,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class GrantsEntity extends BaseManagementEntity {
 
-    GrantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    GrantsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -49,10 +50,10 @@ public class GrantsEntity extends BaseManagementEntity {
             }
         }
 
-        String url = builder.build().toString();
-        CustomRequest<GrantsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<GrantsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<GrantsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<GrantsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -69,15 +70,14 @@ public class GrantsEntity extends BaseManagementEntity {
     public Request<List<Grant>> list(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/grants")
                 .addQueryParameter("user_id", userId)
-                .build()
-                .toString();
-        CustomRequest<List<Grant>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Grant>>() {
+                .build();
+        CustomRequest<List<Grant>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Grant>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -91,14 +91,13 @@ public class GrantsEntity extends BaseManagementEntity {
     public Request<Void> delete(String grantId) {
         Asserts.assertNotNull(grantId, "grant id");
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/grants")
                 .addPathSegment(grantId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -112,14 +111,13 @@ public class GrantsEntity extends BaseManagementEntity {
     public Request<Void> deleteAll(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/grants")
                 .addQueryParameter("user_id", userId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
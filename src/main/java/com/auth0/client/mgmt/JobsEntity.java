@@ -6,6 +6,7 @@ import com.auth0.json.mgmt.EmailVerificationIdentity;
 import com.auth0.json.mgmt.jobs.Job;
 import com.auth0.json.mgmt.jobs.JobErrorDetails;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.MultipartRequest;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
@@ -31,8 +32,8 @@ import okhttp3.ResponseBody;
 @SuppressWarnings("WeakerAccess")
 public class JobsEntity extends BaseManagementEntity {
 
-    JobsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    JobsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -45,16 +46,15 @@ public class JobsEntity extends BaseManagementEntity {
     public Request<Job> get(String jobId) {
         Asserts.assertNotNull(jobId, "job id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/jobs")
                 .addPathSegment(jobId)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "GET", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Job>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -68,17 +68,16 @@ public class JobsEntity extends BaseManagementEntity {
     public Request<List<JobErrorDetails>> getErrorDetails(String jobId) {
         Asserts.assertNotNull(jobId, "job id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments("api/v2/jobs")
             .addPathSegment(jobId)
             .addPathSegment("errors")
-            .build()
-            .toString();
+            .build();
 
         TypeReference<List<JobErrorDetails>> jobErrorDetailsListType = new TypeReference<List<JobErrorDetails>>() {
         };
-        CustomRequest<List<JobErrorDetails>> request = new CustomRequest<List<JobErrorDetails>>(client, url, "GET", jobErrorDetailsListType) {
+        CustomRequest<List<JobErrorDetails>> request = new CustomRequest<List<JobErrorDetails>>(client, url, "GET", codec, jobErrorDetailsListType) {
             @Override
             protected List<JobErrorDetails> readResponseBody(ResponseBody body) throws IOException {
                 if (body.contentLength() == 0) {
@@ -87,7 +86,7 @@ public class JobsEntity extends BaseManagementEntity {
                 return super.readResponseBody(body);
             }
         };
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -138,11 +137,10 @@ public class JobsEntity extends BaseManagementEntity {
     public Request<Job> sendVerificationEmail(String userId, String clientId, EmailVerificationIdentity emailVerificationIdentity, String orgId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments("api/v2/jobs/verification-email")
-            .build()
-            .toString();
+            .build();
 
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("user_id", userId);
@@ -157,9 +155,9 @@ public class JobsEntity extends BaseManagementEntity {
             Asserts.assertNotNull(emailVerificationIdentity.getUserId(), "identity user id");
             requestBody.put("identity", emailVerificationIdentity);
         }
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<Job>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(requestBody);
         return request;
     }
@@ -176,11 +174,10 @@ public class JobsEntity extends BaseManagementEntity {
     public Request<Job> exportUsers(String connectionId, UsersExportFilter filter) {
         Asserts.assertNotNull(connectionId, "connection id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/jobs/users-exports")
-                .build()
-                .toString();
+                .build();
 
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("connection_id", connectionId);
@@ -188,9 +185,9 @@ public class JobsEntity extends BaseManagementEntity {
             requestBody.putAll(filter.getAsMap());
         }
 
-        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", new TypeReference<Job>() {
+        CustomRequest<Job> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<Job>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(requestBody);
         return request;
     }
@@ -209,12 +206,11 @@ public class JobsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(connectionId, "connection id");
         Asserts.assertNotNull(users, "users file");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/jobs/users-imports")
-                .build()
-                .toString();
-        MultipartRequest<Job> request = new MultipartRequest<>(client, url, "POST", new TypeReference<Job>() {
+                .build();
+        MultipartRequest<Job> request = new MultipartRequest<>(client, url, "POST", codec, new TypeReference<Job>() {
         });
         if (options != null) {
             for (Map.Entry<String, Object> e : options.getAsMap().entrySet()) {
@@ -223,7 +219,7 @@ public class JobsEntity extends BaseManagementEntity {
         }
         request.addPart("connection_id", connectionId);
         request.addPart("users", users, "text/json");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
@@ -3,6 +3,7 @@ package com.auth0.client.mgmt;
 import com.auth0.json.mgmt.Key;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -21,8 +22,8 @@ import java.util.List;
 public class KeysEntity extends BaseManagementEntity {
 
     KeysEntity(OkHttpClient client, HttpUrl baseUrl,
-               String apiToken) {
-        super(client, baseUrl, apiToken);
+               String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -36,10 +37,10 @@ public class KeysEntity extends BaseManagementEntity {
         HttpUrl.Builder builder = baseUrl
             .newBuilder()
             .addEncodedPathSegments("api/v2/keys/signing");
-        String url = builder.build().toString();
-        CustomRequest<List<Key>> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<List<Key>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<Key>> request = new CustomRequest<>(this.client, url, "GET", codec, new TypeReference<List<Key>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -58,10 +59,10 @@ public class KeysEntity extends BaseManagementEntity {
             .newBuilder()
             .addPathSegments("api/v2/keys/signing")
             .addPathSegment(kid);
-        String url = builder.build().toString();
-        CustomRequest<Key> request = new CustomRequest<>(client, url, "GET", new TypeReference<Key>() {
+        HttpUrl url = builder.build();
+        CustomRequest<Key> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Key>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -73,14 +74,13 @@ public class KeysEntity extends BaseManagementEntity {
      * @return a Request to execute.
      */
     public Request<Key> rotate() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments("api/v2/keys/signing/rotate")
-            .build()
-            .toString();
-        CustomRequest<Key> request = new EmptyBodyRequest<>(this.client, url, "POST", new TypeReference<Key>() {
+            .build();
+        CustomRequest<Key> request = new EmptyBodyRequest<>(this.client, url, "POST", codec, new TypeReference<Key>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -95,16 +95,15 @@ public class KeysEntity extends BaseManagementEntity {
     public Request<Key> revoke(String kid) {
         Asserts.assertNotNull(kid, "kid");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments("api/v2/keys/signing/")
             .addPathSegment(kid)
             .addPathSegment("revoke")
-            .build()
-            .toString();
-        CustomRequest<Key> request = new EmptyBodyRequest<>(this.client, url, "PUT", new TypeReference<Key>() {
+            .build();
+        CustomRequest<Key> request = new EmptyBodyRequest<>(this.client, url, "PUT", codec, new TypeReference<Key>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.logstreams.LogStream;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,8 +24,8 @@ public class LogStreamsEntity extends BaseManagementEntity {
     private final static String LOG_STREAMS_PATH = "api/v2/log-streams";
     private final static String AUTHORIZATION_HEADER = "Authorization";
 
-    LogStreamsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    LogStreamsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -34,15 +35,14 @@ public class LogStreamsEntity extends BaseManagementEntity {
      * @return the request to execute.
      */
     public Request<List<LogStream>> list() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments(LOG_STREAMS_PATH)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<LogStream>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<LogStream>>() {
+        CustomRequest<List<LogStream>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<LogStream>>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -56,16 +56,15 @@ public class LogStreamsEntity extends BaseManagementEntity {
     public Request<LogStream> get(String logStreamId) {
         Asserts.assertNotNull(logStreamId, "log stream id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments(LOG_STREAMS_PATH)
                 .addPathSegment(logStreamId)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "GET", new TypeReference<LogStream>() {
+        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<LogStream>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -79,14 +78,13 @@ public class LogStreamsEntity extends BaseManagementEntity {
     public Request<LogStream> create(LogStream logStream) {
         Asserts.assertNotNull(logStream, "log stream");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments(LOG_STREAMS_PATH)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "POST", new TypeReference<LogStream>(){});
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<LogStream>(){});
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(logStream);
         return request;
     }
@@ -103,16 +101,15 @@ public class LogStreamsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(logStreamId, "log stream id");
         Asserts.assertNotNull(logStream, "log stream");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments(LOG_STREAMS_PATH)
                 .addPathSegment(logStreamId)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<LogStream>(){
+        CustomRequest<LogStream> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<LogStream>(){
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(logStream);
         return request;
     }
@@ -127,15 +124,14 @@ public class LogStreamsEntity extends BaseManagementEntity {
     public Request<Void> delete(String logStreamId) {
         Asserts.assertNotNull(logStreamId, "log stream id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments(LOG_STREAMS_PATH)
                 .addPathSegment(logStreamId)
-                .build()
-                .toString();
+                .build();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 }
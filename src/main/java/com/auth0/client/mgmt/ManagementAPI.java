@@ -1,17 +1,36 @@
 package com.auth0.client.mgmt;
 
+import com.auth0.client.CircuitBreakerOptions;
 import com.auth0.client.HttpOptions;
+import com.auth0.client.HttpTransport;
 import com.auth0.client.LoggingOptions;
 import com.auth0.client.ProxyOptions;
+import com.auth0.client.ResponseCacheOptions;
+import com.auth0.client.ResponseCacheStats;
+import com.auth0.net.AdaptiveConcurrencyLimiter;
+import com.auth0.net.AuthorizationDigestInterceptor;
+import com.auth0.net.AuthorizationVaryInterceptor;
+import com.auth0.net.CircuitBreakerInterceptor;
+import com.auth0.net.ConnectionWarmUp;
+import com.auth0.net.JsonCodec;
+import com.auth0.net.RateLimitGovernor;
 import com.auth0.net.RateLimitInterceptor;
+import com.auth0.net.RequestCoalescingInterceptor;
+import com.auth0.net.RequestCompressionInterceptor;
+import com.auth0.net.RequestQueueInterceptor;
 import com.auth0.net.Telemetry;
 import com.auth0.net.TelemetryInterceptor;
+import com.auth0.net.metrics.MetricsEventListener;
+import com.auth0.net.metrics.MetricsInterceptor;
+import com.auth0.net.metrics.MetricsRecorder;
 import com.auth0.utils.Asserts;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
 import okhttp3.logging.HttpLoggingInterceptor.Level;
 
 import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -27,7 +46,10 @@ public class ManagementAPI {
 
     private final HttpUrl baseUrl;
     private String apiToken;
+    private final TokenProvider tokenProvider;
+    private volatile Entities entities;
     private final OkHttpClient client;
+    private final JsonCodec codec;
     private final TelemetryInterceptor telemetry;
     private final HttpLoggingInterceptor logging;
 
@@ -43,18 +65,55 @@ public class ManagementAPI {
      * @see #ManagementAPI(String, String)
      */
     public ManagementAPI(String domain, String apiToken, HttpOptions options) {
+        this(domain, apiToken, options, options == null ? null : new HttpTransport(options));
+    }
+
+    /**
+     * Create an instance with the given tenant's domain and API token, which executes its requests on the given
+     * transport. Use this constructor to share connections and threads among many client instances.
+     * In addition, accepts an {@link HttpOptions} that will be used to configure this client instance; the settings
+     * of the shared resources are taken from the transport instead. See {@link HttpTransport}.
+     *
+     * @param domain    the tenant's domain.
+     * @param apiToken  the token to authenticate the calls with.
+     * @param options   configuration options for this client instance.
+     * @param transport the transport to execute the requests on.
+     */
+    public ManagementAPI(String domain, String apiToken, HttpOptions options, HttpTransport transport) {
+        this(domain, assertApiToken(apiToken), null, options, transport);
+    }
+
+    /**
+     * Create a builder of an instance with the given tenant's domain, which authenticates its calls with the tokens
+     * obtained from the given provider. Rather than having to update the API token when it expires, the provider
+     * renews it, and requests rejected with a 401 status are retried once with a new token. See
+     * {@link ClientCredentialsTokenProvider}.
+     *
+     * @param domain        the tenant's domain.
+     * @param tokenProvider the provider of the tokens to authenticate the calls with.
+     * @return a new Builder instance.
+     */
+    public static Builder newBuilder(String domain, TokenProvider tokenProvider) {
+        return new Builder(domain, tokenProvider);
+    }
+
+    private ManagementAPI(String domain, String apiToken, TokenProvider tokenProvider, HttpOptions options, HttpTransport transport) {
         Asserts.assertNotNull(domain, "domain");
-        Asserts.assertNotNull(apiToken, "api token");
+        Asserts.assertNotNull(options, "client options");
+        Asserts.assertNotNull(transport, "transport");
 
         this.baseUrl = createBaseUrl(domain);
         if (baseUrl == null) {
             throw new IllegalArgumentException("The domain had an invalid format and couldn't be parsed as an URL.");
         }
         this.apiToken = apiToken;
+        this.tokenProvider = tokenProvider;
 
         telemetry = new TelemetryInterceptor();
         logging = new HttpLoggingInterceptor();
-        client = buildNetworkingClient(options);
+        client = buildNetworkingClient(options, transport);
+        codec = transport.getCodec();
+        entities = new Entities(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -69,15 +128,21 @@ public class ManagementAPI {
         this(domain, apiToken, new HttpOptions());
     }
 
+    private static String assertApiToken(String apiToken) {
+        Asserts.assertNotNull(apiToken, "api token");
+        return apiToken;
+    }
+
     /**
      * Given a set of options, it creates a new instance of the {@link OkHttpClient}
      * configuring them according to their availability.
      *
-     * @param options the options to set to the client.
+     * @param options   the options to set to the client.
+     * @param transport the transport whose connection pool and dispatcher the client uses.
      * @return a new networking client instance configured as requested.
      */
-    private OkHttpClient buildNetworkingClient(HttpOptions options) {
-        OkHttpClient.Builder clientBuilder = new OkHttpClient.Builder();
+    private OkHttpClient buildNetworkingClient(HttpOptions options, HttpTransport transport) {
+        OkHttpClient.Builder clientBuilder = transport.newClientBuilder();
         final ProxyOptions proxyOptions = options.getProxyOptions();
         if (proxyOptions != null) {
             //Set proxy
@@ -102,29 +167,107 @@ public class ManagementAPI {
             }
         }
         configureLogging(options.getLoggingOptions());
-        Dispatcher dispatcher = new Dispatcher();
-        dispatcher.setMaxRequestsPerHost(options.getMaxRequestsPerHost());
-        dispatcher.setMaxRequests(options.getMaxRequests());
-        return clientBuilder
+        final MetricsRecorder metricsRecorder = options.getMetricsRecorder();
+        if (options.getMaxQueuedRequests() > 0) {
+            // added first so that requests leave the queue as soon as the dispatcher starts them
+            clientBuilder.addInterceptor(new RequestQueueInterceptor(options.getMaxQueuedRequests(), options.getQueueOverflowPolicy(), metricsRecorder));
+        }
+        if (tokenProvider != null) {
+            // added before the logging so that the token a request is sent with, and its retry on a 401, are logged
+            clientBuilder.addInterceptor(new TokenProviderInterceptor(tokenProvider));
+        }
+        clientBuilder
                 .addInterceptor(logging)
-                .addInterceptor(telemetry)
-                .addInterceptor(new RateLimitInterceptor(options.getManagementAPIMaxRetries()))
+                .addInterceptor(telemetry);
+        if (metricsRecorder != null) {
+            clientBuilder
+                    .addInterceptor(new MetricsInterceptor(metricsRecorder))
+                    .eventListenerFactory(new MetricsEventListener.Factory(metricsRecorder, transport.getDispatcher()));
+        }
+        if (options.isRequestCompressionEnabled()) {
+            clientBuilder.addInterceptor(new RequestCompressionInterceptor(options.getRequestCompressionThreshold(), metricsRecorder));
+        }
+        if (options.isRequestCoalescingEnabled()) {
+            // added before the retries so that coalesced requests share the retried response
+            clientBuilder.addInterceptor(new RequestCoalescingInterceptor());
+        }
+        final CircuitBreakerOptions circuitBreakerOptions = options.getCircuitBreakerOptions();
+        if (circuitBreakerOptions != null) {
+            // added before the retries so that requests failing fast are not retried
+            clientBuilder.addInterceptor(new CircuitBreakerInterceptor(circuitBreakerOptions.getFailureThreshold(),
+                    TimeUnit.SECONDS.toMillis(circuitBreakerOptions.getCooldown()), circuitBreakerOptions.getListener()));
+        }
+        final RateLimitGovernor governor = options.isRateLimitPacingEnabled()
+                ? new RateLimitGovernor(TimeUnit.SECONDS.toMillis(options.getRateLimitPacingMaxWait())) : null;
+        // requests are paced before being sent by BaseRequest, and their synchronous retries by the RateLimitInterceptor
+        clientBuilder.addInterceptor(new RateLimitInterceptor(options.getManagementAPIMaxRetries(), metricsRecorder, governor));
+        if (governor != null) {
+            // added after the retries so that the rate-limit headers of every attempt are recorded
+            clientBuilder.addInterceptor(governor);
+        }
+        if (options.isAdaptiveConcurrencyEnabled()) {
+            // added last so that every attempt is limited, and paced requests do not hold a slot
+            clientBuilder.addInterceptor(new AdaptiveConcurrencyLimiter(options.getMaxRequestsPerHost(), options.getMaxRequests()));
+        }
+        if (!options.isHttp2Enabled()) {
+            clientBuilder.protocols(Collections.singletonList(Protocol.HTTP_1_1));
+        }
+        final ResponseCacheOptions cacheOptions = options.getResponseCacheOptions();
+        if (cacheOptions != null) {
+            clientBuilder.cache(new Cache(cacheOptions.getDirectory(), cacheOptions.getMaxSize()));
+            // responses depend on the token, which is not part of the cache key; added last so that it sees the token
+            clientBuilder
+                    .addInterceptor(new AuthorizationDigestInterceptor())
+                    .addNetworkInterceptor(new AuthorizationVaryInterceptor());
+        }
+        return clientBuilder
                 .connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS)
                 .readTimeout(options.getReadTimeout(), TimeUnit.SECONDS)
-                .dispatcher(dispatcher)
                 .build();
     }
 
+    /**
+     * Returns the statistics of the HTTP response cache of this client.
+     *
+     * @return a snapshot of the response cache statistics, or null if the response cache is not enabled.
+     * @see HttpOptions#setResponseCacheOptions(ResponseCacheOptions)
+     */
+    public ResponseCacheStats getResponseCacheStats() {
+        Cache cache = client.cache();
+        if (cache == null) {
+            return null;
+        }
+        return new ResponseCacheStats(cache.requestCount(), cache.hitCount(), cache.networkCount());
+    }
+
+    /**
+     * Opens connections to the tenant domain ahead of traffic, so that the first requests do not pay for DNS
+     * resolution and the TCP and TLS handshakes. The connections stay in the pool subject to
+     * {@link HttpOptions#setMaxIdleConnections(int)} and {@link HttpOptions#setKeepAliveDuration(int)}. When HTTP/2
+     * is negotiated, a single connection is opened as concurrent requests share it.
+     *
+     * @param connections the number of connections to open. Must be one or greater.
+     * @return a future that completes once the connections are open.
+     */
+    public CompletableFuture<Void> warmUp(int connections) {
+        return ConnectionWarmUp.warmUp(client, baseUrl, connections);
+    }
+
     /**
      * Update the API token to use on new calls. This is useful when the token is about to expire or already has.
      * Please note you'll need to obtain the corresponding entity again for this to apply. e.g. call {@link #clients()} again.
      * See the Management API section in the readme or visit https://auth0.com/docs/api/management/v2/tokens to learn how to obtain a token.
      *
      * @param apiToken the token to authenticate the calls with.
+     * @throws IllegalStateException if this instance obtains its tokens from a {@link TokenProvider}.
      */
     public void setApiToken(String apiToken) {
         Asserts.assertNotNull(apiToken, "api token");
+        if (tokenProvider != null) {
+            throw new IllegalStateException("The API token is obtained from the token provider and cannot be set.");
+        }
         this.apiToken = apiToken;
+        this.entities = new Entities(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -204,7 +347,7 @@ public class ManagementAPI {
      * @return the Branding entity.
      */
     public BrandingEntity branding() {
-        return new BrandingEntity(client, baseUrl, apiToken);
+        return entities.branding;
     }
 
     /**
@@ -213,7 +356,7 @@ public class ManagementAPI {
      * @return the Client Grants entity.
      */
     public ClientGrantsEntity clientGrants() {
-        return new ClientGrantsEntity(client, baseUrl, apiToken);
+        return entities.clientGrants;
     }
 
     /**
@@ -222,7 +365,7 @@ public class ManagementAPI {
      * @return the Applications entity.
      */
     public ClientsEntity clients() {
-        return new ClientsEntity(client, baseUrl, apiToken);
+        return entities.clients;
     }
 
     /**
@@ -231,7 +374,7 @@ public class ManagementAPI {
      * @return the Connections entity.
      */
     public ConnectionsEntity connections() {
-        return new ConnectionsEntity(client, baseUrl, apiToken);
+        return entities.connections;
     }
 
     /**
@@ -240,7 +383,7 @@ public class ManagementAPI {
      * @return the Device Credentials entity.
      */
     public DeviceCredentialsEntity deviceCredentials() {
-        return new DeviceCredentialsEntity(client, baseUrl, apiToken);
+        return entities.deviceCredentials;
     }
 
     /**
@@ -249,7 +392,7 @@ public class ManagementAPI {
      * @return the Grants entity.
      */
     public GrantsEntity grants() {
-        return new GrantsEntity(client, baseUrl, apiToken);
+        return entities.grants;
     }
 
     /**
@@ -258,7 +401,7 @@ public class ManagementAPI {
      * @return the Log Events entity.
      */
     public LogEventsEntity logEvents() {
-        return new LogEventsEntity(client, baseUrl, apiToken);
+        return entities.logEvents;
     }
 
     /**
@@ -267,7 +410,7 @@ public class ManagementAPI {
      * @return the Log Streams entity.
      */
     public LogStreamsEntity logStreams() {
-        return new LogStreamsEntity(client, baseUrl, apiToken);
+        return entities.logStreams;
     }
 
     /**
@@ -276,7 +419,7 @@ public class ManagementAPI {
      * @return the Rules entity.
      */
     public RulesEntity rules() {
-        return new RulesEntity(client, baseUrl, apiToken);
+        return entities.rules;
     }
 
     /**
@@ -285,7 +428,7 @@ public class ManagementAPI {
      * @return the Rules Configs entity.
      */
     public RulesConfigsEntity rulesConfigs() {
-        return new RulesConfigsEntity(client, baseUrl, apiToken);
+        return entities.rulesConfigs;
     }
 
     /**
@@ -294,7 +437,7 @@ public class ManagementAPI {
      * @return the User Blocks entity.
      */
     public UserBlocksEntity userBlocks() {
-        return new UserBlocksEntity(client, baseUrl, apiToken);
+        return entities.userBlocks;
     }
 
     /**
@@ -303,7 +446,7 @@ public class ManagementAPI {
      * @return the Users entity.
      */
     public UsersEntity users() {
-        return new UsersEntity(client, baseUrl, apiToken);
+        return entities.users;
     }
 
     /**
@@ -312,7 +455,7 @@ public class ManagementAPI {
      * @return the Blacklists entity.
      */
     public BlacklistsEntity blacklists() {
-        return new BlacklistsEntity(client, baseUrl, apiToken);
+        return entities.blacklists;
     }
 
     /**
@@ -321,7 +464,7 @@ public class ManagementAPI {
      * @return the Email Templates entity.
      */
     public EmailTemplatesEntity emailTemplates() {
-        return new EmailTemplatesEntity(client, baseUrl, apiToken);
+        return entities.emailTemplates;
     }
 
     /**
@@ -330,7 +473,7 @@ public class ManagementAPI {
      * @return the Email Provider entity.
      */
     public EmailProviderEntity emailProvider() {
-        return new EmailProviderEntity(client, baseUrl, apiToken);
+        return entities.emailProvider;
     }
 
     /**
@@ -339,7 +482,7 @@ public class ManagementAPI {
      * @return the Guardian entity.
      */
     public GuardianEntity guardian() {
-        return new GuardianEntity(client, baseUrl, apiToken);
+        return entities.guardian;
     }
 
     /**
@@ -348,7 +491,7 @@ public class ManagementAPI {
      * @return the Stats entity.
      */
     public StatsEntity stats() {
-        return new StatsEntity(client, baseUrl, apiToken);
+        return entities.stats;
     }
 
     /**
@@ -357,7 +500,7 @@ public class ManagementAPI {
      * @return the Tenants entity.
      */
     public TenantsEntity tenants() {
-        return new TenantsEntity(client, baseUrl, apiToken);
+        return entities.tenants;
     }
 
     /**
@@ -366,7 +509,7 @@ public class ManagementAPI {
      * @return the Tickets entity.
      */
     public TicketsEntity tickets() {
-        return new TicketsEntity(client, baseUrl, apiToken);
+        return entities.tickets;
     }
 
     /**
@@ -375,7 +518,7 @@ public class ManagementAPI {
      * @return the Resource Servers entity.
      */
     public ResourceServerEntity resourceServers() {
-        return new ResourceServerEntity(client, baseUrl, apiToken);
+        return entities.resourceServers;
     }
 
     /**
@@ -384,7 +527,7 @@ public class ManagementAPI {
      * @return the Jobs entity.
      */
     public JobsEntity jobs() {
-        return new JobsEntity(client, baseUrl, apiToken);
+        return entities.jobs;
     }
 
     /**
@@ -393,7 +536,7 @@ public class ManagementAPI {
      * @return the Roles entity.
      */
     public RolesEntity roles() {
-        return new RolesEntity(client, baseUrl, apiToken);
+        return entities.roles;
     }
 
     /**
@@ -402,7 +545,7 @@ public class ManagementAPI {
      * @return the Organizations entity.
      */
     public OrganizationsEntity organizations() {
-        return new OrganizationsEntity(client, baseUrl, apiToken);
+        return entities.organizations;
     }
 
     /**
@@ -411,7 +554,7 @@ public class ManagementAPI {
      * @return the Actions entity.
      */
     public ActionsEntity actions() {
-        return new ActionsEntity(client, baseUrl, apiToken);
+        return entities.actions;
     }
 
     /**
@@ -420,7 +563,7 @@ public class ManagementAPI {
      * @return the Attack Protection Entity
      */
     public AttackProtectionEntity attackProtection() {
-        return new AttackProtectionEntity(client, baseUrl, apiToken);
+        return entities.attackProtection;
     }
 
     /**
@@ -429,6 +572,120 @@ public class ManagementAPI {
      * @return the Keys Entity
      */
     public KeysEntity keys() {
-        return new KeysEntity(client, baseUrl, apiToken);
+        return entities.keys;
+    }
+
+    /**
+     * The entities of the API, created once for every API token rather than on every call to their getter. They hold
+     * no state other than what they are created with, so they can be shared.
+     */
+    private static final class Entities {
+        final BrandingEntity branding;
+        final ClientGrantsEntity clientGrants;
+        final ClientsEntity clients;
+        final ConnectionsEntity connections;
+        final DeviceCredentialsEntity deviceCredentials;
+        final GrantsEntity grants;
+        final LogEventsEntity logEvents;
+        final LogStreamsEntity logStreams;
+        final RulesEntity rules;
+        final RulesConfigsEntity rulesConfigs;
+        final UserBlocksEntity userBlocks;
+        final UsersEntity users;
+        final BlacklistsEntity blacklists;
+        final EmailTemplatesEntity emailTemplates;
+        final EmailProviderEntity emailProvider;
+        final GuardianEntity guardian;
+        final StatsEntity stats;
+        final TenantsEntity tenants;
+        final TicketsEntity tickets;
+        final ResourceServerEntity resourceServers;
+        final JobsEntity jobs;
+        final RolesEntity roles;
+        final OrganizationsEntity organizations;
+        final ActionsEntity actions;
+        final AttackProtectionEntity attackProtection;
+        final KeysEntity keys;
+
+        Entities(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+            branding = new BrandingEntity(client, baseUrl, apiToken, codec);
+            clientGrants = new ClientGrantsEntity(client, baseUrl, apiToken, codec);
+            clients = new ClientsEntity(client, baseUrl, apiToken, codec);
+            connections = new ConnectionsEntity(client, baseUrl, apiToken, codec);
+            deviceCredentials = new DeviceCredentialsEntity(client, baseUrl, apiToken, codec);
+            grants = new GrantsEntity(client, baseUrl, apiToken, codec);
+            logEvents = new LogEventsEntity(client, baseUrl, apiToken, codec);
+            logStreams = new LogStreamsEntity(client, baseUrl, apiToken, codec);
+            rules = new RulesEntity(client, baseUrl, apiToken, codec);
+            rulesConfigs = new RulesConfigsEntity(client, baseUrl, apiToken, codec);
+            userBlocks = new UserBlocksEntity(client, baseUrl, apiToken, codec);
+            users = new UsersEntity(client, baseUrl, apiToken, codec);
+            blacklists = new BlacklistsEntity(client, baseUrl, apiToken, codec);
+            emailTemplates = new EmailTemplatesEntity(client, baseUrl, apiToken, codec);
+            emailProvider = new EmailProviderEntity(client, baseUrl, apiToken, codec);
+            guardian = new GuardianEntity(client, baseUrl, apiToken, codec);
+            stats = new StatsEntity(client, baseUrl, apiToken, codec);
+            tenants = new TenantsEntity(client, baseUrl, apiToken, codec);
+            tickets = new TicketsEntity(client, baseUrl, apiToken, codec);
+            resourceServers = new ResourceServerEntity(client, baseUrl, apiToken, codec);
+            jobs = new JobsEntity(client, baseUrl, apiToken, codec);
+            roles = new RolesEntity(client, baseUrl, apiToken, codec);
+            organizations = new OrganizationsEntity(client, baseUrl, apiToken, codec);
+            actions = new ActionsEntity(client, baseUrl, apiToken, codec);
+            attackProtection = new AttackProtectionEntity(client, baseUrl, apiToken, codec);
+            keys = new KeysEntity(client, baseUrl, apiToken, codec);
+        }
+    }
+
+    /**
+     * Builds {@link ManagementAPI} instances that obtain their tokens from a {@link TokenProvider}.
+     * See {@link ManagementAPI#newBuilder(String, TokenProvider)}.
+     */
+    public static class Builder {
+        private final String domain;
+        private final TokenProvider tokenProvider;
+        private HttpOptions options = new HttpOptions();
+        private HttpTransport transport;
+
+        Builder(String domain, TokenProvider tokenProvider) {
+            Asserts.assertNotNull(domain, "domain");
+            Asserts.assertNotNull(tokenProvider, "token provider");
+            this.domain = domain;
+            this.tokenProvider = tokenProvider;
+        }
+
+        /**
+         * Specify the options to configure the networking client with.
+         *
+         * @param options configuration options for this client instance. Must not be null.
+         * @return this Builder instance.
+         */
+        public Builder withHttpOptions(HttpOptions options) {
+            Asserts.assertNotNull(options, "client options");
+            this.options = options;
+            return this;
+        }
+
+        /**
+         * Specify the transport to execute the requests on. See {@link HttpTransport}.
+         *
+         * @param transport the transport to execute the requests on. Must not be null.
+         * @return this Builder instance.
+         */
+        public Builder withHttpTransport(HttpTransport transport) {
+            Asserts.assertNotNull(transport, "transport");
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Create a new {@link ManagementAPI} instance.
+         *
+         * @return a new ManagementAPI instance.
+         */
+        public ManagementAPI build() {
+            return new ManagementAPI(domain, null, tokenProvider, options,
+                    transport == null ? new HttpTransport(options) : transport);
+        }
     }
 }
@@ -7,6 +7,7 @@ import com.auth0.client.mgmt.filter.PageFilter;
 import com.auth0.json.mgmt.RolesPage;
 import com.auth0.json.mgmt.organizations.*;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -28,8 +29,8 @@ public class OrganizationsEntity extends BaseManagementEntity {
     private final static String ORGS_PATH = "api/v2/organizations";
     private final static String AUTHORIZATION_HEADER = "Authorization";
 
-    OrganizationsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    OrganizationsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     // Organizations Entity
@@ -49,11 +50,11 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<OrganizationsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<OrganizationsPage>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -68,17 +69,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
     public Request<Organization> get(String orgId) {
         Asserts.assertNotNull(orgId, "organization ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Organization>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -93,18 +93,17 @@ public class OrganizationsEntity extends BaseManagementEntity {
     public Request<Organization> getByName(String orgName) {
         Asserts.assertNotNull(orgName, "organization name");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment("name")
             .addPathSegment(orgName)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Organization>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -119,16 +118,15 @@ public class OrganizationsEntity extends BaseManagementEntity {
     public Request<Organization> create(Organization organization) {
         Asserts.assertNotNull(organization, "organization");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "POST", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<Organization>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(organization);
         return request;
     }
@@ -146,17 +144,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(organization, "organization");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Organization> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<Organization>() {
+        CustomRequest<Organization> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<Organization>() {
         });
 
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(organization);
         return request;
     }
@@ -172,15 +169,14 @@ public class OrganizationsEntity extends BaseManagementEntity {
     public Request<Void> delete(String orgId) {
         Asserts.assertNotNull(orgId, "organization ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE");
-        voidRequest.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE", codec);
+        voidRequest.addHeader(AUTHORIZATION_HEADER, authorization);
         return voidRequest;
     }
 
@@ -206,10 +202,10 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<MembersPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<MembersPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<MembersPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<MembersPage>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -226,16 +222,15 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(members, "members");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("members")
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest request = new VoidRequest(client, url, "POST");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "POST", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(members);
         return request;
     }
@@ -253,16 +248,15 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(members, "members");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("members")
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(members);
         return request;
     }
@@ -289,10 +283,10 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<EnabledConnectionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<EnabledConnectionsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<EnabledConnectionsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<EnabledConnectionsPage>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -309,18 +303,17 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(connectionId, "connection ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("enabled_connections")
             .addPathSegment(connectionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "GET", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<EnabledConnection>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -337,17 +330,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(connection, "connection");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("enabled_connections")
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "POST", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<EnabledConnection>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(connection);
         return request;
     }
@@ -365,17 +357,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(connectionId, "connection ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("enabled_connections")
             .addPathSegment(connectionId)
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE");
-        voidRequest.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest voidRequest = new VoidRequest(client, url, "DELETE", codec);
+        voidRequest.addHeader(AUTHORIZATION_HEADER, authorization);
         return voidRequest;
     }
 
@@ -394,18 +385,17 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(connectionId, "connection ID");
         Asserts.assertNotNull(connection, "connection");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("enabled_connections")
             .addPathSegment(connectionId)
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "PATCH", new TypeReference<EnabledConnection>() {
+        CustomRequest<EnabledConnection> request = new CustomRequest<>(client, url, "PATCH", codec, new TypeReference<EnabledConnection>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(connection);
         return request;
     }
@@ -436,10 +426,10 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RolesPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<RolesPage>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -458,18 +448,17 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(userId, "user ID");
         Asserts.assertNotNull(roles, "roles");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("members")
             .addPathSegment(userId)
             .addPathSegment("roles")
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest request = new VoidRequest(client, url, "POST");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "POST", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(roles);
         return request;
     }
@@ -489,18 +478,17 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(userId, "user ID");
         Asserts.assertNotNull(roles, "roles");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("members")
             .addPathSegment(userId)
             .addPathSegment("roles")
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(roles);
         return request;
     }
@@ -520,17 +508,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(invitation, "invitation");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("invitations")
-            .build()
-            .toString();
+            .build();
 
-        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "POST", new TypeReference<Invitation>() {
+        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<Invitation>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         request.setBody(invitation);
         return request;
 
@@ -559,10 +546,10 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "GET", new TypeReference<Invitation>() {
+        HttpUrl url = builder.build();
+        CustomRequest<Invitation> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Invitation>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -586,10 +573,10 @@ public class OrganizationsEntity extends BaseManagementEntity {
 
         applyFilter(filter, builder);
 
-        String url = builder.build().toString();
-        CustomRequest<InvitationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<InvitationsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<InvitationsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<InvitationsPage>() {
         });
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
@@ -606,17 +593,16 @@ public class OrganizationsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(orgId, "organization ID");
         Asserts.assertNotNull(invitationId, "invitation ID");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
             .newBuilder()
             .addPathSegments(ORGS_PATH)
             .addPathSegment(orgId)
             .addPathSegment("invitations")
             .addPathSegment(invitationId)
-            .build()
-            .toString();
+            .build();
 
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader(AUTHORIZATION_HEADER, "Bearer " + apiToken);
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader(AUTHORIZATION_HEADER, authorization);
         return request;
     }
 
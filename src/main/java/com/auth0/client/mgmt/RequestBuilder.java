@@ -1,6 +1,7 @@
 package com.auth0.client.mgmt;
 
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -14,6 +15,7 @@ import org.jetbrains.annotations.Nullable;
 
 class RequestBuilder<T> {
     private final OkHttpClient client;
+    private final JsonCodec codec;
     private final String method;
     private final HttpUrl.Builder url;
     private final TypeReference<T> target;
@@ -23,8 +25,9 @@ class RequestBuilder<T> {
     private final Map<String, String> headers = new HashMap<>();
     private final Map<String, Object> parameters = new HashMap<>();
 
-    public RequestBuilder(OkHttpClient client, String method, HttpUrl baseUrl, TypeReference<T> target) {
+    public RequestBuilder(OkHttpClient client, JsonCodec codec, String method, HttpUrl baseUrl, TypeReference<T> target) {
         this.client = client;
+        this.codec = codec;
         this.method = method;
         this.url = baseUrl.newBuilder();
         this.target = target;
@@ -54,11 +57,11 @@ class RequestBuilder<T> {
     public Request<T> build() {
         CustomRequest<T> request;
 
-        final String url = this.url.build().toString();
+        final HttpUrl url = this.url.build();
         if ("java.lang.Void".equals(target.getType().getTypeName())) {
-            request = (CustomRequest<T>) new VoidRequest(client, url, method);
+            request = (CustomRequest<T>) new VoidRequest(client, url, method, codec);
         } else {
-            request = new CustomRequest<>(client, url, method, target);
+            request = new CustomRequest<>(client, url, method, codec, target);
         }
 
         if (body != null) {
@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.ResourceServersFilter;
 import com.auth0.json.mgmt.ResourceServer;
 import com.auth0.json.mgmt.ResourceServersPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -23,8 +24,8 @@ import java.util.Map;
  */
 public class ResourceServerEntity extends BaseManagementEntity {
 
-    ResourceServerEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    ResourceServerEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -44,11 +45,11 @@ public class ResourceServerEntity extends BaseManagementEntity {
             }
         }
 
-        String url = builder.build().toString();
-        CustomRequest<ResourceServersPage> request = new CustomRequest<>(client, url, "GET",
+        HttpUrl url = builder.build();
+        CustomRequest<ResourceServersPage> request = new CustomRequest<>(client, url, "GET", codec,
                 new TypeReference<ResourceServersPage>() {
                 });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -66,11 +67,11 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .newBuilder()
                 .addPathSegments("api/v2/resource-servers");
 
-        String url = builder.build().toString();
-        CustomRequest<List<ResourceServer>> request = new CustomRequest<>(client, url, "GET",
+        HttpUrl url = builder.build();
+        CustomRequest<List<ResourceServer>> request = new CustomRequest<>(client, url, "GET", codec,
                 new TypeReference<List<ResourceServer>>() {
                 });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -89,11 +90,11 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/resource-servers")
                 .addPathSegment(resourceServerIdOrIdentifier);
 
-        String url = builder.build().toString();
-        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "GET",
+        HttpUrl url = builder.build();
+        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "GET", codec,
                 new TypeReference<ResourceServer>() {
                 });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -111,11 +112,11 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .newBuilder()
                 .addPathSegments("api/v2/resource-servers");
 
-        String url = builder.build().toString();
-        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "POST",
+        HttpUrl url = builder.build();
+        CustomRequest<ResourceServer> request = new CustomRequest<>(client, url, "POST", codec,
                 new TypeReference<ResourceServer>() {
                 });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(resourceServer);
         return request;
     }
@@ -135,9 +136,9 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/resource-servers")
                 .addPathSegment(resourceServerId);
 
-        String url = builder.build().toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        HttpUrl url = builder.build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -158,11 +159,11 @@ public class ResourceServerEntity extends BaseManagementEntity {
                 .addPathSegments("api/v2/resource-servers")
                 .addPathSegment(resourceServerId);
 
-        String url = builder.build().toString();
-        CustomRequest<ResourceServer> request = new CustomRequest<ResourceServer>(client, url, "PATCH",
+        HttpUrl url = builder.build();
+        CustomRequest<ResourceServer> request = new CustomRequest<ResourceServer>(client, url, "PATCH", codec,
                 new TypeReference<ResourceServer>() {
                 });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(resourceServer);
         return request;
     }
@@ -8,6 +8,7 @@ import com.auth0.json.mgmt.Role;
 import com.auth0.json.mgmt.RolesPage;
 import com.auth0.json.mgmt.users.UsersPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -29,8 +30,8 @@ import java.util.Map;
 public class RolesEntity extends BaseManagementEntity {
 
   RolesEntity(OkHttpClient client, HttpUrl baseUrl,
-      String apiToken) {
-    super(client, baseUrl, apiToken);
+      String apiToken, JsonCodec codec) {
+    super(client, baseUrl, apiToken, codec);
   }
 
   /**
@@ -50,9 +51,9 @@ public class RolesEntity extends BaseManagementEntity {
         builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
       }
     }
-    String url = builder.build().toString();
-    CustomRequest<RolesPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<RolesPage>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    HttpUrl url = builder.build();
+    CustomRequest<RolesPage> request = new CustomRequest<>(this.client, url, "GET", codec, new TypeReference<RolesPage>() {});
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -72,9 +73,9 @@ public class RolesEntity extends BaseManagementEntity {
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId);
 
-    String url = builder.build().toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<Role>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    HttpUrl url = builder.build();
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "GET", codec, new TypeReference<Role>() {});
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -90,13 +91,12 @@ public class RolesEntity extends BaseManagementEntity {
   public Request<Role> create(Role role) {
     Asserts.assertNotNull(role, "role");
 
-    String url = baseUrl
+    HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
-        .build()
-        .toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Role>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+        .build();
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<Role>() {});
+    request.addHeader("Authorization", authorization);
     request.setBody(role);
     return request;
   }
@@ -112,14 +112,13 @@ public class RolesEntity extends BaseManagementEntity {
   public Request<Void> delete(String roleId) {
     Asserts.assertNotNull(roleId, "role id");
 
-    final String url = baseUrl
+    final HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId)
-        .build()
-        .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "DELETE");
-    request.addHeader("Authorization", "Bearer " + apiToken);
+        .build();
+    VoidRequest request = new VoidRequest(this.client, url, "DELETE", codec);
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -136,14 +135,13 @@ public class RolesEntity extends BaseManagementEntity {
     Asserts.assertNotNull(roleId, "role id");
     Asserts.assertNotNull(role, "role");
 
-    String url = baseUrl
+    HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId)
-        .build()
-        .toString();
-    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Role>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+        .build();
+    CustomRequest<Role> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<Role>() {});
+    request.addHeader("Authorization", authorization);
     request.setBody(role);
     return request;
   }
@@ -170,9 +168,9 @@ public class RolesEntity extends BaseManagementEntity {
         builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
       }
     }
-    String url = builder.build().toString();
-    CustomRequest<UsersPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<UsersPage>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    HttpUrl url = builder.build();
+    CustomRequest<UsersPage> request = new CustomRequest<>(this.client, url, "GET", codec, new TypeReference<UsersPage>() {});
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -192,15 +190,14 @@ public class RolesEntity extends BaseManagementEntity {
     Map<String, List<String>> body = new HashMap<>();
     body.put("users", userIds);
 
-    String url = baseUrl
+    HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId)
         .addEncodedPathSegments("users")
-        .build()
-        .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "POST");
-    request.addHeader("Authorization", "Bearer " + apiToken);
+        .build();
+    VoidRequest request = new VoidRequest(this.client, url, "POST", codec);
+    request.addHeader("Authorization", authorization);
     request.setBody(body);
     return request;
   }
@@ -227,9 +224,9 @@ public class RolesEntity extends BaseManagementEntity {
         builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
       }
     }
-    String url = builder.build().toString();
-    CustomRequest<PermissionsPage> request = new CustomRequest<>(this.client, url, "GET", new TypeReference<PermissionsPage>() {});
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    HttpUrl url = builder.build();
+    CustomRequest<PermissionsPage> request = new CustomRequest<>(this.client, url, "GET", codec, new TypeReference<PermissionsPage>() {});
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -249,16 +246,15 @@ public class RolesEntity extends BaseManagementEntity {
     Map<String, List<Permission>> body = new HashMap<>();
     body.put("permissions", permissions);
 
-    final String url = baseUrl
+    final HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId)
         .addEncodedPathSegments("permissions")
-        .build()
-        .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+        .build();
+    VoidRequest request = new VoidRequest(this.client, url, "DELETE", codec);
     request.setBody(body);
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    request.addHeader("Authorization", authorization);
     return request;
   }
 
@@ -279,16 +275,15 @@ public class RolesEntity extends BaseManagementEntity {
     Map<String, List<Permission>> body = new HashMap<>();
     body.put("permissions", permissions);
 
-    final String url = baseUrl
+    final HttpUrl url = baseUrl
         .newBuilder()
         .addEncodedPathSegments("api/v2/roles")
         .addEncodedPathSegments(roleId)
         .addEncodedPathSegments("permissions")
-        .build()
-        .toString();
-    VoidRequest request = new VoidRequest(this.client, url, "POST");
+        .build();
+    VoidRequest request = new VoidRequest(this.client, url, "POST", codec);
     request.setBody(body);
-    request.addHeader("Authorization", "Bearer " + apiToken);
+    request.addHeader("Authorization", authorization);
     return request;
   }
 }
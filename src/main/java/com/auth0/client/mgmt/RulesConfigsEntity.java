@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.RulesConfig;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -21,8 +22,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class RulesConfigsEntity extends BaseManagementEntity {
 
-    RulesConfigsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    RulesConfigsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -37,10 +38,10 @@ public class RulesConfigsEntity extends BaseManagementEntity {
         HttpUrl.Builder builder = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules-configs");
-        String url = builder.build().toString();
-        CustomRequest<List<RulesConfig>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<RulesConfig>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<RulesConfig>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<RulesConfig>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -54,14 +55,13 @@ public class RulesConfigsEntity extends BaseManagementEntity {
     public Request<Void> delete(String rulesConfigKey) {
         Asserts.assertNotNull(rulesConfigKey, "rules config key");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules-configs")
                 .addPathSegment(rulesConfigKey)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -77,15 +77,14 @@ public class RulesConfigsEntity extends BaseManagementEntity {
         Asserts.assertNotNull(rulesConfigKey, "rules config key");
         Asserts.assertNotNull(rulesConfig, "rules config");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules-configs")
                 .addPathSegment(rulesConfigKey)
-                .build()
-                .toString();
-        CustomRequest<RulesConfig> request = new CustomRequest<>(this.client, url, "PUT", new TypeReference<RulesConfig>() {
+                .build();
+        CustomRequest<RulesConfig> request = new CustomRequest<>(this.client, url, "PUT", codec, new TypeReference<RulesConfig>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(rulesConfig);
         return request;
     }
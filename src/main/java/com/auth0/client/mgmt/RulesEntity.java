@@ -4,6 +4,7 @@ import com.auth0.client.mgmt.filter.RulesFilter;
 import com.auth0.json.mgmt.Rule;
 import com.auth0.json.mgmt.RulesPage;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -24,8 +25,8 @@ import java.util.Map;
 @SuppressWarnings("WeakerAccess")
 public class RulesEntity extends BaseManagementEntity {
 
-    RulesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    RulesEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -44,10 +45,10 @@ public class RulesEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<RulesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RulesPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<RulesPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<RulesPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -73,10 +74,10 @@ public class RulesEntity extends BaseManagementEntity {
                 }
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<List<Rule>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Rule>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<Rule>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Rule>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -100,10 +101,10 @@ public class RulesEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<Rule> request = new CustomRequest<>(client, url, "GET", new TypeReference<Rule>() {
+        HttpUrl url = builder.build();
+        CustomRequest<Rule> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Rule>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -117,14 +118,13 @@ public class RulesEntity extends BaseManagementEntity {
     public Request<Rule> create(Rule rule) {
         Asserts.assertNotNull(rule, "rule");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules")
-                .build()
-                .toString();
-        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<Rule>() {
+                .build();
+        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<Rule>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(rule);
         return request;
     }
@@ -139,14 +139,13 @@ public class RulesEntity extends BaseManagementEntity {
     public Request<Void> delete(String ruleId) {
         Asserts.assertNotNull(ruleId, "rule id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules")
                 .addPathSegment(ruleId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -162,15 +161,14 @@ public class RulesEntity extends BaseManagementEntity {
         Asserts.assertNotNull(ruleId, "rule id");
         Asserts.assertNotNull(rule, "rule");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/rules")
                 .addPathSegment(ruleId)
-                .build()
-                .toString();
-        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<Rule>() {
+                .build();
+        CustomRequest<Rule> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<Rule>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(rule);
         return request;
     }
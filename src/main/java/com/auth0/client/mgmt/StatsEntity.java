@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.DailyStats;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.utils.Asserts;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -22,8 +23,8 @@ import java.util.List;
 @SuppressWarnings("WeakerAccess")
 public class StatsEntity extends BaseManagementEntity {
 
-    StatsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    StatsEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -33,15 +34,14 @@ public class StatsEntity extends BaseManagementEntity {
      * @return a Request to execute.
      */
     public Request<Integer> getActiveUsersCount() {
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/stats/active-users")
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<Integer> request = new CustomRequest<>(client, url, "GET", new TypeReference<Integer>() {
+        CustomRequest<Integer> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<Integer>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -59,17 +59,16 @@ public class StatsEntity extends BaseManagementEntity {
 
         String dateFrom = formatDate(from);
         String dateTo = formatDate(to);
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/stats/daily")
                 .addQueryParameter("from", dateFrom)
                 .addQueryParameter("to", dateTo)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<DailyStats>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<DailyStats>>() {
+        CustomRequest<List<DailyStats>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<DailyStats>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -0,0 +1,31 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.exception.Auth0Exception;
+
+/**
+ * Provides the API tokens a {@link ManagementAPI} authenticates its requests with, so that expiring tokens can be
+ * renewed without creating a new client or calling {@link ManagementAPI#setApiToken(String)}.
+ * See {@link ManagementAPI#newBuilder(String, TokenProvider)} and
+ * {@link ClientCredentialsTokenProvider}.
+ * <p>
+ * Implementations must be thread-safe, as a token is obtained for every request, on the threads executing them.
+ */
+public interface TokenProvider {
+
+    /**
+     * Obtains the token to authenticate a request with.
+     *
+     * @return the API token.
+     * @throws Auth0Exception if the token could not be obtained.
+     */
+    String getToken() throws Auth0Exception;
+
+    /**
+     * Called when the Management API rejected a token as invalid, before obtaining a token again to retry the request
+     * once. Implementations that hold on to tokens should discard the given one, unless it was already replaced.
+     *
+     * @param token the rejected token.
+     */
+    default void invalidate(String token) {
+    }
+}
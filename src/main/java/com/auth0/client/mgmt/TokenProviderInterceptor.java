@@ -0,0 +1,59 @@
+package com.auth0.client.mgmt;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that authenticates every request with a token obtained from a
+ * {@link TokenProvider}. When the token is rejected (401), the provider is asked for a new one and the request is
+ * retried once with it.
+ * <p>
+ * See {@link ManagementAPI#newBuilder(String, TokenProvider)}.
+ * <p>
+ * This class is thread-safe.
+ */
+final class TokenProviderInterceptor implements Interceptor {
+
+    private static final int STATUS_CODE_UNAUTHORIZED = 401;
+
+    private final TokenProvider tokenProvider;
+
+    TokenProviderInterceptor(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        String token = tokenProvider.getToken();
+        Response response = chain.proceed(authorize(chain.request(), token));
+        if (response.code() != STATUS_CODE_UNAUTHORIZED) {
+            return response;
+        }
+
+        String renewed;
+        try {
+            tokenProvider.invalidate(token);
+            renewed = tokenProvider.getToken();
+        } catch (IOException | RuntimeException e) {
+            response.close();
+            throw e;
+        }
+        if (renewed.equals(token)) {
+            // retrying with the same token would be rejected again
+            return response;
+        }
+        response.close();
+        return chain.proceed(authorize(chain.request(), renewed));
+    }
+
+    private static Request authorize(Request request, String token) {
+        return request.newBuilder()
+                .header("Authorization", "Bearer " + token)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.auth0.client.mgmt;
 
 import com.auth0.json.mgmt.userblocks.UserBlocks;
 import com.auth0.net.CustomRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -19,8 +20,8 @@ import okhttp3.OkHttpClient;
 @SuppressWarnings("WeakerAccess")
 public class UserBlocksEntity extends BaseManagementEntity {
 
-    UserBlocksEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    UserBlocksEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -33,15 +34,14 @@ public class UserBlocksEntity extends BaseManagementEntity {
     public Request<UserBlocks> getByIdentifier(String identifier) {
         Asserts.assertNotNull(identifier, "identifier");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/user-blocks")
                 .addQueryParameter("identifier", identifier)
-                .build()
-                .toString();
-        CustomRequest<UserBlocks> request = new CustomRequest<>(client, url, "GET", new TypeReference<UserBlocks>() {
+                .build();
+        CustomRequest<UserBlocks> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<UserBlocks>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -55,14 +55,13 @@ public class UserBlocksEntity extends BaseManagementEntity {
     public Request<Void> deleteByIdentifier(String identifier) {
         Asserts.assertNotNull(identifier, "identifier");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/user-blocks")
                 .addQueryParameter("identifier", identifier)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -76,15 +75,14 @@ public class UserBlocksEntity extends BaseManagementEntity {
     public Request<UserBlocks> get(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/user-blocks")
                 .addPathSegment(userId)
-                .build()
-                .toString();
-        CustomRequest<UserBlocks> request = new CustomRequest<>(client, url, "GET", new TypeReference<UserBlocks>() {
+                .build();
+        CustomRequest<UserBlocks> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<UserBlocks>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -98,14 +96,13 @@ public class UserBlocksEntity extends BaseManagementEntity {
     public Request<Void> delete(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/user-blocks")
                 .addPathSegment(userId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 }
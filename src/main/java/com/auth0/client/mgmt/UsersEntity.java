@@ -13,6 +13,7 @@ import com.auth0.json.mgmt.users.User;
 import com.auth0.json.mgmt.users.UsersPage;
 import com.auth0.net.CustomRequest;
 import com.auth0.net.EmptyBodyRequest;
+import com.auth0.net.JsonCodec;
 import com.auth0.net.Request;
 import com.auth0.net.VoidRequest;
 import com.auth0.utils.Asserts;
@@ -36,8 +37,8 @@ import static com.auth0.client.mgmt.filter.QueryFilter.KEY_QUERY;
 @SuppressWarnings("WeakerAccess")
 public class UsersEntity extends BaseManagementEntity {
 
-    UsersEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken) {
-        super(client, baseUrl, apiToken);
+    UsersEntity(OkHttpClient client, HttpUrl baseUrl, String apiToken, JsonCodec codec) {
+        super(client, baseUrl, apiToken, codec);
     }
 
     /**
@@ -63,10 +64,10 @@ public class UsersEntity extends BaseManagementEntity {
             }
         }
 
-        String url = builder.build().toString();
-        CustomRequest<List<User>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<User>>() {
+        HttpUrl url = builder.build();
+        CustomRequest<List<User>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<User>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -84,10 +85,10 @@ public class UsersEntity extends BaseManagementEntity {
                 .newBuilder()
                 .addPathSegments("api/v2/users");
         encodeAndAddQueryParam(builder, filter);
-        String url = builder.build().toString();
-        CustomRequest<UsersPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<UsersPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<UsersPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<UsersPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -113,10 +114,10 @@ public class UsersEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<User> request = new CustomRequest<>(client, url, "GET", new TypeReference<User>() {
+        HttpUrl url = builder.build();
+        CustomRequest<User> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<User>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -131,14 +132,13 @@ public class UsersEntity extends BaseManagementEntity {
     public Request<User> create(User user) {
         Asserts.assertNotNull(user, "user");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
-                .build()
-                .toString();
-        CustomRequest<User> request = new CustomRequest<>(this.client, url, "POST", new TypeReference<User>() {
+                .build();
+        CustomRequest<User> request = new CustomRequest<>(this.client, url, "POST", codec, new TypeReference<User>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(user);
         return request;
     }
@@ -154,14 +154,13 @@ public class UsersEntity extends BaseManagementEntity {
     public Request<Void> delete(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(userId)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -179,15 +178,14 @@ public class UsersEntity extends BaseManagementEntity {
         Asserts.assertNotNull(userId, "user id");
         Asserts.assertNotNull(user, "user");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(userId)
-                .build()
-                .toString();
-        CustomRequest<User> request = new CustomRequest<>(this.client, url, "PATCH", new TypeReference<User>() {
+                .build();
+        CustomRequest<User> request = new CustomRequest<>(this.client, url, "PATCH", codec, new TypeReference<User>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.setBody(user);
         return request;
     }
@@ -203,17 +201,16 @@ public class UsersEntity extends BaseManagementEntity {
     public Request<List<Enrollment>> getEnrollments(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(userId)
                 .addPathSegment("enrollments")
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<Enrollment>> request = new CustomRequest<>(client, url, "GET", new TypeReference<List<Enrollment>>() {
+        CustomRequest<List<Enrollment>> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<List<Enrollment>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -236,10 +233,10 @@ public class UsersEntity extends BaseManagementEntity {
                 .addPathSegment("logs");
 
         encodeAndAddQueryParam(builder, filter);
-        String url = builder.build().toString();
-        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<LogEventsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<LogEventsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<LogEventsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -273,16 +270,15 @@ public class UsersEntity extends BaseManagementEntity {
         Asserts.assertNotNull(userId, "user id");
         Asserts.assertNotNull(provider, "provider");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(userId)
                 .addPathSegment("multifactor")
                 .addPathSegment(provider)
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(client, url, "DELETE");
-        request.addHeader("Authorization", "Bearer " + apiToken);
+                .build();
+        VoidRequest request = new VoidRequest(client, url, "DELETE", codec);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -297,17 +293,16 @@ public class UsersEntity extends BaseManagementEntity {
     public Request<RecoveryCode> rotateRecoveryCode(String userId) {
         Asserts.assertNotNull(userId, "user id");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(userId)
                 .addPathSegment("recovery-code-regeneration")
-                .build()
-                .toString();
+                .build();
 
-        EmptyBodyRequest<RecoveryCode> request = new EmptyBodyRequest<>(client, url, "POST", new TypeReference<RecoveryCode>() {
+        EmptyBodyRequest<RecoveryCode> request = new EmptyBodyRequest<>(client, url, "POST", codec, new TypeReference<RecoveryCode>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -327,17 +322,16 @@ public class UsersEntity extends BaseManagementEntity {
         Asserts.assertNotNull(secondaryUserId, "secondary user id");
         Asserts.assertNotNull(provider, "provider");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(primaryUserId)
                 .addPathSegment("identities")
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<List<Identity>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.addParameter("provider", provider);
         request.addParameter("user_id", secondaryUserId);
         if (connectionId != null) {
@@ -359,17 +353,16 @@ public class UsersEntity extends BaseManagementEntity {
         Asserts.assertNotNull(primaryUserId, "primary user id");
         Asserts.assertNotNull(secondaryIdToken, "secondary id token");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(primaryUserId)
                 .addPathSegment("identities")
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "POST", codec, new TypeReference<List<Identity>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         request.addParameter("link_with", secondaryIdToken);
 
         return request;
@@ -390,19 +383,18 @@ public class UsersEntity extends BaseManagementEntity {
         Asserts.assertNotNull(secondaryUserId, "secondary user id");
         Asserts.assertNotNull(provider, "provider");
 
-        String url = baseUrl
+        HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegment(primaryUserId)
                 .addPathSegment("identities")
                 .addPathSegment(provider)
                 .addPathSegment(secondaryUserId)
-                .build()
-                .toString();
+                .build();
 
-        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "DELETE", new TypeReference<List<Identity>>() {
+        CustomRequest<List<Identity>> request = new CustomRequest<>(client, url, "DELETE", codec, new TypeReference<List<Identity>>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -427,10 +419,10 @@ public class UsersEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<PermissionsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<PermissionsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<PermissionsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<PermissionsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -451,16 +443,15 @@ public class UsersEntity extends BaseManagementEntity {
         Map<String, List<Permission>> body = new HashMap<>();
         body.put("permissions", permissions);
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegments(userId)
                 .addPathSegments("permissions")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+                .build();
+        VoidRequest request = new VoidRequest(this.client, url, "DELETE", codec);
         request.setBody(body);
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -480,16 +471,15 @@ public class UsersEntity extends BaseManagementEntity {
         Map<String, List<Permission>> body = new HashMap<>();
         body.put("permissions", permissions);
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegments(userId)
                 .addPathSegments("permissions")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "POST");
+                .build();
+        VoidRequest request = new VoidRequest(this.client, url, "POST", codec);
         request.setBody(body);
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -514,10 +504,10 @@ public class UsersEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<RolesPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<RolesPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<RolesPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -538,16 +528,15 @@ public class UsersEntity extends BaseManagementEntity {
         Map<String, List<String>> body = new HashMap<>();
         body.put("roles", roleIds);
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegments(userId)
                 .addPathSegments("roles")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "DELETE");
+                .build();
+        VoidRequest request = new VoidRequest(this.client, url, "DELETE", codec);
         request.setBody(body);
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -567,16 +556,15 @@ public class UsersEntity extends BaseManagementEntity {
         Map<String, List<String>> body = new HashMap<>();
         body.put("roles", roleIds);
 
-        final String url = baseUrl
+        final HttpUrl url = baseUrl
                 .newBuilder()
                 .addPathSegments("api/v2/users")
                 .addPathSegments(userId)
                 .addPathSegments("roles")
-                .build()
-                .toString();
-        VoidRequest request = new VoidRequest(this.client, url, "POST");
+                .build();
+        VoidRequest request = new VoidRequest(this.client, url, "POST", codec);
         request.setBody(body);
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
@@ -604,10 +592,10 @@ public class UsersEntity extends BaseManagementEntity {
                 builder.addQueryParameter(e.getKey(), String.valueOf(e.getValue()));
             }
         }
-        String url = builder.build().toString();
-        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", new TypeReference<OrganizationsPage>() {
+        HttpUrl url = builder.build();
+        CustomRequest<OrganizationsPage> request = new CustomRequest<>(client, url, "GET", codec, new TypeReference<OrganizationsPage>() {
         });
-        request.addHeader("Authorization", "Bearer " + apiToken);
+        request.addHeader("Authorization", authorization);
         return request;
     }
 
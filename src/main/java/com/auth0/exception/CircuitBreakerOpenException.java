@@ -0,0 +1,25 @@
+package com.auth0.exception;
+
+/**
+ * Represents a request that was not sent because the circuit breaker of its endpoint family is open, after too many
+ * consecutive server errors or timeouts.
+ * <p>
+ * See {@link com.auth0.client.CircuitBreakerOptions}.
+ */
+public class CircuitBreakerOpenException extends Auth0Exception {
+
+    private final String endpointFamily;
+
+    public CircuitBreakerOpenException(String endpointFamily) {
+        super(String.format("The circuit breaker of the '%s' endpoints is open", endpointFamily));
+        this.endpointFamily = endpointFamily;
+    }
+
+    /**
+     * Getter for the endpoint family whose circuit breaker is open.
+     * @return the endpoint family, for example {@code jobs}.
+     */
+    public String getEndpointFamily() {
+        return endpointFamily;
+    }
+}
@@ -1,12 +1,11 @@
 package com.auth0.json.mgmt;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
-import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.fasterxml.jackson.databind.type.CollectionType;
 
 import java.io.IOException;
 import java.util.List;
@@ -14,6 +13,9 @@ import java.util.List;
 /**
  * Parses a given paged response into their page pojo representation.
  * <p>
+ * The payload is read in a single pass over the parser's tokens: the paging fields are read as they are found and
+ * the items are bound using the deserializers of the mapper that is reading the page.
+ * <p>
  * This class is thread-safe.
  *
  * @param <T> the class that represents a page of U.
@@ -23,7 +25,6 @@ public abstract class PageDeserializer<T, U> extends StdDeserializer<T> {
 
     private final String itemsPropertyName;
     private final Class<U> uClazz;
-    private static final ObjectMapper mapper = new ObjectMapper();
 
     protected PageDeserializer(Class<U> clazz, String arrayName) {
         super(Object.class);
@@ -32,23 +33,54 @@ public abstract class PageDeserializer<T, U> extends StdDeserializer<T> {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public T deserialize(JsonParser p, DeserializationContext ctx) throws IOException {
-        JsonNode node = p.getCodec().readTree(p);
-        if (node.isArray()) {
-            return createPage(getArrayElements((ArrayNode) node));
+        if (p.currentToken() == JsonToken.START_ARRAY) {
+            return createPage(readItems(p, ctx));
+        }
+        if (p.currentToken() != JsonToken.START_OBJECT && p.currentToken() != JsonToken.FIELD_NAME) {
+            return (T) ctx.handleUnexpectedToken(handledType(), p);
         }
 
-        Integer start = getIntegerValue(node.get("start"));
-        Integer length = getIntegerValue(node.get("length"));
-        Integer total = getIntegerValue(node.get("total"));
-        Integer limit = getIntegerValue(node.get("limit"));
-
+        Integer start = null;
+        Integer length = null;
+        Integer total = null;
+        Integer limit = null;
         // "next" field is sent when using checkpoint pagination on APIs that support it. It will be null when
         // end of pages reached, or if offset paging is used
-        String next = getStringValue(node.get("next"));
-        ArrayNode array = (ArrayNode) node.get(itemsPropertyName);
+        String next = null;
+        List<U> items = null;
+
+        JsonToken token = p.currentToken() == JsonToken.START_OBJECT ? p.nextToken() : p.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = p.nextToken()) {
+            String name = p.getCurrentName();
+            p.nextToken();
+            if (itemsPropertyName.equals(name)) {
+                items = readItems(p, ctx);
+                continue;
+            }
+            switch (name) {
+                case "start":
+                    start = getIntegerValue(p);
+                    break;
+                case "length":
+                    length = getIntegerValue(p);
+                    break;
+                case "total":
+                    total = getIntegerValue(p);
+                    break;
+                case "limit":
+                    limit = getIntegerValue(p);
+                    break;
+                case "next":
+                    next = getStringValue(p);
+                    break;
+                default:
+                    p.skipChildren();
+            }
+        }
 
-        return createPage(start, length, total, limit, next, getArrayElements(array));
+        return createPage(start, length, total, limit, next, items);
     }
 
     protected abstract T createPage(List<U> items);
@@ -65,24 +97,33 @@ public abstract class PageDeserializer<T, U> extends StdDeserializer<T> {
         return createPage(start, length, total, limit, items);
     }
 
-    private Integer getIntegerValue(JsonNode node) {
-        if (node == null || node.isNull()) {
+    private Integer getIntegerValue(JsonParser p) throws IOException {
+        JsonToken token = p.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
             return null;
-        } else {
-            return node.intValue();
         }
+        if (token.isNumeric()) {
+            return p.getIntValue();
+        }
+        p.skipChildren();
+        return 0;
     }
 
-    private String getStringValue(JsonNode node) {
-        if (node == null || node.isNull()) {
-            return null;
-        } else {
-            return node.textValue();
+    private String getStringValue(JsonParser p) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_STRING) {
+            return p.getText();
         }
+        p.skipChildren();
+        return null;
     }
 
-    private List<U> getArrayElements(ArrayNode array) throws IOException {
-        CollectionType type = mapper.getTypeFactory().constructCollectionType(List.class, uClazz);
-        return mapper.readerFor(type).readValue(array);
+    @SuppressWarnings("unchecked")
+    private List<U> readItems(JsonParser p, DeserializationContext ctx) throws IOException {
+        if (p.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        JavaType type = ctx.getTypeFactory().constructCollectionType(List.class, uClazz);
+        JsonDeserializer<Object> deserializer = ctx.findRootValueDeserializer(type);
+        return (List<U>) deserializer.deserialize(p, ctx);
     }
 }
@@ -0,0 +1,314 @@
+package com.auth0.net;
+
+import com.auth0.net.metrics.EndpointTemplate;
+import okhttp3.Call;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that limits the number of requests in flight with a limit that adapts to how
+ * the server responds, following an additive-increase/multiplicative-decrease (AIMD) scheme.
+ * <p>
+ * While the latency of each endpoint stays within twice its recent minimum and the limit is being used, the limit
+ * grows by one for every limit's worth of successful responses, which is roughly once per round trip. It shrinks by
+ * 10% when the latency inflates beyond that or a request times out, and by half when a request is rate-limited
+ * (429). The limit never goes below one nor above the configured maximum, and at most one decrease is applied for
+ * the requests that were already in flight when the previous one was, so that a burst of slow or rate-limited
+ * responses to concurrent requests does not collapse it.
+ * <p>
+ * Asynchronous requests reserve a slot with {@link #reserve(Consumer)} before they are enqueued, so that those over
+ * the limit wait for one without holding a dispatcher thread, and are enqueued by the request that frees it.
+ * Synchronous requests, and the attempts sent again within the same call, wait for a slot on the thread executing
+ * them, before being sent. It is meant to be added
+ * after the {@link RateLimitInterceptor}, so that each attempt is limited and reported separately, and after the
+ * {@link RateLimitGovernor}, so that requests do not hold a slot while being paced. All the requests of a client go
+ * to the same host, so a single limit applies to all of them.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setAdaptiveConcurrencyEnabled(boolean)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class AdaptiveConcurrencyLimiter implements Interceptor {
+
+    static final double LATENCY_TOLERANCE = 2.0D;
+    static final double BACKOFF_RATIO = 0.9D;
+    static final double RATE_LIMITED_BACKOFF_RATIO = 0.5D;
+    static final int BASELINE_WINDOW = 100;
+    static final long MIN_INFLATION_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long CANCEL_CHECK_INTERVAL_MILLIS = 100L;
+
+    private final int maxLimit;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Baseline> baselines = new ConcurrentHashMap<>();
+    private final Object lock = new Object();
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private double limit;
+    private int inFlight;
+    private long lastDecreaseAt;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param initialLimit the number of requests allowed in flight at first. Must be between one and the maximum.
+     * @param maxLimit     the maximum number of requests allowed in flight.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit) {
+        this(initialLimit, maxLimit, System::nanoTime);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     *
+     * @param initialLimit the number of requests allowed in flight at first.
+     * @param maxLimit     the maximum number of requests allowed in flight.
+     * @param clock        the source of the current time, in nanoseconds.
+     */
+    AdaptiveConcurrencyLimiter(int initialLimit, int maxLimit, LongSupplier clock) {
+        if (initialLimit < 1 || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("initialLimit must be between one and maxLimit.");
+        }
+        this.maxLimit = maxLimit;
+        this.clock = clock;
+        this.limit = initialLimit;
+        this.lastDecreaseAt = clock.getAsLong();
+    }
+
+    /**
+     * @return the number of requests currently allowed in flight.
+     */
+    public int getLimit() {
+        synchronized (lock) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * @return the number of requests currently in flight.
+     */
+    public int getInFlight() {
+        synchronized (lock) {
+            return inFlight;
+        }
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Slot slot = chain.request().tag(Slot.class);
+        long startedAt = slot != null && slot.claim() ? clock.getAsLong() : acquire(chain.call());
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            // cancelled calls say nothing about the server, but timeouts do
+            boolean timedOut = e instanceof InterruptedIOException && !chain.call().isCanceled();
+            onDropped(startedAt, timedOut);
+            throw e;
+        }
+        if (response.networkResponse() == null) {
+            // served from the response cache, its latency would skew the baseline
+            onDropped(startedAt, false);
+        } else {
+            onResponse(EndpointTemplate.of(chain.request()), startedAt, response.code());
+        }
+        return response;
+    }
+
+    /**
+     * Waits for a request to fit within the limit, and counts it as in flight.
+     *
+     * @param call the call waiting, so that it stops waiting once cancelled, or null.
+     * @return the time the request was let through, in nanoseconds.
+     * @throws IOException if the call was cancelled or the thread interrupted while waiting.
+     */
+    long acquire(Call call) throws IOException {
+        synchronized (lock) {
+            while (inFlight >= (int) limit) {
+                if (call != null && call.isCanceled()) {
+                    throw new IOException("Canceled");
+                }
+                try {
+                    lock.wait(CANCEL_CHECK_INTERVAL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new InterruptedIOException("Interrupted while waiting for a concurrency slot.");
+                }
+            }
+            inFlight++;
+            return clock.getAsLong();
+        }
+    }
+
+    /**
+     * Reserves a slot for an asynchronous request about to be enqueued, without waiting for one.
+     *
+     * @param onReserved the action to run with the slot: right away if one is free, otherwise on the thread of the
+     *                   request that frees one. The request must be tagged with the slot, or the slot released.
+     */
+    void reserve(Consumer<Slot> onReserved) {
+        Slot slot = new Slot();
+        synchronized (lock) {
+            if (inFlight >= (int) limit) {
+                waiting.add(() -> onReserved.accept(slot));
+                return;
+            }
+            inFlight++;
+        }
+        onReserved.accept(slot);
+    }
+
+    /**
+     * @return the number of asynchronous requests waiting for a slot.
+     */
+    int getWaiting() {
+        synchronized (lock) {
+            return waiting.size();
+        }
+    }
+
+    /**
+     * Releases the slot of a request that received a response, adjusting the limit to its latency and status.
+     *
+     * @param endpoint   the endpoint template of the request.
+     * @param startedAt  the time the request was let through, as returned by {@link #acquire(Call)}.
+     * @param statusCode the status code of the response.
+     */
+    void onResponse(String endpoint, long startedAt, int statusCode) {
+        Baseline baseline = baselines.computeIfAbsent(endpoint, k -> new Baseline());
+        List<Runnable> reserved;
+        synchronized (lock) {
+            long now = clock.getAsLong();
+            if (statusCode == 429) {
+                decrease(startedAt, now, RATE_LIMITED_BACKOFF_RATIO);
+            } else if (baseline.isInflated(now - startedAt)) {
+                decrease(startedAt, now, BACKOFF_RATIO);
+            } else if (inFlight >= limit / 2) {
+                limit = Math.min(maxLimit, limit + 1 / limit);
+            }
+            reserved = release();
+        }
+        run(reserved);
+    }
+
+    /**
+     * Releases the slot of a request that received no response from the network.
+     *
+     * @param startedAt the time the request was let through, as returned by {@link #acquire(Call)}.
+     * @param timedOut  whether the request timed out, as opposed to failing for another reason.
+     */
+    void onDropped(long startedAt, boolean timedOut) {
+        List<Runnable> reserved;
+        synchronized (lock) {
+            if (timedOut) {
+                decrease(startedAt, clock.getAsLong(), BACKOFF_RATIO);
+            }
+            reserved = release();
+        }
+        run(reserved);
+    }
+
+    private void decrease(long startedAt, long now, double ratio) {
+        if (startedAt - lastDecreaseAt < 0) {
+            // already in flight when the limit was last decreased
+            return;
+        }
+        limit = Math.max(1, limit * ratio);
+        lastDecreaseAt = now;
+    }
+
+    /**
+     * Frees a slot, handing the free slots to the asynchronous requests waiting first, as they hold no thread.
+     *
+     * @return the actions of the asynchronous requests the slots were handed to, to run once the lock is released.
+     */
+    private List<Runnable> release() {
+        inFlight--;
+        List<Runnable> reserved = Collections.emptyList();
+        while (!waiting.isEmpty() && inFlight < (int) limit) {
+            if (reserved.isEmpty()) {
+                reserved = new ArrayList<>();
+            }
+            reserved.add(waiting.poll());
+            inFlight++;
+        }
+        if (inFlight < (int) limit) {
+            lock.notifyAll();
+        }
+        return reserved;
+    }
+
+    private static void run(List<Runnable> reserved) {
+        for (Runnable action : reserved) {
+            action.run();
+        }
+    }
+
+    /**
+     * A slot reserved by {@link #reserve(Consumer)} for an asynchronous request, which claims it when it reaches the
+     * limiter. A slot that is never claimed must be released, for example when the request is served by a coalesced
+     * one or fails in an earlier interceptor.
+     */
+    final class Slot {
+        private final AtomicBoolean used = new AtomicBoolean();
+
+        boolean claim() {
+            return used.compareAndSet(false, true);
+        }
+
+        /**
+         * Releases the slot, unless the request it was reserved for already claimed it.
+         */
+        void release() {
+            if (used.compareAndSet(false, true)) {
+                List<Runnable> reserved;
+                synchronized (lock) {
+                    reserved = AdaptiveConcurrencyLimiter.this.release();
+                }
+                run(reserved);
+            }
+        }
+    }
+
+    /**
+     * The latency an endpoint responds with when it is not loaded: the minimum of the latencies of the last window of
+     * responses, or of the current window when it is lower. Each window covers {@link #BASELINE_WINDOW} responses, so
+     * that the baseline follows a server that becomes slower for good.
+     * <p>
+     * Only accessed while holding the limiter's lock.
+     */
+    private static final class Baseline {
+        private long min = Long.MAX_VALUE;
+        private long windowMin = Long.MAX_VALUE;
+        private int windowCount;
+
+        boolean isInflated(long latency) {
+            windowMin = Math.min(windowMin, latency);
+            min = Math.min(min, latency);
+            // tiny latencies vary by more than the tolerance without the server being loaded
+            boolean inflated = latency > min * LATENCY_TOLERANCE && latency - min > MIN_INFLATION_NANOS;
+            if (++windowCount == BASELINE_WINDOW) {
+                min = windowMin;
+                windowMin = Long.MAX_VALUE;
+                windowCount = 0;
+            }
+            return inflated;
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.auth0.net;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that adds the SHA-256 digest of the {@code Authorization} header of a request to
+ * it, so that the HTTP response cache can tell requests sent with different credentials apart without storing them.
+ * <p>
+ * Must be added as the last application interceptor, along with an {@link AuthorizationVaryInterceptor} as a network
+ * interceptor, which removes the digest before the request is sent and makes the cached response vary on it.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setResponseCacheOptions(com.auth0.client.ResponseCacheOptions)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class AuthorizationDigestInterceptor implements Interceptor {
+
+    static final String DIGEST_HEADER = "Auth0-Authorization-Digest";
+
+    /**
+     * The digest of the last credentials seen, as requests are usually all sent with the same.
+     */
+    private volatile Digest last;
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        String authorization = request.header("Authorization");
+        if (authorization == null) {
+            return chain.proceed(request);
+        }
+        return chain.proceed(request.newBuilder()
+                .header(DIGEST_HEADER, digestOf(authorization))
+                .build());
+    }
+
+    private String digestOf(String authorization) {
+        Digest digest = last;
+        if (digest == null || !digest.authorization.equals(authorization)) {
+            digest = new Digest(authorization);
+            last = digest;
+        }
+        return digest.value;
+    }
+
+    private static final class Digest {
+        final String authorization;
+        final String value;
+
+        Digest(String authorization) {
+            this.authorization = authorization;
+            try {
+                byte[] hash = MessageDigest.getInstance("SHA-256").digest(authorization.getBytes(StandardCharsets.UTF_8));
+                this.value = Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            } catch (NoSuchAlgorithmException e) {
+                // every Java platform is required to support SHA-256
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
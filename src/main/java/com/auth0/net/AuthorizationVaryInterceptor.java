@@ -0,0 +1,56 @@
+package com.auth0.net;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp network {@linkplain Interceptor} that makes the responses to requests carrying an {@code Authorization}
+ * header vary on the digest of it added by the {@link AuthorizationDigestInterceptor}.
+ * <p>
+ * The HTTP response cache is keyed by URL only, while the responses of the Management API depend on the token the
+ * request was sent with. A cached response is only returned to, or revalidated for, a request sent with the same
+ * credentials, and since the cache records the digest rather than the {@code Authorization} header itself, no
+ * credentials are written to it. The digest is removed from the request before it is sent.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setResponseCacheOptions(com.auth0.client.ResponseCacheOptions)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class AuthorizationVaryInterceptor implements Interceptor {
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        if (request.header(AuthorizationDigestInterceptor.DIGEST_HEADER) == null) {
+            return chain.proceed(request);
+        }
+        Response response = chain.proceed(request.newBuilder()
+                .removeHeader(AuthorizationDigestInterceptor.DIGEST_HEADER)
+                .build());
+        return response.newBuilder()
+                // the cache records the request headers its entries vary on from the request of the response
+                .request(request)
+                .header("Vary", vary(response.header("Vary")))
+                .build();
+    }
+
+    private static String vary(String vary) {
+        if (vary == null || vary.trim().isEmpty()) {
+            return AuthorizationDigestInterceptor.DIGEST_HEADER;
+        }
+        for (String field : vary.split(",")) {
+            String name = field.trim();
+            if (name.equals("*") || name.equalsIgnoreCase(AuthorizationDigestInterceptor.DIGEST_HEADER)) {
+                return vary;
+            }
+        }
+        return vary + ", " + AuthorizationDigestInterceptor.DIGEST_HEADER;
+    }
+}
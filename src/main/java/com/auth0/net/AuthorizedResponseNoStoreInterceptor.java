@@ -0,0 +1,36 @@
+package com.auth0.net;
+
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp network {@linkplain Interceptor} that keeps the responses to requests carrying an {@code Authorization}
+ * header out of the HTTP response cache.
+ * <p>
+ * The cache is keyed by URL only, while the responses of endpoints such as {@code /userinfo} depend on the credentials
+ * the request was sent with. Marking these responses {@code no-store} before they reach the cache ensures that they
+ * are neither returned to nor revalidated for a request sent with other credentials.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setResponseCacheOptions(com.auth0.client.ResponseCacheOptions)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class AuthorizedResponseNoStoreInterceptor implements Interceptor {
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        if (chain.request().header("Authorization") == null) {
+            return response;
+        }
+        return response.newBuilder()
+                .header("Cache-Control", "no-store")
+                .build();
+    }
+}
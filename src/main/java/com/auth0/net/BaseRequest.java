@@ -1,23 +1,62 @@
 package com.auth0.net;
 
 import com.auth0.exception.Auth0Exception;
+import com.auth0.net.metrics.EndpointTemplate;
+import com.auth0.net.metrics.MetricsRecorder;
+import com.auth0.utils.Asserts;
 import okhttp3.Call;
 import okhttp3.Callback;
+import okhttp3.Interceptor;
 import okhttp3.OkHttpClient;
 import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 public abstract class BaseRequest<T> implements Request<T> {
 
+    private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
+
     private final OkHttpClient client;
+    private long timeoutMillis;
 
     BaseRequest(OkHttpClient client) {
         this.client = client;
     }
 
+    /**
+     * Sets a deadline for this request, on top of the client's connect and read timeouts. The deadline spans the
+     * whole execution, including any rate-limit retries, and is enforced by cancelling the underlying HTTP call.
+     *
+     * @param timeout the maximum time the request can take, or zero to remove the deadline.
+     * @param unit    the unit of the timeout.
+     * @return this request instance.
+     */
+    @Override
+    public Request<T> setTimeout(long timeout, TimeUnit unit) {
+        if (timeout < 0) {
+            throw new IllegalArgumentException("timeout must be zero or greater.");
+        }
+        Asserts.assertNotNull(unit, "unit");
+        this.timeoutMillis = unit.toMillis(timeout);
+        return this;
+    }
+
+    /**
+     * @return the executor to parse asynchronous responses on, or null to parse them on the dispatcher thread.
+     */
+    Executor getDecodingExecutor() {
+        return null;
+    }
+
     protected abstract okhttp3.Request createRequest() throws Auth0Exception;
 
     protected abstract T parseResponse(Response response) throws Auth0Exception;
@@ -30,45 +69,299 @@ public abstract class BaseRequest<T> implements Request<T> {
      */
     @Override
     public T execute() throws Auth0Exception {
-        okhttp3.Request request = createRequest();
-        try (Response response = client.newCall(request).execute()) {
-            return parseResponse(response);
-        } catch (Auth0Exception e) {
-            throw e;
-        } catch (IOException e) {
-            throw new Auth0Exception("Failed to execute request", e);
+        ExchangeTrace trace = ExchangeTrace.start();
+        // the timeout spans the whole execution, including the time spent pacing
+        final long deadline = timeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0;
+        try {
+            okhttp3.Request request = trace.requestCreated(createRequest());
+            RateLimitGovernor governor = getInterceptor(RateLimitGovernor.class);
+            long pacing = governor == null ? 0 : governor.reserve(request);
+            if (pacing > 0) {
+                if (deadline != 0 && System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(pacing) >= deadline) {
+                    throw new Auth0Exception("Failed to execute request", new InterruptedIOException("timeout"));
+                }
+                // waited for on the calling thread, which is blocked until the response anyway
+                try {
+                    TimeUnit.MILLISECONDS.sleep(pacing);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new Auth0Exception("Failed to execute request", e);
+                }
+            }
+            Call call = client.newCall(request);
+            if (deadline != 0) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    throw new Auth0Exception("Failed to execute request", new InterruptedIOException("timeout"));
+                }
+                call.timeout().timeout(remaining, TimeUnit.MILLISECONDS);
+            }
+            try (Response response = call.execute()) {
+                trace.responseReceived(response.code());
+                trace.parseStarted();
+                T parsedResponse = parseResponse(response);
+                trace.parsed();
+                return parsedResponse;
+            } catch (Auth0Exception e) {
+                throw e;
+            } catch (IOException e) {
+                throw new Auth0Exception("Failed to execute request", e);
+            }
+        } finally {
+            trace.commit();
         }
     }
 
+    /**
+     * Executes this request asynchronously. Rate-limited responses are retried as configured in the client's
+     * {@link RateLimitInterceptor}, but the backoff between attempts is waited for on a timer rather than on
+     * a dispatcher thread, so other requests can be executed in the meantime.
+     * <p>
+     * Cancelling the returned future, or completing it by any other means, cancels the HTTP call in progress so that
+     * it stops holding a dispatcher slot and a connection.
+     * <p>
+     * If the client was configured with a decoding executor, the response is parsed and the future completed on it
+     * instead of on the dispatcher thread.
+     * <p>
+     * If the client was configured with a bounded request queue and it is full, the request is rejected, waited for
+     * or executed on the calling thread, according to the client's {@link com.auth0.client.QueueOverflowPolicy}.
+     *
+     * @return a {@linkplain CompletableFuture} representing the specified request.
+     */
     @Override
     public CompletableFuture<T> executeAsync() {
         final CompletableFuture<T> future = new CompletableFuture<T>();
 
+        final RequestQueueInterceptor.Ticket ticket;
+        RequestQueueInterceptor queue = getInterceptor(RequestQueueInterceptor.class);
+        if (queue == null) {
+            ticket = null;
+        } else {
+            try {
+                ticket = queue.enter();
+            } catch (RejectedExecutionException e) {
+                future.completeExceptionally(new Auth0Exception("Failed to execute request", e));
+                return future;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.completeExceptionally(new Auth0Exception("Failed to execute request", e));
+                return future;
+            }
+            if (ticket == null) {
+                // the queue is full and the caller runs the request
+                try {
+                    future.complete(execute());
+                } catch (Auth0Exception e) {
+                    future.completeExceptionally(e);
+                }
+                return future;
+            }
+        }
+
+        final ExchangeTrace trace = ExchangeTrace.start();
         okhttp3.Request request;
         try {
-            request = createRequest();
+            request = trace.requestCreated(createRequest());
         } catch (Auth0Exception e) {
+            leave(ticket);
+            trace.commit();
             future.completeExceptionally(e);
             return future;
+        } catch (RuntimeException e) {
+            leave(ticket);
+            throw e;
+        }
+
+        RateLimitInterceptor rateLimitInterceptor = getInterceptor(RateLimitInterceptor.class);
+        int maxRetries = rateLimitInterceptor == null ? 0 : rateLimitInterceptor.getMaxRetries();
+        MetricsRecorder metricsRecorder = rateLimitInterceptor == null ? null : rateLimitInterceptor.getMetricsRecorder();
+        if (maxRetries > 0 || ticket != null) {
+            okhttp3.Request.Builder builder = request.newBuilder();
+            if (maxRetries > 0) {
+                builder.tag(RateLimitInterceptor.AsyncRetries.class, RateLimitInterceptor.AsyncRetries.INSTANCE);
+            }
+            if (ticket != null) {
+                builder.tag(RequestQueueInterceptor.Ticket.class, ticket);
+            }
+            request = builder.build();
+        }
+        final long deadline = timeoutMillis > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis) : 0;
+        final AtomicReference<Call> current = new AtomicReference<>();
+        future.whenComplete((result, error) -> {
+            // reports executions that were cancelled or timed out, the others already were
+            trace.commit();
+            // frees the queue slot of requests completed before the dispatcher started them
+            leave(ticket);
+            Call call = current.get();
+            if (call != null) {
+                call.cancel();
+            }
+        });
+        if (ticket != null) {
+            ticket.queued();
+        }
+        enqueue(request, future, current, deadline, 0, maxRetries, metricsRecorder, trace);
+        return future;
+    }
+
+    /**
+     * Sends the request once the client's {@link RateLimitGovernor}, if any, allows it, waiting on a timer rather than
+     * on a dispatcher thread.
+     */
+    private void enqueue(final okhttp3.Request request, final CompletableFuture<T> future, final AtomicReference<Call> current,
+                         final long deadline, final int retries, final int maxRetries, final MetricsRecorder metricsRecorder,
+                         final ExchangeTrace trace) {
+        RateLimitGovernor governor = getInterceptor(RateLimitGovernor.class);
+        long pacing = governor == null ? 0 : governor.reserve(request);
+        if (pacing <= 0) {
+            send(request, future, current, deadline, retries, maxRetries, metricsRecorder, trace);
+            return;
         }
+        RetryScheduler.INSTANCE.schedule(() -> {
+            if (!future.isDone()) {
+                send(request, future, current, deadline, retries, maxRetries, metricsRecorder, trace);
+            }
+        }, pacing, TimeUnit.MILLISECONDS);
+    }
 
-        client.newCall(request).enqueue(new Callback() {
+    /**
+     * Sends the request once the client's {@link AdaptiveConcurrencyLimiter}, if any, has a slot for it, waiting for
+     * one here rather than on a dispatcher thread.
+     */
+    private void send(final okhttp3.Request request, final CompletableFuture<T> future, final AtomicReference<Call> current,
+                      final long deadline, final int retries, final int maxRetries, final MetricsRecorder metricsRecorder,
+                      final ExchangeTrace trace) {
+        AdaptiveConcurrencyLimiter limiter = getInterceptor(AdaptiveConcurrencyLimiter.class);
+        if (limiter == null) {
+            dispatch(request, null, future, current, deadline, retries, maxRetries, metricsRecorder, trace);
+            return;
+        }
+        limiter.reserve(slot -> {
+            if (future.isDone()) {
+                slot.release();
+                return;
+            }
+            okhttp3.Request slotted = request.newBuilder().tag(AdaptiveConcurrencyLimiter.Slot.class, slot).build();
+            dispatch(slotted, slot, future, current, deadline, retries, maxRetries, metricsRecorder, trace);
+        });
+    }
+
+    private void dispatch(final okhttp3.Request request, final AdaptiveConcurrencyLimiter.Slot slot,
+                          final CompletableFuture<T> future, final AtomicReference<Call> current, final long deadline,
+                          final int retries, final int maxRetries, final MetricsRecorder metricsRecorder,
+                          final ExchangeTrace trace) {
+        Call call = client.newCall(request);
+        if (deadline != 0) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remaining <= 0) {
+                release(slot);
+                future.completeExceptionally(new Auth0Exception("Failed to execute request", new InterruptedIOException("timeout")));
+                return;
+            }
+            call.timeout().timeout(remaining, TimeUnit.MILLISECONDS);
+        }
+        current.set(call);
+        if (future.isDone()) {
+            // completed before this call was published, so the completion handler could not cancel it
+            release(slot);
+            return;
+        }
+        call.enqueue(new Callback() {
             @Override
             public void onFailure(@NotNull Call call, @NotNull IOException e) {
-                future.completeExceptionally(new Auth0Exception("Failed to execute request", e));
+                release(slot);
+                trace.commit();
+                // interceptors can fail calls with an Auth0Exception, such as an open circuit breaker
+                future.completeExceptionally(e instanceof Auth0Exception ? e : new Auth0Exception("Failed to execute request", e));
             }
 
             @Override
             public void onResponse(@NotNull Call call, @NotNull Response response) throws IOException {
+                release(slot);
+                if (response.code() == STATUS_CODE_TOO_MANY_REQUEST && retries < maxRetries) {
+                    long delay = RateLimitInterceptor.backoffDelay(retries + 1);
+                    // past the deadline the rate-limit error is reported instead of retrying
+                    if (deadline == 0 || System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay) < deadline) {
+                        response.close();
+                        if (metricsRecorder != null) {
+                            metricsRecorder.recordRetry(EndpointTemplate.of(request));
+                        }
+                        trace.retried();
+                        RetryScheduler.INSTANCE.schedule(() -> {
+                            if (!future.isDone()) {
+                                enqueue(request, future, current, deadline, retries + 1, maxRetries, metricsRecorder, trace);
+                            }
+                        }, delay, TimeUnit.MILLISECONDS);
+                        return;
+                    }
+                }
+                trace.responseReceived(response.code());
+                Executor executor = getDecodingExecutor();
+                if (executor == null) {
+                    complete(response, future, trace);
+                    return;
+                }
                 try {
-                    T parsedResponse = parseResponse(response);
-                    future.complete(parsedResponse);
-                } catch (Auth0Exception e) {
-                    future.completeExceptionally(e);
+                    executor.execute(() -> complete(response, future, trace));
+                } catch (RejectedExecutionException e) {
+                    response.close();
+                    trace.commit();
+                    future.completeExceptionally(new Auth0Exception("Failed to execute request", e));
                 }
             }
         });
+    }
 
-        return future;
+    private void complete(Response response, CompletableFuture<T> future, ExchangeTrace trace) {
+        trace.parseStarted();
+        try {
+            T parsedResponse = parseResponse(response);
+            trace.parsed();
+            trace.commit();
+            future.complete(parsedResponse);
+        } catch (Auth0Exception e) {
+            trace.commit();
+            future.completeExceptionally(e);
+        } catch (RuntimeException e) {
+            response.close();
+            trace.commit();
+            future.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Releases the concurrency slot reserved for a request that did not reach the limiter, such as a request served
+     * by a coalesced one or failed by an earlier interceptor.
+     */
+    private static void release(AdaptiveConcurrencyLimiter.Slot slot) {
+        if (slot != null) {
+            slot.release();
+        }
+    }
+
+    private static void leave(RequestQueueInterceptor.Ticket ticket) {
+        if (ticket != null) {
+            ticket.leave();
+        }
+    }
+
+    private <I extends Interceptor> I getInterceptor(Class<I> type) {
+        for (Interceptor interceptor : client.interceptors()) {
+            if (type.isInstance(interceptor)) {
+                return type.cast(interceptor);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Lazily started timer on which asynchronous requests wait for their rate-limit backoff or pacing to elapse.
+     */
+    private static final class RetryScheduler {
+        static final ScheduledExecutorService INSTANCE = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "auth0-rate-limit-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 }
@@ -0,0 +1,183 @@
+package com.auth0.net;
+
+import com.auth0.client.CircuitBreakerListener;
+import com.auth0.client.CircuitBreakerState;
+import com.auth0.exception.CircuitBreakerOpenException;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that keeps a circuit breaker for each endpoint family, and fails the requests
+ * to a family with a {@link CircuitBreakerOpenException} while its circuit is open, instead of sending them.
+ * <p>
+ * Endpoint families are the same as the ones the {@link RateLimitGovernor} tracks. It is meant to be added before the
+ * {@link RateLimitInterceptor}, so that requests failing fast are not retried, and so that a request and its
+ * rate-limit retries count as a single outcome. Cancelled requests are not counted.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setCircuitBreakerOptions(com.auth0.client.CircuitBreakerOptions)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class CircuitBreakerInterceptor implements Interceptor {
+
+    private final int failureThreshold;
+    private final long cooldownMillis;
+    private final CircuitBreakerListener listener;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Circuit> circuits;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param failureThreshold the number of consecutive failures that open a circuit.
+     * @param cooldownMillis   how long a circuit stays open before a probe request is sent, in milliseconds.
+     * @param listener         the listener to notify of state transitions, or null.
+     */
+    public CircuitBreakerInterceptor(int failureThreshold, long cooldownMillis, CircuitBreakerListener listener) {
+        this(failureThreshold, cooldownMillis, listener, System::currentTimeMillis);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     *
+     * @param failureThreshold the number of consecutive failures that open a circuit.
+     * @param cooldownMillis   how long a circuit stays open before a probe request is sent, in milliseconds.
+     * @param listener         the listener to notify of state transitions, or null.
+     * @param clock            the source of the current time, in milliseconds.
+     */
+    CircuitBreakerInterceptor(int failureThreshold, long cooldownMillis, CircuitBreakerListener listener, LongSupplier clock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("failureThreshold must be one or greater.");
+        }
+        if (cooldownMillis < 0) {
+            throw new IllegalArgumentException("cooldownMillis must be zero or greater.");
+        }
+        this.failureThreshold = failureThreshold;
+        this.cooldownMillis = cooldownMillis;
+        this.listener = listener;
+        this.clock = clock;
+        this.circuits = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @param endpointFamily the endpoint family, e.g. "jobs".
+     * @return the state of the circuit of the endpoint family.
+     */
+    public CircuitBreakerState getState(String endpointFamily) {
+        Circuit circuit = circuits.get(endpointFamily);
+        return circuit == null ? CircuitBreakerState.CLOSED : circuit.getState();
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        String family = RateLimitGovernor.endpointFamily(chain.request().url());
+        Circuit circuit = circuits.computeIfAbsent(family, Circuit::new);
+
+        Admission admission = circuit.admit();
+        if (admission == Admission.REJECTED) {
+            throw new CircuitBreakerOpenException(family);
+        }
+        Response response;
+        try {
+            response = chain.proceed(chain.request());
+        } catch (IOException | RuntimeException e) {
+            if (chain.call().isCanceled()) {
+                circuit.cancelled(admission);
+            } else {
+                circuit.completed(admission, false);
+            }
+            throw e;
+        }
+        circuit.completed(admission, response.code() < 500);
+        return response;
+    }
+
+    private enum Admission {
+        SENT, PROBE, REJECTED
+    }
+
+    /**
+     * The circuit breaker of a single endpoint family. Listeners are notified after its lock is released.
+     */
+    private final class Circuit {
+        private final String family;
+        private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+        private int failures;
+        private long openedAt;
+        private boolean probing;
+
+        Circuit(String family) {
+            this.family = family;
+        }
+
+        synchronized CircuitBreakerState getState() {
+            return state;
+        }
+
+        Admission admit() {
+            synchronized (this) {
+                if (state == CircuitBreakerState.CLOSED) {
+                    return Admission.SENT;
+                }
+                if (probing || (state == CircuitBreakerState.OPEN && clock.getAsLong() - openedAt < cooldownMillis)) {
+                    return Admission.REJECTED;
+                }
+                probing = true;
+                if (state == CircuitBreakerState.HALF_OPEN) {
+                    // the previous probe was cancelled
+                    return Admission.PROBE;
+                }
+                state = CircuitBreakerState.HALF_OPEN;
+            }
+            notifyListener(CircuitBreakerState.OPEN, CircuitBreakerState.HALF_OPEN);
+            return Admission.PROBE;
+        }
+
+        void completed(Admission admission, boolean success) {
+            CircuitBreakerState from;
+            CircuitBreakerState to;
+            synchronized (this) {
+                from = state;
+                if (admission == Admission.PROBE) {
+                    probing = false;
+                    state = success ? CircuitBreakerState.CLOSED : CircuitBreakerState.OPEN;
+                } else if (state == CircuitBreakerState.CLOSED) {
+                    // requests sent before the circuit opened do not count once it has
+                    failures = success ? 0 : failures + 1;
+                    if (failures >= failureThreshold) {
+                        state = CircuitBreakerState.OPEN;
+                    }
+                }
+                if (state == CircuitBreakerState.OPEN && from != CircuitBreakerState.OPEN) {
+                    openedAt = clock.getAsLong();
+                    failures = 0;
+                }
+                to = state;
+            }
+            if (from != to) {
+                notifyListener(from, to);
+            }
+        }
+
+        synchronized void cancelled(Admission admission) {
+            if (admission == Admission.PROBE) {
+                probing = false;
+            }
+        }
+
+        private void notifyListener(CircuitBreakerState from, CircuitBreakerState to) {
+            if (listener != null) {
+                listener.onStateChange(family, from, to);
+            }
+        }
+    }
+}
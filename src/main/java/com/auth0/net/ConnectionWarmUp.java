@@ -0,0 +1,100 @@
+package com.auth0.net;
+
+import com.auth0.exception.Auth0Exception;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opens connections to a host ahead of traffic, so that the first requests do not pay for DNS resolution and the
+ * TCP and TLS handshakes.
+ * <p>
+ * The connections are opened by sending concurrent {@code HEAD} requests to the root of the host through a client
+ * that shares the connection pool of the given one, but none of its interceptors. Each request waits, for at most
+ * the connect timeout, until all of them have a connection, so that none reuses the connection of another. Once the
+ * requests complete, the connections stay in the pool, subject to its maximum number of idle connections and
+ * keep-alive duration. When HTTP/2 is negotiated, concurrent requests share a single connection, so only one is
+ * opened.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public final class ConnectionWarmUp {
+
+    private static final long MIN_WAIT_MILLIS = 1000;
+
+    private ConnectionWarmUp() {
+    }
+
+    /**
+     * Opens up to the given number of connections to the host of the given URL.
+     *
+     * @param client      the client whose connection pool to fill.
+     * @param url         a URL of the host to connect to.
+     * @param connections the number of connections to open. Must be one or greater.
+     * @return a future that completes once every connection is open, or completes exceptionally with an
+     * {@link Auth0Exception} if any of them could not be opened.
+     */
+    public static CompletableFuture<Void> warmUp(OkHttpClient client, HttpUrl url, int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("connections must be one or greater.");
+        }
+        Dispatcher dispatcher = new Dispatcher(client.dispatcher().executorService());
+        dispatcher.setMaxRequests(connections);
+        dispatcher.setMaxRequestsPerHost(connections);
+        CountDownLatch connected = new CountDownLatch(connections);
+        long maxWait = Math.max(client.connectTimeoutMillis(), MIN_WAIT_MILLIS);
+        OkHttpClient.Builder builder = client.newBuilder().dispatcher(dispatcher).cache(null);
+        builder.interceptors().clear();
+        builder.networkInterceptors().clear();
+        builder.addNetworkInterceptor(chain -> {
+            // hold on to the connection until every call has one, so that no call reuses the connection of another
+            connected.countDown();
+            try {
+                connected.await(maxWait, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while opening connections.");
+            }
+            return chain.proceed(chain.request());
+        });
+        OkHttpClient warmUpClient = builder.build();
+
+        Request request = new Request.Builder()
+                .url(url.newBuilder().encodedPath("/").query(null).build())
+                .head()
+                .build();
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(connections);
+        for (int i = 0; i < connections; i++) {
+            warmUpClient.newCall(request).enqueue(new Callback() {
+                @Override
+                public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                    connected.countDown();
+                    future.completeExceptionally(new Auth0Exception("Failed to open a connection", e));
+                }
+
+                @Override
+                public void onResponse(@NotNull Call call, @NotNull Response response) {
+                    // any response means the connection is open, whatever its status
+                    response.close();
+                    if (pending.decrementAndGet() == 0) {
+                        future.complete(null);
+                    }
+                }
+            });
+        }
+        return future;
+    }
+}
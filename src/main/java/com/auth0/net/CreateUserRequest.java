@@ -8,11 +8,15 @@ import java.util.Map;
 
 public class CreateUserRequest extends CustomRequest<CreatedUser> implements SignUpRequest {
 
-    public CreateUserRequest(OkHttpClient client, String url) {
-        super(client, url, "POST", new TypeReference<CreatedUser>() {
+    public CreateUserRequest(OkHttpClient client, String url, JsonCodec codec) {
+        super(client, url, "POST", codec, new TypeReference<CreatedUser>() {
         });
     }
 
+    public CreateUserRequest(OkHttpClient client, String url) {
+        this(client, url, JsonCodec.getDefault());
+    }
+
     @Override
     public SignUpRequest setCustomFields(Map<String, String> customFields) {
         super.addParameter("user_metadata", customFields);
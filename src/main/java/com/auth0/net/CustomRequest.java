@@ -1,7 +1,7 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
@@ -25,20 +25,37 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
 
     private static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
 
-    private final ObjectMapper mapper;
+    private final JsonCodec codec;
     private final TypeReference<T> tType;
     private final Map<String, Object> parameters;
     private Object body;
 
-    CustomRequest(OkHttpClient client, String url, String method, ObjectMapper mapper, TypeReference<T> tType) {
-        super(client, url, method, mapper);
-        this.mapper = mapper;
+    public CustomRequest(OkHttpClient client, String url, String method, JsonCodec codec, TypeReference<T> tType) {
+        super(client, url, method, codec);
+        this.codec = codec;
+        this.tType = tType;
+        this.parameters = new HashMap<>();
+    }
+
+    /**
+     * Creates a request to an already parsed URL, which is used as is instead of being parsed again when the request
+     * is executed.
+     *
+     * @param client the client to execute the request with.
+     * @param url    the URL of the request.
+     * @param method the HTTP method of the request.
+     * @param codec  the codec to serialize the body and deserialize the response with.
+     * @param tType  the type of the response.
+     */
+    public CustomRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec, TypeReference<T> tType) {
+        super(client, url, method, codec);
+        this.codec = codec;
         this.tType = tType;
         this.parameters = new HashMap<>();
     }
 
     public CustomRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-        this(client, url, method, new ObjectMapper(), tType);
+        this(client, url, method, JsonCodec.getDefault(), tType);
     }
 
     @Override
@@ -47,7 +64,7 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
         if (body == null && parameters.isEmpty()) {
             return null;
         }
-        byte[] jsonBody = mapper.writeValueAsBytes(body != null ? body : parameters);
+        byte[] jsonBody = codec.writeValueAsBytes(body != null ? body : parameters);
         // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
         // https://github.com/auth0/auth0-java/issues/324
         return RequestBody.create(MediaType.parse(CONTENT_TYPE_APPLICATION_JSON), jsonBody);
@@ -55,8 +72,7 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
 
     @Override
     protected T readResponseBody(ResponseBody body) throws IOException {
-        String payload = body.string();
-        return mapper.readValue(payload, tType);
+        return readJson(body, tType);
     }
 
     @Override
@@ -72,6 +88,13 @@ public class CustomRequest<T> extends ExtendedBaseRequest<T> implements Customiz
         return this;
     }
 
+    /**
+     * @return the parameters added to this request.
+     */
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
     @Override
     public CustomRequest<T> setBody(Object value) {
         body = value;
@@ -1,6 +1,7 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.RequestBody;
 
@@ -13,6 +14,24 @@ import okhttp3.RequestBody;
  */
 public class EmptyBodyRequest<T> extends CustomRequest<T> {
 
+    public EmptyBodyRequest(OkHttpClient client, String url, String method, JsonCodec codec, TypeReference<T> tType) {
+        super(client, url, method, codec, tType);
+    }
+
+    /**
+     * Creates a request to an already parsed URL, which is used as is instead of being parsed again when the request
+     * is executed.
+     *
+     * @param client the client to execute the request with.
+     * @param url    the URL of the request.
+     * @param method the HTTP method of the request.
+     * @param codec  the codec to deserialize the response with.
+     * @param tType  the type of the response.
+     */
+    public EmptyBodyRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec, TypeReference<T> tType) {
+        super(client, url, method, codec, tType);
+    }
+
     public EmptyBodyRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
         super(client, url, method, tType);
     }
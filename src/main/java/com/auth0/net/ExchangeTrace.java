@@ -0,0 +1,94 @@
+package com.auth0.net;
+
+import java.util.function.Supplier;
+
+/**
+ * Traces the phases of a single request execution: creating the request, exchanging it over the network, including
+ * any rate-limit retries, and parsing the response.
+ * <p>
+ * When Java Flight Recorder is available and the {@code com.auth0.HttpExchange} event is enabled in the recording,
+ * every execution is reported as an {@link HttpExchangeEvent}. Otherwise, tracing does nothing and costs nothing.
+ * The JFR classes are only loaded when the {@code jdk.jfr} API is present, so that the library still runs on
+ * Java 8 runtimes without it.
+ */
+class ExchangeTrace {
+
+    static final ExchangeTrace NONE = new ExchangeTrace();
+
+    private static final Supplier<ExchangeTrace> FACTORY = loadFactory();
+
+    /**
+     * Starts tracing a request execution.
+     *
+     * @return a new trace if the execution is being recorded, or {@link #NONE} otherwise.
+     */
+    static ExchangeTrace start() {
+        if (FACTORY == null) {
+            return NONE;
+        }
+        ExchangeTrace trace = FACTORY.get();
+        return trace == null ? NONE : trace;
+    }
+
+    /**
+     * Marks the end of the request creation.
+     *
+     * @param request the request created.
+     * @return the request to send, tagged with this trace so that retries can be counted.
+     */
+    okhttp3.Request requestCreated(okhttp3.Request request) {
+        return request;
+    }
+
+    /**
+     * Records the time an asynchronous request waited in the request queue before being executed.
+     *
+     * @param waitNanos the time spent in the queue, in nanoseconds.
+     */
+    void dequeued(long waitNanos) {
+    }
+
+    /**
+     * Marks the reception of the final response, after any rate-limit retries.
+     *
+     * @param statusCode the status code of the response.
+     */
+    void responseReceived(int statusCode) {
+    }
+
+    /**
+     * Counts a rate-limit retry.
+     */
+    void retried() {
+    }
+
+    /**
+     * Marks the start of the response parsing.
+     */
+    void parseStarted() {
+    }
+
+    /**
+     * Marks the end of the response parsing.
+     */
+    void parsed() {
+    }
+
+    /**
+     * Ends the trace and reports it. Phases that were not reached are reported as taking no time. Only the first
+     * call has an effect, so that every execution is reported once whichever way it completes.
+     */
+    void commit() {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<ExchangeTrace> loadFactory() {
+        try {
+            Class.forName("jdk.jfr.Event");
+            return (Supplier<ExchangeTrace>) Class.forName("com.auth0.net.JfrExchangeTrace$Factory")
+                    .getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
@@ -3,14 +3,17 @@ package com.auth0.net;
 import com.auth0.exception.APIException;
 import com.auth0.exception.Auth0Exception;
 import com.auth0.exception.RateLimitException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectReader;
 import okhttp3.Request;
 import okhttp3.*;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * A request class that is able to interact fluently with the Auth0 server.
@@ -26,20 +29,41 @@ import java.util.Map;
 abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
 
     private static final String CONTENT_TYPE_APPLICATION_JSON = "application/json";
+    private static final TypeReference<Map<String, Object>> ERROR_VALUES_TYPE = new TypeReference<Map<String, Object>>() {
+    };
 
-    private final String url;
+    private final HttpUrl url;
+    private final String rawUrl;
     private final String method;
-    private final ObjectMapper mapper;
-    private final Map<String, String> headers;
+    private final JsonCodec codec;
+    private final Headers.Builder headers;
 
     private static final int STATUS_CODE_TOO_MANY_REQUEST = 429;
 
-    ExtendedBaseRequest(OkHttpClient client, String url, String method, ObjectMapper mapper) {
+    ExtendedBaseRequest(OkHttpClient client, String url, String method, JsonCodec codec) {
+        this(client, null, url, method, codec);
+    }
+
+    /**
+     * Creates a request to an already parsed URL, which is used as is instead of being parsed again when the request
+     * is executed.
+     */
+    ExtendedBaseRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec) {
+        this(client, url, null, method, codec);
+    }
+
+    private ExtendedBaseRequest(OkHttpClient client, HttpUrl url, String rawUrl, String method, JsonCodec codec) {
         super(client);
         this.url = url;
+        this.rawUrl = rawUrl;
         this.method = method;
-        this.mapper = mapper;
-        this.headers = new HashMap<>();
+        this.codec = codec;
+        this.headers = new Headers.Builder();
+    }
+
+    @Override
+    Executor getDecodingExecutor() {
+        return codec.getDecodingExecutor();
     }
 
     @Override
@@ -50,14 +74,11 @@ abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
         } catch (IOException e) {
             throw new Auth0Exception("Couldn't create the request body.", e);
         }
-        Request.Builder builder = new Request.Builder()
-                .url(url)
-                .method(method, body);
-        for (Map.Entry<String, String> e : headers.entrySet()) {
-            builder.addHeader(e.getKey(), e.getValue());
-        }
-        builder.addHeader("Content-Type", getContentType());
-        return builder.build();
+        Request.Builder builder = url != null ? new Request.Builder().url(url) : new Request.Builder().url(rawUrl);
+        return builder
+                .method(method, body)
+                .headers(headers.set("Content-Type", getContentType()).build())
+                .build();
     }
 
     @Override
@@ -99,15 +120,39 @@ abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
      */
     protected abstract T readResponseBody(ResponseBody body) throws IOException;
 
+    /**
+     * Binds the given response body to the given type. The payload is read directly from the body's stream, so it is
+     * never held in memory as a whole before being parsed.
+     *
+     * @param body the received body payload.
+     * @param type the type to bind the payload to.
+     * @param <R>  the type to bind the payload to.
+     * @return the instance of type R, result of interpreting the payload.
+     * @throws IOException if an error is raised during the parsing of the body.
+     */
+    protected <R> R readJson(ResponseBody body, TypeReference<R> type) throws IOException {
+        ObjectReader reader = codec.readerFor(type);
+        Charset charset = charsetOf(body);
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            // Jackson detects the UTF encodings by itself and decodes the bytes as it parses them
+            return reader.readValue(body.byteStream());
+        }
+        return reader.readValue(body.charStream());
+    }
+
     /**
      * Adds an HTTP header to the request
      *
      * @param name  the name of the header
-     * @param value the value of the header
+     * @param value the value of the header, or null to remove it
      * @return this same request instance
      */
     public ExtendedBaseRequest<T> addHeader(String name, String value) {
-        headers.put(name, value);
+        if (value == null) {
+            headers.removeAll(name);
+        } else {
+            headers.set(name, value);
+        }
         return this;
     }
 
@@ -123,17 +168,26 @@ abstract class ExtendedBaseRequest<T> extends BaseRequest<T> {
             return createRateLimitException(response);
         }
 
-        String payload = null;
+        // Error payloads are small, but they are kept as raw bytes so that a non-JSON body can still be reported
+        byte[] payload = null;
+        Charset charset = StandardCharsets.UTF_8;
         try (ResponseBody body = response.body()) {
-            payload = body.string();
-            MapType mapType = mapper.getTypeFactory().constructMapType(HashMap.class, String.class, Object.class);
-            Map<String, Object> values = mapper.readValue(payload, mapType);
+            charset = charsetOf(body);
+            payload = body.bytes();
+            ObjectReader reader = codec.readerFor(ERROR_VALUES_TYPE);
+            Map<String, Object> values = StandardCharsets.UTF_8.equals(charset) ? reader.readValue(payload) : reader.readValue(new String(payload, charset));
             return new APIException(values, response.code());
         } catch (IOException e) {
-            return new APIException(payload, response.code(), e);
+            return new APIException(payload == null ? null : new String(payload, charset), response.code(), e);
         }
     }
 
+    private static Charset charsetOf(ResponseBody body) {
+        MediaType contentType = body.contentType();
+        Charset charset = contentType == null ? null : contentType.charset();
+        return charset == null ? StandardCharsets.UTF_8 : charset;
+    }
+
     private RateLimitException createRateLimitException(Response response) {
         // -1 as default value if the header could not be found.
         long limit = Long.parseLong(response.header("X-RateLimit-Limit", "-1"));
@@ -0,0 +1,54 @@
+package com.auth0.net;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A Java Flight Recorder event reporting the execution of a request to Auth0, split into the time spent creating the
+ * request, exchanging it over the network, and parsing the response. Only loaded when the {@code jdk.jfr} API is
+ * present; see {@link ExchangeTrace}.
+ */
+@Name("com.auth0.HttpExchange")
+@Label("Auth0 HTTP Exchange")
+@Category({"Auth0", "HTTP"})
+@Description("A request executed by the Auth0 client")
+@StackTrace(false)
+class HttpExchangeEvent extends Event {
+
+    @Label("Endpoint")
+    @Description("The HTTP method and path template of the request")
+    String endpoint;
+
+    @Label("Status")
+    @Description("The status code of the response, or zero if none was received")
+    int status;
+
+    @Label("Retries")
+    @Description("The number of rate-limit retries")
+    int retries;
+
+    @Label("Create Request Time")
+    @Description("The time spent creating the request, including serializing its body")
+    @Timespan(Timespan.NANOSECONDS)
+    long createRequestTime;
+
+    @Label("Queue Time")
+    @Description("The time an asynchronous request waited in the request queue before being sent")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+
+    @Label("Network Time")
+    @Description("The time from sending the request to receiving the response headers, including retries")
+    @Timespan(Timespan.NANOSECONDS)
+    long networkTime;
+
+    @Label("Parse Time")
+    @Description("The time spent reading and deserializing the response")
+    @Timespan(Timespan.NANOSECONDS)
+    long parseTime;
+}
@@ -0,0 +1,85 @@
+package com.auth0.net;
+
+import com.auth0.net.metrics.EndpointTemplate;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * An {@link ExchangeTrace} that reports the execution as an {@link HttpExchangeEvent}. Only loaded when the
+ * {@code jdk.jfr} API is present.
+ */
+final class JfrExchangeTrace extends ExchangeTrace {
+
+    private final HttpExchangeEvent event;
+    private final long startedAt;
+    private final AtomicBoolean committed = new AtomicBoolean();
+    private long createdAt;
+    private long receivedAt;
+    private long parseStartedAt;
+
+    private JfrExchangeTrace(HttpExchangeEvent event) {
+        this.event = event;
+        this.startedAt = System.nanoTime();
+        event.begin();
+    }
+
+    @Override
+    okhttp3.Request requestCreated(okhttp3.Request request) {
+        createdAt = System.nanoTime();
+        event.endpoint = EndpointTemplate.of(request);
+        event.createRequestTime = createdAt - startedAt;
+        return request.newBuilder().tag(ExchangeTrace.class, this).build();
+    }
+
+    @Override
+    void dequeued(long waitNanos) {
+        event.queueTime = waitNanos;
+    }
+
+    @Override
+    void responseReceived(int statusCode) {
+        receivedAt = System.nanoTime();
+        event.status = statusCode;
+        event.networkTime = receivedAt - createdAt - event.queueTime;
+    }
+
+    @Override
+    void retried() {
+        event.retries++;
+    }
+
+    @Override
+    void parseStarted() {
+        parseStartedAt = System.nanoTime();
+    }
+
+    @Override
+    void parsed() {
+        event.parseTime = System.nanoTime() - parseStartedAt;
+    }
+
+    @Override
+    void commit() {
+        if (!committed.compareAndSet(false, true)) {
+            return;
+        }
+        if (parseStartedAt != 0 && event.parseTime == 0) {
+            // parsing failed before it could be marked as done
+            parsed();
+        }
+        event.commit();
+    }
+
+    /**
+     * Creates a trace when the event is enabled in a running recording.
+     */
+    static final class Factory implements Supplier<ExchangeTrace> {
+
+        @Override
+        public ExchangeTrace get() {
+            HttpExchangeEvent event = new HttpExchangeEvent();
+            return event.isEnabled() ? new JfrExchangeTrace(event) : null;
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.auth0.net;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.auth0.utils.Asserts.assertNotNull;
+
+/**
+ * Holds the {@link ObjectMapper} used to serialize request payloads and deserialize response payloads, caching
+ * an {@link ObjectReader} for every response type it is asked to read.
+ * <p>
+ * Each {@link com.auth0.client.mgmt.ManagementAPI} and {@link com.auth0.client.auth.AuthAPI} instance owns a single
+ * codec that is shared by every request it creates, so the mapper and its serializer caches stay warm for the
+ * lifetime of the client instead of being rebuilt on each request. The codec may also carry the executor on which the
+ * responses of asynchronous requests are deserialized.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public final class JsonCodec {
+
+    private static final JsonCodec DEFAULT = new JsonCodec();
+
+    private final ObjectMapper mapper;
+    private final ConcurrentMap<Type, ObjectReader> readers;
+    private final Executor decodingExecutor;
+
+    /**
+     * Creates a new codec backed by a default {@link ObjectMapper}.
+     */
+    public JsonCodec() {
+        this(new ObjectMapper());
+    }
+
+    /**
+     * Creates a new codec backed by the given {@link ObjectMapper}. The mapper must not be reconfigured after
+     * being handed to the codec.
+     *
+     * @param mapper the mapper to use.
+     */
+    public JsonCodec(ObjectMapper mapper) {
+        this(mapper, null);
+    }
+
+    /**
+     * Creates a new codec backed by the given {@link ObjectMapper}, which deserializes the responses of asynchronous
+     * requests on the given executor. The mapper must not be reconfigured after being handed to the codec.
+     *
+     * @param mapper           the mapper to use.
+     * @param decodingExecutor the executor to deserialize asynchronous responses on and complete their futures, or
+     *                         null to do so on the thread that received the response.
+     */
+    public JsonCodec(ObjectMapper mapper, Executor decodingExecutor) {
+        assertNotNull(mapper, "mapper");
+        this.mapper = mapper;
+        this.readers = new ConcurrentHashMap<>();
+        this.decodingExecutor = decodingExecutor;
+    }
+
+    /**
+     * @return the codec used by requests that were not created with an explicit one.
+     */
+    static JsonCodec getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * @return the underlying mapper.
+     */
+    public ObjectMapper getMapper() {
+        return mapper;
+    }
+
+    /**
+     * @return the executor to deserialize asynchronous responses on, or null to do so on the thread that received
+     * the response.
+     */
+    public Executor getDecodingExecutor() {
+        return decodingExecutor;
+    }
+
+    /**
+     * Returns the reader for the given type, creating and caching it on first use. The cache is keyed by the
+     * generic {@link Type} the reference captures, so distinct {@link TypeReference} instances for the same type
+     * share a reader.
+     *
+     * @param type the type to read.
+     * @return the reader for the given type.
+     */
+    public ObjectReader readerFor(TypeReference<?> type) {
+        assertNotNull(type, "type");
+        Type key = type.getType();
+        ObjectReader reader = readers.get(key);
+        if (reader == null) {
+            ObjectReader created = mapper.readerFor(mapper.getTypeFactory().constructType(key));
+            reader = readers.putIfAbsent(key, created);
+            if (reader == null) {
+                reader = created;
+            }
+        }
+        return reader;
+    }
+
+    /**
+     * Serializes the given value as a JSON byte array.
+     *
+     * @param value the value to serialize.
+     * @return the JSON representation of the value.
+     * @throws JsonProcessingException if the value could not be serialized.
+     */
+    public byte[] writeValueAsBytes(Object value) throws JsonProcessingException {
+        return mapper.writeValueAsBytes(value);
+    }
+}
@@ -1,7 +1,6 @@
 package com.auth0.net;
 
 import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.*;
 
 import java.io.File;
@@ -27,22 +26,44 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
 
     private final MultipartBody.Builder bodyBuilder;
     private final TypeReference<T> tType;
-    private final ObjectMapper mapper;
     private int partsCount;
 
-    MultipartRequest(OkHttpClient client, String url, String method, ObjectMapper mapper, TypeReference<T> tType, MultipartBody.Builder multipartBuilder) {
-        super(client, url, method, mapper);
+    MultipartRequest(OkHttpClient client, String url, String method, JsonCodec codec, TypeReference<T> tType, MultipartBody.Builder multipartBuilder) {
+        super(client, url, method, codec);
         if ("GET".equalsIgnoreCase(method)) {
             throw new IllegalArgumentException("Multipart/form-data requests do not support the GET method.");
         }
-        this.mapper = mapper;
         this.tType = tType;
         this.bodyBuilder = multipartBuilder
                 .setType(MultipartBody.FORM);
     }
 
+    public MultipartRequest(OkHttpClient client, String url, String method, JsonCodec codec, TypeReference<T> tType) {
+        this(client, url, method, codec, tType, new MultipartBody.Builder());
+    }
+
+    /**
+     * Creates a request to an already parsed URL, which is used as is instead of being parsed again when the request
+     * is executed.
+     *
+     * @param client the client to execute the request with.
+     * @param url    the URL of the request.
+     * @param method the HTTP method of the request. GET is not supported.
+     * @param codec  the codec to serialize the JSON parts and deserialize the response with.
+     * @param tType  the type of the response.
+     */
+    public MultipartRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec, TypeReference<T> tType) {
+        super(client, url, method, codec);
+        if ("GET".equalsIgnoreCase(method)) {
+            throw new IllegalArgumentException("Multipart/form-data requests do not support the GET method.");
+        }
+        this.tType = tType;
+        this.bodyBuilder = new MultipartBody.Builder()
+                .setType(MultipartBody.FORM);
+    }
+
     public MultipartRequest(OkHttpClient client, String url, String method, TypeReference<T> tType) {
-        this(client, url, method, new ObjectMapper(), tType, new MultipartBody.Builder());
+        this(client, url, method, JsonCodec.getDefault(), tType, new MultipartBody.Builder());
     }
 
     @Override
@@ -60,8 +81,7 @@ public class MultipartRequest<T> extends ExtendedBaseRequest<T> implements FormD
 
     @Override
     protected T readResponseBody(ResponseBody body) throws IOException {
-        String payload = body.string();
-        return mapper.readValue(payload, tType);
+        return readJson(body, tType);
     }
 
     @Override
@@ -0,0 +1,185 @@
+package com.auth0.net;
+
+import okhttp3.HttpUrl;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that paces outgoing requests according to the rate-limit budget reported by
+ * the server, so that requests are delayed before the budget runs out instead of being rejected with a 429.
+ * <p>
+ * The {@code X-RateLimit-Limit}, {@code X-RateLimit-Remaining} and {@code X-RateLimit-Reset} headers of every
+ * response are tracked separately for each endpoint family, which is the first path segment after {@code /api/v2/}
+ * (for example {@code users}, {@code logs} or {@code jobs}), or the first path segment for any other URL.
+ * While a family has plenty of budget left, requests are not delayed. Once the remaining budget falls below a
+ * fraction of the limit, requests are spread evenly over the time left until the reset, and when it is exhausted
+ * requests wait for the reset, spread over the second that follows it so that they are not all sent at once. A
+ * request never waits longer than the configured maximum; past that, it is sent and any 429 is handled by the
+ * {@link RateLimitInterceptor}.
+ * <p>
+ * The interceptor itself never waits, so that it does not hold a dispatcher thread. {@link BaseRequest} reserves a
+ * slot for every request with {@link #reserve(okhttp3.Request)} before sending it, and waits for it on the calling
+ * thread for synchronous requests, or on a timer for asynchronous ones. Rate-limit retries are paced the same way: by
+ * {@link BaseRequest} for asynchronous requests, and by the {@link RateLimitInterceptor} constructed with this
+ * governor, on the calling thread, for synchronous ones.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setRateLimitPacingEnabled(boolean)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class RateLimitGovernor implements Interceptor {
+
+    static final double LOW_BUDGET_FRACTION = 0.1D;
+
+    /**
+     * The time over which the requests waiting for an exhausted budget to reset are spread, in milliseconds.
+     */
+    static final long RESET_SPREAD_MILLIS = 1000L;
+
+    private final long maxWaitMillis;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Budget> budgets;
+
+    /**
+     * Constructs a new instance that never delays a request for longer than the given time.
+     *
+     * @param maxWaitMillis the maximum time to delay a request, in milliseconds.
+     */
+    public RateLimitGovernor(long maxWaitMillis) {
+        this(maxWaitMillis, System::currentTimeMillis);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     *
+     * @param maxWaitMillis the maximum time to delay a request, in milliseconds.
+     * @param clock         the source of the current time, in milliseconds since the epoch.
+     */
+    RateLimitGovernor(long maxWaitMillis, LongSupplier clock) {
+        if (maxWaitMillis < 0) {
+            throw new IllegalArgumentException("maxWaitMillis must be zero or greater.");
+        }
+        this.maxWaitMillis = maxWaitMillis;
+        this.clock = clock;
+        this.budgets = new ConcurrentHashMap<>();
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Response response = chain.proceed(chain.request());
+        long limit = parseHeader(response, "X-RateLimit-Limit");
+        long remaining = parseHeader(response, "X-RateLimit-Remaining");
+        long reset = parseHeader(response, "X-RateLimit-Reset");
+        if (limit > 0 && remaining >= 0 && reset > 0) {
+            budget(chain.request().url()).update(limit, remaining, TimeUnit.SECONDS.toMillis(reset));
+        }
+        return response;
+    }
+
+    /**
+     * Reserves a slot in the rate-limit budget for a request about to be sent.
+     *
+     * @param request the request about to be sent.
+     * @return the time to wait before sending the request, in milliseconds, at most the configured maximum.
+     */
+    long reserve(okhttp3.Request request) {
+        return Math.min(budget(request.url()).reserve(clock.getAsLong()), maxWaitMillis);
+    }
+
+    private Budget budget(HttpUrl url) {
+        return budgets.computeIfAbsent(endpointFamily(url), k -> new Budget());
+    }
+
+    /**
+     * @param family the endpoint family, e.g. "users".
+     * @return the remaining budget last reported for the given endpoint family, or -1 if unknown.
+     */
+    long getRemaining(String family) {
+        Budget budget = budgets.get(family);
+        return budget == null ? -1 : budget.getRemaining();
+    }
+
+    static String endpointFamily(HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        if (segments.size() > 2 && "api".equals(segments.get(0)) && "v2".equals(segments.get(1))) {
+            return segments.get(2);
+        }
+        return segments.isEmpty() ? "" : segments.get(0);
+    }
+
+    private static long parseHeader(Response response, String name) {
+        String value = response.header(name);
+        if (value == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The rate-limit budget of a single endpoint family, as last reported by the server and decremented locally for
+     * every request sent since.
+     */
+    private static final class Budget {
+        private long limit = -1;
+        private long remaining = -1;
+        private long resetAt;
+        private long nextSlot;
+
+        /**
+         * Reserves a slot for a request about to be sent.
+         *
+         * @param now the current time, in milliseconds.
+         * @return the time to wait before sending the request, in milliseconds.
+         */
+        synchronized long reserve(long now) {
+            if (limit < 0 || now >= resetAt) {
+                // nothing known, or the window has been reset since the last response
+                return 0;
+            }
+            long window = resetAt - now;
+            if (remaining <= 0) {
+                // spread over the start of the next window, instead of all being sent at the reset
+                long slot = Math.max(resetAt, nextSlot);
+                nextSlot = slot + Math.max(1L, RESET_SPREAD_MILLIS / limit);
+                return slot - now;
+            }
+            long wait = 0;
+            if (remaining < limit * LOW_BUDGET_FRACTION) {
+                long interval = window / remaining;
+                long slot = Math.max(now, nextSlot);
+                nextSlot = slot + interval;
+                wait = slot - now;
+            }
+            remaining--;
+            return wait;
+        }
+
+        synchronized void update(long limit, long remaining, long resetAt) {
+            if (resetAt != this.resetAt) {
+                nextSlot = 0;
+            }
+            this.limit = limit;
+            this.remaining = remaining;
+            this.resetAt = resetAt;
+        }
+
+        synchronized long getRemaining() {
+            return remaining;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.auth0.net;
 
 import com.auth0.client.HttpOptions;
+import com.auth0.net.metrics.EndpointTemplate;
+import com.auth0.net.metrics.MetricsRecorder;
 import net.jodah.failsafe.Failsafe;
 import net.jodah.failsafe.RetryPolicy;
 import net.jodah.failsafe.event.ExecutionAttemptedEvent;
@@ -10,7 +12,10 @@ import okhttp3.Response;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 
 /**
  * An OkHttp {@linkplain Interceptor} responsible for retrying rate-limit errors (429) using a configurable maximum
@@ -19,12 +24,23 @@ import java.time.temporal.ChronoUnit;
  * See {@link com.auth0.client.HttpOptions#setManagementAPIMaxRetries(int)} and {@link com.auth0.client.mgmt.ManagementAPI#ManagementAPI(String, String, HttpOptions)}
  * </p>
  * <p>
+ * Requests executed with {@link Request#executeAsync()} are not retried here, as waiting for the backoff inside the
+ * interceptor chain would hold one of the dispatcher's slots. Instead, {@link BaseRequest} schedules a new call once
+ * the backoff has elapsed, using the same number of retries and delays.
+ * </p>
+ * <p>
+ * When constructed with a {@link RateLimitGovernor}, every synchronous retry is also paced by it once the backoff has
+ * elapsed, as {@link BaseRequest} does for the first attempt and for asynchronous retries.
+ * </p>
+ * <p>
  * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
  * </p>
  */
 public class RateLimitInterceptor implements Interceptor {
 
     private final int maxRetries;
+    private final MetricsRecorder metricsRecorder;
+    private final RateLimitGovernor governor;
     private final CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener;
 
     static final Long INITIAL_INTERVAL = 100L;
@@ -36,7 +52,27 @@ public class RateLimitInterceptor implements Interceptor {
      * @param maxRetries the maximum number of consecutive retries to attempt.
      */
     public RateLimitInterceptor(int maxRetries) {
-        this(maxRetries, null);
+        this(maxRetries, null, null, null);
+    }
+
+    /**
+     * Constructs a new instance with the maximum number of allowed retries, which records every retry.
+     * @param maxRetries the maximum number of consecutive retries to attempt.
+     * @param metricsRecorder the recorder to record the retries to, or null.
+     */
+    public RateLimitInterceptor(int maxRetries, MetricsRecorder metricsRecorder) {
+        this(maxRetries, metricsRecorder, null, null);
+    }
+
+    /**
+     * Constructs a new instance with the maximum number of allowed retries, which records every retry and paces the
+     * synchronous ones.
+     * @param maxRetries the maximum number of consecutive retries to attempt.
+     * @param metricsRecorder the recorder to record the retries to, or null.
+     * @param governor the governor to pace the synchronous retries with, or null.
+     */
+    public RateLimitInterceptor(int maxRetries, MetricsRecorder metricsRecorder, RateLimitGovernor governor) {
+        this(maxRetries, metricsRecorder, governor, null);
     }
 
     /**
@@ -45,7 +81,14 @@ public class RateLimitInterceptor implements Interceptor {
      * @param retryListener a listener to call prior to a retry attempt.
      */
     RateLimitInterceptor(int maxRetries, CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener) {
+        this(maxRetries, null, null, retryListener);
+    }
+
+    private RateLimitInterceptor(int maxRetries, MetricsRecorder metricsRecorder, RateLimitGovernor governor,
+                                 CheckedConsumer<? extends ExecutionAttemptedEvent<Response>> retryListener) {
         this.maxRetries = maxRetries;
+        this.metricsRecorder = metricsRecorder;
+        this.governor = governor;
         this.retryListener = retryListener;
     }
 
@@ -56,9 +99,20 @@ public class RateLimitInterceptor implements Interceptor {
         return maxRetries;
     }
 
+    /**
+     * @return the recorder retries are recorded to, or null.
+     */
+    MetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
     @NotNull
     @Override
     public Response intercept(@NotNull Chain chain) throws IOException {
+        if (chain.request().tag(AsyncRetries.class) != null) {
+            // retries are scheduled by the caller once the call completes
+            return chain.proceed(chain.request());
+        }
 
         RetryPolicy<Response> retryPolicy = new RetryPolicy<Response>()
             .withMaxRetries(maxRetries)
@@ -75,8 +129,65 @@ public class RateLimitInterceptor implements Interceptor {
         // For testing purposes only, allow test to hook into retry listener to enable verification of retry backoff
         if (retryListener != null) {
             retryPolicy.onRetry(retryListener);
+        } else {
+            ExchangeTrace trace = chain.request().tag(ExchangeTrace.class);
+            if (metricsRecorder != null || trace != null) {
+                String endpoint = metricsRecorder == null ? null : EndpointTemplate.of(chain.request());
+                retryPolicy.onRetry(e -> {
+                    if (metricsRecorder != null) {
+                        metricsRecorder.recordRetry(endpoint);
+                    }
+                    if (trace != null) {
+                        trace.retried();
+                    }
+                });
+            }
+        }
+
+        return Failsafe.with(retryPolicy).get(context -> {
+            if (context.getAttemptCount() > 0) {
+                pace(chain.request());
+            }
+            return chain.proceed(chain.request());
+        });
+    }
+
+    /**
+     * Waits for the governor, if any, to allow a retry, on the calling thread as for the first attempt.
+     */
+    private void pace(okhttp3.Request request) throws InterruptedIOException {
+        long pacing = governor == null ? 0 : governor.reserve(request);
+        if (pacing <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(pacing);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while pacing a rate-limit retry.");
         }
+    }
+
+    /**
+     * Computes the delay to wait before the given retry attempt, following the same exponential backoff and jitter
+     * applied to synchronous retries.
+     *
+     * @param attempt the retry attempt, starting at one.
+     * @return the delay in milliseconds.
+     */
+    static long backoffDelay(int attempt) {
+        double delay = Math.min(INITIAL_INTERVAL * Math.pow(2, attempt - 1), MAX_INTERVAL);
+        double jitter = delay * JITTER * (ThreadLocalRandom.current().nextDouble() * 2 - 1);
+        return Math.max(0L, Math.round(delay + jitter));
+    }
 
-        return Failsafe.with(retryPolicy).get(() -> chain.proceed(chain.request()));
+    /**
+     * Tag set on the requests whose rate-limit retries are scheduled asynchronously by {@link BaseRequest}.
+     */
+    static final class AsyncRetries {
+        static final AsyncRetries INSTANCE = new AsyncRetries();
+
+        private AsyncRetries() {
+        }
     }
 }
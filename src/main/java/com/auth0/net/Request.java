@@ -4,6 +4,7 @@ import com.auth0.exception.APIException;
 import com.auth0.exception.Auth0Exception;
 
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Class that represents an HTTP Request that can be executed.
@@ -36,4 +37,22 @@ public interface Request<T> {
     default CompletableFuture<T> executeAsync() {
         throw new UnsupportedOperationException("executeAsync");
     }
+
+    /**
+     * Sets a deadline for this request, on top of the client's connect and read timeouts. The deadline spans the
+     * whole execution, including connecting, writing the request, reading the response and any rate-limit retries;
+     * when it elapses the HTTP call is cancelled and the execution fails.
+     *
+     * Note: This method was added after the interface was released in version 1.0.
+     * It is defined as a default method for compatibility reasons.
+     *
+     * The default implementation throws an {@linkplain UnsupportedOperationException}.
+     *
+     * @param timeout the maximum time the request can take, or zero to remove the deadline.
+     * @param unit    the unit of the timeout.
+     * @return this request instance.
+     */
+    default Request<T> setTimeout(long timeout, TimeUnit unit) {
+        throw new UnsupportedOperationException("setTimeout");
+    }
 }
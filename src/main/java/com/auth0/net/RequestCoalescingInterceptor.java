@@ -0,0 +1,238 @@
+package com.auth0.net;
+
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that coalesces identical GET requests executed concurrently, so that only one
+ * of them goes over the network and the others receive a copy of its response.
+ * <p>
+ * Requests are identical when they have the same URL and {@code Authorization} header. A request that arrives while
+ * an identical one is in flight waits for it to complete instead of being sent. If the in-flight request fails, all
+ * the requests waiting on it fail with the same error, unless it was cancelled or timed out, which only concerns its
+ * own caller: the waiting requests are then sent on their own. A waiting request stops waiting as soon as its own call
+ * is cancelled or reaches its deadline. Requests that arrive once the response has been received are sent as usual;
+ * nothing is cached.
+ * <p>
+ * Only the response is shared: each caller still parses its own copy of the body, so callers never share the
+ * resulting objects.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setRequestCoalescingEnabled(boolean)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class RequestCoalescingInterceptor implements Interceptor {
+
+    /**
+     * How often a waiting request checks whether its own call was cancelled or reached its deadline.
+     */
+    static final long POLL_INTERVAL_MILLIS = 50;
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        if (!"GET".equals(request.method())) {
+            return chain.proceed(request);
+        }
+
+        String key = request.url() + " " + request.header("Authorization");
+        Flight flight = new Flight();
+        Flight existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            if (existing.join()) {
+                SharedResponse shared = existing.await(chain);
+                if (shared != null) {
+                    return shared.toResponse(request);
+                }
+                // the in-flight request was cancelled or timed out, which does not concern this one
+                return chain.proceed(request);
+            }
+            // the in-flight request already completed, send this one on its own
+            return chain.proceed(request);
+        }
+
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            inFlight.remove(key, flight);
+            flight.seal();
+            fail(flight, chain, e);
+            throw e;
+        }
+
+        inFlight.remove(key, flight);
+        if (flight.seal() == 0) {
+            // nobody joined, hand the response over without buffering its body
+            return response;
+        }
+        try {
+            SharedResponse shared = SharedResponse.of(response);
+            flight.result.complete(shared);
+            return shared.toResponse(request);
+        } catch (IOException | RuntimeException e) {
+            fail(flight, chain, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Fails the requests waiting on the given flight, unless the in-flight request was cancelled or timed out, in
+     * which case they are released to be sent on their own.
+     */
+    private static void fail(Flight flight, Chain chain, Exception e) {
+        if (chain.call().isCanceled() || e instanceof InterruptedIOException) {
+            flight.result.complete(null);
+        } else {
+            flight.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * @return the number of distinct requests currently in flight.
+     */
+    int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of requests currently waiting for an identical request in flight.
+     */
+    int getWaitingCount() {
+        int waiting = 0;
+        for (Flight flight : inFlight.values()) {
+            waiting += flight.getWaiters();
+        }
+        return waiting;
+    }
+
+    /**
+     * A request in flight, which other identical requests can join until its response is received.
+     */
+    private static final class Flight {
+        private final CompletableFuture<SharedResponse> result = new CompletableFuture<>();
+        private int waiters;
+        private boolean sealed;
+
+        synchronized boolean join() {
+            if (sealed) {
+                return false;
+            }
+            waiters++;
+            return true;
+        }
+
+        synchronized int seal() {
+            sealed = true;
+            return waiters;
+        }
+
+        synchronized void leave() {
+            waiters--;
+        }
+
+        synchronized int getWaiters() {
+            return waiters;
+        }
+
+        /**
+         * Waits for the response of the in-flight request, for as long as the call of the waiting request is neither
+         * cancelled nor past its deadline.
+         *
+         * @param chain the chain of the waiting request.
+         * @return the response, or null if the in-flight request was cancelled or timed out.
+         */
+        SharedResponse await(Chain chain) throws IOException {
+            try {
+                while (true) {
+                    if (chain.call().isCanceled()) {
+                        throw new IOException("Canceled");
+                    }
+                    long wait = POLL_INTERVAL_MILLIS;
+                    if (chain.call().timeout().hasDeadline()) {
+                        long remaining = chain.call().timeout().deadlineNanoTime() - System.nanoTime();
+                        if (remaining <= 0) {
+                            throw new InterruptedIOException("timeout");
+                        }
+                        wait = Math.min(wait, TimeUnit.NANOSECONDS.toMillis(remaining) + 1);
+                    }
+                    try {
+                        return result.get(wait, TimeUnit.MILLISECONDS);
+                    } catch (TimeoutException e) {
+                        // check the call again
+                    }
+                }
+            } catch (IOException e) {
+                // no longer waiting, so the response does not need to be shared with this request
+                leave();
+                throw e;
+            } catch (InterruptedException e) {
+                leave();
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for an identical request in flight.");
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw new IOException(cause.getMessage(), cause);
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException(cause);
+            }
+        }
+    }
+
+    /**
+     * A response whose body has been read so that it can be handed to several callers.
+     */
+    private static final class SharedResponse {
+        private final Response response;
+        private final MediaType contentType;
+        private final byte[] body;
+
+        private SharedResponse(Response response, MediaType contentType, byte[] body) {
+            this.response = response;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        static SharedResponse of(Response response) throws IOException {
+            try (ResponseBody body = response.body()) {
+                if (body == null) {
+                    return new SharedResponse(response, null, null);
+                }
+                return new SharedResponse(response, body.contentType(), body.bytes());
+            }
+        }
+
+        @SuppressWarnings("deprecation")
+        Response toResponse(Request request) {
+            Response.Builder builder = response.newBuilder().request(request);
+            if (body != null) {
+                // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
+                // https://github.com/auth0/auth0-java/issues/324
+                builder.body(ResponseBody.create(contentType, body));
+            }
+            return builder.build();
+        }
+    }
+}
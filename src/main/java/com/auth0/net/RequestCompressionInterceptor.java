@@ -0,0 +1,131 @@
+package com.auth0.net;
+
+import com.auth0.net.metrics.EndpointTemplate;
+import com.auth0.net.metrics.MetricsRecorder;
+import okhttp3.Interceptor;
+import okhttp3.MediaType;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okio.Buffer;
+import okio.BufferedSink;
+import okio.GzipSink;
+import okio.Okio;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that compresses JSON request bodies with gzip once they reach a size threshold,
+ * and sends them with a {@code Content-Encoding: gzip} header.
+ * <p>
+ * Bodies that would not get smaller are sent as they are. If an endpoint rejects a compressed body with a
+ * {@code 415 Unsupported Media Type} response, the request is sent again uncompressed, and the bodies of later
+ * requests to the same endpoint template are no longer compressed. An endpoint that does not support compressed
+ * bodies can also reject them with a {@code 400 Bad Request} response, as it cannot parse them, so the request is sent
+ * again uncompressed in that case too, and the endpoint template is no longer compressed if the uncompressed body is
+ * not rejected in turn; otherwise the request itself was invalid, and its response is returned. The size of every body that was compressed,
+ * before and after compression, is reported to the metrics recorder, if any.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setRequestCompressionEnabled(boolean)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class RequestCompressionInterceptor implements Interceptor {
+
+    private static final int STATUS_CODE_BAD_REQUEST = 400;
+    private static final int STATUS_CODE_UNSUPPORTED_MEDIA_TYPE = 415;
+
+    private final long threshold;
+    private final MetricsRecorder metricsRecorder;
+    private final Set<String> unsupported = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param threshold       the size from which bodies are compressed, in bytes.
+     * @param metricsRecorder the recorder to report the compressed sizes to, or null.
+     */
+    public RequestCompressionInterceptor(long threshold, MetricsRecorder metricsRecorder) {
+        if (threshold < 0) {
+            throw new IllegalArgumentException("threshold must be zero or greater.");
+        }
+        this.threshold = threshold;
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    /**
+     * @return the size from which bodies are compressed, in bytes.
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        RequestBody body = request.body();
+        if (body == null || request.header("Content-Encoding") != null || !isJson(body.contentType())) {
+            return chain.proceed(request);
+        }
+        long length = body.contentLength();
+        if (length < threshold || length < 0) {
+            return chain.proceed(request);
+        }
+        String endpoint = EndpointTemplate.of(request);
+        if (unsupported.contains(endpoint)) {
+            return chain.proceed(request);
+        }
+
+        Buffer compressed = new Buffer();
+        try (BufferedSink sink = Okio.buffer(new GzipSink(compressed))) {
+            body.writeTo(sink);
+        }
+        long compressedLength = compressed.size();
+        if (compressedLength >= length) {
+            return chain.proceed(request);
+        }
+
+        Response response = chain.proceed(request.newBuilder()
+                .header("Content-Encoding", "gzip")
+                .method(request.method(), gzipped(body.contentType(), compressed))
+                .build());
+        if (response.code() == STATUS_CODE_UNSUPPORTED_MEDIA_TYPE) {
+            response.close();
+            unsupported.add(endpoint);
+            return chain.proceed(request);
+        }
+        if (response.code() == STATUS_CODE_BAD_REQUEST) {
+            response.close();
+            Response uncompressed = chain.proceed(request);
+            if (uncompressed.code() != STATUS_CODE_BAD_REQUEST) {
+                unsupported.add(endpoint);
+            }
+            return uncompressed;
+        }
+        if (metricsRecorder != null) {
+            metricsRecorder.recordCompression(endpoint, length, compressedLength);
+        }
+        return response;
+    }
+
+    private static boolean isJson(MediaType contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        String subtype = contentType.subtype();
+        return "json".equals(subtype) || subtype.endsWith("+json");
+    }
+
+    @SuppressWarnings("deprecation")
+    private static RequestBody gzipped(MediaType contentType, Buffer compressed) {
+        // Use OkHttp v3 signature to ensure binary compatibility between v3 and v4
+        // https://github.com/auth0/auth0-java/issues/324
+        return RequestBody.create(contentType, compressed.readByteString());
+    }
+}
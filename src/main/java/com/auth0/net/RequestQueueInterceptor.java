@@ -0,0 +1,149 @@
+package com.auth0.net;
+
+import com.auth0.client.QueueOverflowPolicy;
+import com.auth0.net.metrics.EndpointTemplate;
+import com.auth0.net.metrics.MetricsRecorder;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that bounds the number of asynchronous requests waiting for a dispatcher slot,
+ * so that submitting requests faster than they can be executed does not pile them up in memory.
+ * <p>
+ * {@link BaseRequest#executeAsync()} admits each request into the queue before creating it, applying the configured
+ * {@link QueueOverflowPolicy} when the queue is full. A request leaves the queue when the dispatcher starts executing
+ * it, which is when this interceptor is reached, or when its future completes before that. The time each request
+ * waited is reported to the metrics recorder, if any. Synchronous requests are not queued.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setMaxQueuedRequests(int)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class RequestQueueInterceptor implements Interceptor {
+
+    private final int maxQueuedRequests;
+    private final QueueOverflowPolicy policy;
+    private final MetricsRecorder metricsRecorder;
+    private final Semaphore permits;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param maxQueuedRequests the maximum number of requests waiting for a dispatcher slot, or zero for no limit.
+     * @param policy            what to do with the requests submitted while the queue is full.
+     * @param metricsRecorder   the recorder to report the time spent in the queue to, or null.
+     */
+    public RequestQueueInterceptor(int maxQueuedRequests, QueueOverflowPolicy policy, MetricsRecorder metricsRecorder) {
+        if (maxQueuedRequests < 0) {
+            throw new IllegalArgumentException("maxQueuedRequests must be zero or greater.");
+        }
+        this.maxQueuedRequests = maxQueuedRequests;
+        this.policy = policy;
+        this.metricsRecorder = metricsRecorder;
+        this.permits = maxQueuedRequests == 0 ? null : new Semaphore(maxQueuedRequests);
+    }
+
+    /**
+     * @return the maximum number of requests waiting for a dispatcher slot, or zero if there is no limit.
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * @return what is done with the requests submitted while the queue is full.
+     */
+    public QueueOverflowPolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * @return the number of requests currently waiting for a dispatcher slot, or zero if there is no limit.
+     */
+    public int getQueuedRequests() {
+        return permits == null ? 0 : maxQueuedRequests - permits.availablePermits();
+    }
+
+    /**
+     * Admits an asynchronous request into the queue, applying the overflow policy if it is full.
+     *
+     * @return the ticket to tag the request with, or null if the caller must execute the request itself.
+     * @throws RejectedExecutionException if the queue is full and the policy is {@link QueueOverflowPolicy#REJECT}.
+     * @throws InterruptedException       if interrupted while waiting for room in the queue.
+     */
+    Ticket enter() throws InterruptedException {
+        if (permits == null) {
+            return new Ticket(null);
+        }
+        if (policy == QueueOverflowPolicy.BLOCK) {
+            permits.acquire();
+        } else if (!permits.tryAcquire()) {
+            if (policy == QueueOverflowPolicy.CALLER_RUNS) {
+                return null;
+            }
+            throw new RejectedExecutionException("The request queue is full");
+        }
+        return new Ticket(permits);
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        okhttp3.Request request = chain.request();
+        Ticket ticket = request.tag(Ticket.class);
+        if (ticket != null && ticket.leave()) {
+            long waitNanos = System.nanoTime() - ticket.queuedAt;
+            if (metricsRecorder != null) {
+                metricsRecorder.recordQueueWait(EndpointTemplate.of(request), waitNanos);
+            }
+            ExchangeTrace trace = request.tag(ExchangeTrace.class);
+            if (trace != null) {
+                trace.dequeued(waitNanos);
+            }
+        }
+        return chain.proceed(request);
+    }
+
+    /**
+     * Tag set on the asynchronous requests admitted into the queue.
+     */
+    static final class Ticket {
+        private final Semaphore permits;
+        private final AtomicBoolean left = new AtomicBoolean();
+        private volatile long queuedAt;
+
+        private Ticket(Semaphore permits) {
+            this.permits = permits;
+        }
+
+        /**
+         * Starts measuring the time spent in the queue, once the request has been created.
+         */
+        void queued() {
+            queuedAt = System.nanoTime();
+        }
+
+        /**
+         * Removes the request from the queue. Only the first call has an effect.
+         *
+         * @return whether the request was still in the queue.
+         */
+        boolean leave() {
+            if (!left.compareAndSet(false, true)) {
+                return false;
+            }
+            if (permits != null) {
+                permits.release();
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.auth0.net;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.TokenHolder;
+import com.auth0.net.metrics.MetricsRecorder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Caches the tokens obtained by {@link TokenRequest}s, by the parameters they were requested with, such as the
+ * audience, scope and organization.
+ * <p>
+ * A cached token is returned until it is about to expire. Within a minute of its expiration, or in the second half of
+ * the lifetime of short-lived tokens, it is still returned while a new one is requested in the background. Once it
+ * has expired, the callers wait for a new one. In both cases, a single request for a token with the same parameters
+ * is made at a time. Tokens without an expiration are not cached.
+ * <p>
+ * See {@link com.auth0.client.HttpOptions#setTokenCacheEnabled(boolean)}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class TokenCache {
+
+    /**
+     * How long before their expiration tokens are renewed, at most half of their lifetime.
+     */
+    static final long REFRESH_MARGIN = TimeUnit.SECONDS.toMillis(60);
+
+    private final MetricsRecorder metricsRecorder;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, Entry> entries;
+    private final ConcurrentMap<String, CompletableFuture<TokenHolder>> pending;
+
+    /**
+     * Constructs a new instance.
+     *
+     * @param metricsRecorder the recorder to record the cache hits and misses to, or null.
+     */
+    public TokenCache(MetricsRecorder metricsRecorder) {
+        this(metricsRecorder, System::currentTimeMillis);
+    }
+
+    /**
+     * Visible for testing purposes only.
+     *
+     * @param metricsRecorder the recorder to record the cache hits and misses to, or null.
+     * @param clock           the source of the current time, in milliseconds.
+     */
+    TokenCache(MetricsRecorder metricsRecorder, LongSupplier clock) {
+        this.metricsRecorder = metricsRecorder;
+        this.clock = clock;
+        this.entries = new ConcurrentHashMap<>();
+        this.pending = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * @return the number of cached tokens, including expired ones not yet replaced.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Removes the given token from the cache, so that the next request for a token with the same parameters obtains
+     * a new one, for example once the token was rejected.
+     *
+     * @param accessToken the access token to remove.
+     */
+    public void invalidate(String accessToken) {
+        entries.values().removeIf(entry -> accessToken.equals(entry.token.getAccessToken()));
+    }
+
+    TokenHolder get(TokenRequest request) throws Auth0Exception {
+        String key = request.getCacheKey();
+        TokenHolder cached = lookup(key, request);
+        if (cached != null) {
+            return cached;
+        }
+        try {
+            return load(key, false, () -> {
+                try {
+                    return CompletableFuture.completedFuture(request.executeUncached());
+                } catch (Auth0Exception e) {
+                    CompletableFuture<TokenHolder> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(e);
+                    return failed;
+                }
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new Auth0Exception("Failed to execute request", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Auth0Exception) {
+                throw (Auth0Exception) e.getCause();
+            }
+            throw new Auth0Exception("Failed to execute request", e.getCause());
+        }
+    }
+
+    CompletableFuture<TokenHolder> getAsync(TokenRequest request) {
+        String key = request.getCacheKey();
+        TokenHolder cached = lookup(key, request);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+        // completed separately, so that a caller cancelling it does not fail the others sharing the request
+        CompletableFuture<TokenHolder> future = new CompletableFuture<>();
+        load(key, false, request::executeAsyncUncached).whenComplete((token, error) -> {
+            if (error == null) {
+                future.complete(token);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    private TokenHolder lookup(String key, TokenRequest request) {
+        Entry entry = entries.get(key);
+        long now = clock.getAsLong();
+        boolean hit = entry != null && now < entry.expiresAt;
+        if (metricsRecorder != null) {
+            metricsRecorder.recordTokenCacheLookup(String.valueOf(request.getAudience()), hit);
+        }
+        if (!hit) {
+            return null;
+        }
+        if (now >= entry.refreshAt) {
+            // still valid, so it keeps being returned while a new one is requested in the background
+            load(key, true, request::executeAsyncUncached);
+        }
+        return entry.token;
+    }
+
+    /**
+     * Requests a token with the given loader, unless a request for the same key is already in progress, in which
+     * case its result is shared instead.
+     *
+     * @param renewal whether the cached token is still valid, and only needs to be renewed.
+     */
+    private CompletableFuture<TokenHolder> load(String key, boolean renewal, Supplier<CompletableFuture<TokenHolder>> loader) {
+        CompletableFuture<TokenHolder> future = new CompletableFuture<>();
+        CompletableFuture<TokenHolder> inProgress = pending.putIfAbsent(key, future);
+        if (inProgress != null) {
+            return inProgress;
+        }
+        long requestedAt = clock.getAsLong();
+        Entry entry = entries.get(key);
+        if (entry != null && requestedAt < (renewal ? entry.refreshAt : entry.expiresAt)) {
+            // another request completed since the lookup
+            pending.remove(key, future);
+            future.complete(entry.token);
+            return future;
+        }
+        CompletableFuture<TokenHolder> loaded;
+        try {
+            loaded = loader.get();
+        } catch (RuntimeException e) {
+            loaded = new CompletableFuture<>();
+            loaded.completeExceptionally(e);
+        }
+        loaded.whenComplete((token, error) -> {
+            if (error == null) {
+                long lifetime = TimeUnit.SECONDS.toMillis(token.getExpiresIn());
+                if (lifetime > 0) {
+                    // measured from when it was requested, as the token was issued in the meantime
+                    long expiresAt = requestedAt + lifetime;
+                    entries.put(key, new Entry(token, expiresAt - Math.min(REFRESH_MARGIN, lifetime / 2), expiresAt));
+                }
+            }
+            // removed before completing, so that the callers completed next find the new entry
+            pending.remove(key, future);
+            if (error == null) {
+                future.complete(token);
+            } else {
+                future.completeExceptionally(error);
+            }
+        });
+        return future;
+    }
+
+    private static final class Entry {
+        final TokenHolder token;
+        final long refreshAt;
+        final long expiresAt;
+
+        Entry(TokenHolder token, long refreshAt, long expiresAt) {
+            this.token = token;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
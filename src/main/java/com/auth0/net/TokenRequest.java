@@ -1,31 +1,132 @@
 package com.auth0.net;
 
+import com.auth0.exception.Auth0Exception;
 import com.auth0.json.auth.TokenHolder;
 import com.fasterxml.jackson.core.type.TypeReference;
 import okhttp3.OkHttpClient;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+
 public class TokenRequest extends CustomRequest<TokenHolder> implements AuthRequest {
 
-    public TokenRequest(OkHttpClient client, String url) {
-        super(client, url, "POST", new TypeReference<TokenHolder>() {
+    private static final String KEY_AUDIENCE = "audience";
+    private static final String KEY_CLIENT_SECRET = "client_secret";
+
+    private final TokenCache cache;
+    private volatile String cacheKey;
+
+    public TokenRequest(OkHttpClient client, String url, JsonCodec codec) {
+        this(client, url, codec, null);
+    }
+
+    /**
+     * Creates a request whose token is looked up in the given cache before being requested, and stored in it after.
+     *
+     * @param client the client to execute the request with.
+     * @param url    the URL of the request.
+     * @param codec  the codec to serialize the body and deserialize the response with.
+     * @param cache  the cache of the tokens, or null to always request a new token.
+     */
+    public TokenRequest(OkHttpClient client, String url, JsonCodec codec, TokenCache cache) {
+        super(client, url, "POST", codec, new TypeReference<TokenHolder>() {
         });
+        this.cache = cache;
+    }
+
+    public TokenRequest(OkHttpClient client, String url) {
+        this(client, url, JsonCodec.getDefault());
     }
 
     @Override
     public TokenRequest setRealm(String realm) {
-        super.addParameter("realm", realm);
+        addParameter("realm", realm);
         return this;
     }
 
     @Override
     public TokenRequest setAudience(String audience) {
-        super.addParameter("audience", audience);
+        addParameter(KEY_AUDIENCE, audience);
         return this;
     }
 
     @Override
     public TokenRequest setScope(String scope) {
-        super.addParameter("scope", scope);
+        addParameter("scope", scope);
+        return this;
+    }
+
+    @Override
+    public TokenRequest addParameter(String name, Object value) {
+        super.addParameter(name, value);
+        cacheKey = null;
         return this;
     }
+
+    @Override
+    public TokenHolder execute() throws Auth0Exception {
+        return cache == null ? super.execute() : cache.get(this);
+    }
+
+    @Override
+    public CompletableFuture<TokenHolder> executeAsync() {
+        return cache == null ? super.executeAsync() : cache.getAsync(this);
+    }
+
+    TokenHolder executeUncached() throws Auth0Exception {
+        return super.execute();
+    }
+
+    CompletableFuture<TokenHolder> executeAsyncUncached() {
+        return super.executeAsync();
+    }
+
+    Object getAudience() {
+        return getParameters().get(KEY_AUDIENCE);
+    }
+
+    /**
+     * @return the key of the token in the cache, made of every parameter of the request, such as its audience, scope
+     * and organization, with the client secret hashed. Computed once, unless a parameter is added since.
+     */
+    String getCacheKey() {
+        String key = cacheKey;
+        if (key == null) {
+            key = computeCacheKey();
+            cacheKey = key;
+        }
+        return key;
+    }
+
+    private String computeCacheKey() {
+        Map<String, Object> parameters = new TreeMap<>(getParameters());
+        Object secret = parameters.get(KEY_CLIENT_SECRET);
+        if (secret != null) {
+            // so that a token obtained with a former secret is not returned, without keeping the secret around
+            parameters.put(KEY_CLIENT_SECRET, hash(String.valueOf(secret)));
+        }
+        StringBuilder key = new StringBuilder();
+        for (Map.Entry<String, Object> e : parameters.entrySet()) {
+            // length-prefixed, so that no value can be mistaken for another parameter
+            String value = String.valueOf(e.getValue());
+            key.append(e.getKey().length()).append(':').append(e.getKey())
+                    .append(value.length()).append(':').append(value);
+        }
+        return key.toString();
+    }
+
+    private static String hash(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
 }
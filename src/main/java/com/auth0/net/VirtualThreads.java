@@ -0,0 +1,58 @@
+package com.auth0.net;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors backed by virtual threads when the runtime supports them (Java 21 or later). The library is
+ * compiled for Java 8, so the virtual thread API is looked up reflectively.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public final class VirtualThreads {
+
+    private static final Method OF_VIRTUAL = findMethod(Thread.class, "ofVirtual");
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * @return whether the runtime supports virtual threads.
+     */
+    public static boolean isAvailable() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * Creates an executor that runs each task on a new virtual thread.
+     *
+     * @param namePrefix the prefix of the thread names, followed by a counter.
+     * @return a new executor backed by virtual threads.
+     * @throws IllegalStateException if the runtime does not support virtual threads.
+     */
+    public static ExecutorService newExecutor(String namePrefix) {
+        if (!isAvailable()) {
+            throw new IllegalStateException("Virtual threads require Java 21 or later.");
+        }
+        try {
+            Object builder = OF_VIRTUAL.invoke(null);
+            Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+            builder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+            ThreadFactory factory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor.", e);
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type.getMethod(name);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.auth0.net;
 
 import com.auth0.exception.Auth0Exception;
 import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
 import okhttp3.Response;
 
@@ -18,11 +19,29 @@ import java.util.HashMap;
  */
 public class VoidRequest extends CustomRequest<Void> {
 
-    public VoidRequest(OkHttpClient client, String url, String method) {
-        super(client, url, method, new TypeReference<Void>() {
+    public VoidRequest(OkHttpClient client, String url, String method, JsonCodec codec) {
+        super(client, url, method, codec, new TypeReference<Void>() {
+        });
+    }
+
+    /**
+     * Creates a request to an already parsed URL, which is used as is instead of being parsed again when the request
+     * is executed.
+     *
+     * @param client the client to execute the request with.
+     * @param url    the URL of the request.
+     * @param method the HTTP method of the request.
+     * @param codec  the codec to serialize the body with.
+     */
+    public VoidRequest(OkHttpClient client, HttpUrl url, String method, JsonCodec codec) {
+        super(client, url, method, codec, new TypeReference<Void>() {
         });
     }
 
+    public VoidRequest(OkHttpClient client, String url, String method) {
+        this(client, url, method, JsonCodec.getDefault());
+    }
+
     @Override
     protected Void parseResponse(Response response) throws Auth0Exception {
         if (!response.isSuccessful()) {
@@ -0,0 +1,110 @@
+package com.auth0.net.metrics;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Derives the endpoint template of a request, made of its HTTP method and its path with the identifiers replaced by
+ * {@code {id}}, for example {@code GET /api/v2/users/{id}/roles}. The query is left out.
+ * <p>
+ * The segments that follow a collection whose members are always addressed by a parameter, such as
+ * {@code /users/}, {@code /roles/}, {@code /connections/} or {@code /organizations/name/}, are replaced whatever
+ * they look like, so that names such as an organization or connection name do not each produce a template of their
+ * own. Elsewhere, a path segment is considered an identifier when it contains a digit or one of {@code | @ . :}, or
+ * when it is longer than {@value #MAX_NAME_LENGTH} characters, except for API versions such as {@code v2}. This
+ * covers the identifiers used by Auth0, while keeping resource names such as {@code users}, {@code email-templates}
+ * or {@code brute-force-protection} as they are.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public final class EndpointTemplate {
+
+    static final int MAX_NAME_LENGTH = 24;
+    private static final String PLACEHOLDER = "{id}";
+
+    /**
+     * The segments followed by parameters, with the number of parameters that follow them.
+     */
+    private static final Map<String, Integer> PARAMETERS = new HashMap<>();
+    static {
+        for (String collection : new String[]{"users", "roles", "connections", "clients", "organizations",
+                "client-grants", "grants", "device-credentials", "logs", "log-streams", "resource-servers", "rules",
+                "rules-configs", "user-blocks", "members", "enabled_connections", "invitations", "name"}) {
+            PARAMETERS.put(collection, 1);
+        }
+        // the identity provider, then the user id at that provider
+        PARAMETERS.put("identities", 2);
+    }
+
+    private EndpointTemplate() {
+    }
+
+    /**
+     * @param request the request.
+     * @return the endpoint template of the request.
+     */
+    public static String of(Request request) {
+        return of(request.method(), request.url());
+    }
+
+    /**
+     * @param method the HTTP method of the request.
+     * @param url    the URL of the request.
+     * @return the endpoint template of the request.
+     */
+    public static String of(String method, HttpUrl url) {
+        List<String> segments = url.pathSegments();
+        StringBuilder template = new StringBuilder(method.length() + url.encodedPath().length() + 8);
+        template.append(method).append(' ');
+        int parameters = 0;
+        for (String segment : segments) {
+            if (segment.isEmpty()) {
+                continue;
+            }
+            boolean parameter = parameters > 0 && !"name".equals(segment);
+            if (parameter) {
+                parameters--;
+            } else {
+                parameters = PARAMETERS.getOrDefault(segment, 0);
+            }
+            template.append('/').append(parameter || isIdentifier(segment) ? PLACEHOLDER : segment);
+        }
+        if (template.charAt(template.length() - 1) == ' ') {
+            template.append('/');
+        }
+        return template.toString();
+    }
+
+    static boolean isIdentifier(String segment) {
+        if (segment.length() > MAX_NAME_LENGTH) {
+            return true;
+        }
+        if (isVersion(segment)) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if ((c >= '0' && c <= '9') || c == '|' || c == '@' || c == '.' || c == ':') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isVersion(String segment) {
+        if (segment.length() < 2 || segment.length() > 3 || segment.charAt(0) != 'v') {
+            return false;
+        }
+        for (int i = 1; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,222 @@
+package com.auth0.net.metrics;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A {@link MetricsRecorder} that keeps the metrics in memory, so that they can be read and exported periodically
+ * without depending on a metrics library. Latencies are kept in a {@link LatencyHistogram} for every endpoint.
+ * <p>
+ * This class is thread-safe.
+ */
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+    private static final int MAX_STATUS_CODE = 599;
+
+    private final ConcurrentMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, TokenCacheMetrics> tokenCaches = new ConcurrentHashMap<>();
+    private final AtomicInteger queuedCalls = new AtomicInteger();
+    private final AtomicInteger runningCalls = new AtomicInteger();
+    private final AtomicInteger maxQueuedCalls = new AtomicInteger();
+
+    @Override
+    public void recordRequest(String endpoint, int statusCode, long durationNanos) {
+        EndpointMetrics metrics = metricsOf(endpoint);
+        metrics.latency.record(durationNanos);
+        if (statusCode >= 0 && statusCode <= MAX_STATUS_CODE) {
+            metrics.statusCounts.incrementAndGet(statusCode);
+        }
+    }
+
+    @Override
+    public void recordRetry(String endpoint) {
+        metricsOf(endpoint).retries.increment();
+    }
+
+    @Override
+    public void recordBytes(String endpoint, long bytesSent, long bytesReceived) {
+        EndpointMetrics metrics = metricsOf(endpoint);
+        metrics.bytesSent.add(bytesSent);
+        metrics.bytesReceived.add(bytesReceived);
+    }
+
+    @Override
+    public void recordCompression(String endpoint, long uncompressedBytes, long compressedBytes) {
+        EndpointMetrics metrics = metricsOf(endpoint);
+        metrics.uncompressedBytes.add(uncompressedBytes);
+        metrics.compressedBytes.add(compressedBytes);
+    }
+
+    @Override
+    public void recordQueueWait(String endpoint, long waitNanos) {
+        metricsOf(endpoint).queueWait.record(waitNanos);
+    }
+
+    @Override
+    public void recordTokenCacheLookup(String audience, boolean hit) {
+        TokenCacheMetrics metrics = tokenCaches.computeIfAbsent(audience, k -> new TokenCacheMetrics());
+        (hit ? metrics.hits : metrics.misses).increment();
+    }
+
+    @Override
+    public void recordDispatcher(int queuedCalls, int runningCalls) {
+        this.queuedCalls.set(queuedCalls);
+        this.runningCalls.set(runningCalls);
+        if (queuedCalls > maxQueuedCalls.get()) {
+            maxQueuedCalls.accumulateAndGet(queuedCalls, Math::max);
+        }
+    }
+
+    /**
+     * @return the endpoint templates for which metrics were recorded.
+     */
+    public Set<String> getEndpoints() {
+        return Collections.unmodifiableSet(endpoints.keySet());
+    }
+
+    /**
+     * @param endpoint the endpoint template, e.g. {@code GET /api/v2/users/{id}}.
+     * @return the histogram of the request durations of the endpoint, in nanoseconds, or null if none was recorded.
+     */
+    public LatencyHistogram getLatency(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? null : metrics.latency;
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the size of the request bodies sent compressed to the endpoint, before compression.
+     */
+    public long getUncompressedBytes(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : metrics.uncompressedBytes.sum();
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the size of the request bodies sent compressed to the endpoint, after compression. The bytes saved are
+     * the difference with {@link #getUncompressedBytes(String)}.
+     */
+    public long getCompressedBytes(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : metrics.compressedBytes.sum();
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the histogram of the time asynchronous requests to the endpoint waited in the request queue, in
+     * nanoseconds, or null if no request to the endpoint was recorded.
+     */
+    public LatencyHistogram getQueueWait(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? null : metrics.queueWait;
+    }
+
+    /**
+     * @param endpoint   the endpoint template.
+     * @param statusCode the status code, or zero for requests that received no response.
+     * @return the number of requests to the endpoint that completed with the given status code.
+     */
+    public long getStatusCount(String endpoint, int statusCode) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null || statusCode < 0 || statusCode > MAX_STATUS_CODE) {
+            return 0;
+        }
+        return metrics.statusCounts.get(statusCode);
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the number of rate-limit retries of requests to the endpoint.
+     */
+    public long getRetryCount(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : metrics.retries.sum();
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the number of request body bytes sent to the endpoint.
+     */
+    public long getBytesSent(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : metrics.bytesSent.sum();
+    }
+
+    /**
+     * @param endpoint the endpoint template.
+     * @return the number of response body bytes received from the endpoint.
+     */
+    public long getBytesReceived(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        return metrics == null ? 0 : metrics.bytesReceived.sum();
+    }
+
+    /**
+     * @param audience the audience of the tokens.
+     * @return the number of tokens for the audience that were returned from the token cache.
+     */
+    public long getTokenCacheHits(String audience) {
+        TokenCacheMetrics metrics = tokenCaches.get(audience);
+        return metrics == null ? 0 : metrics.hits.sum();
+    }
+
+    /**
+     * @param audience the audience of the tokens.
+     * @return the number of tokens for the audience that were not found in the token cache, and had to be requested.
+     */
+    public long getTokenCacheMisses(String audience) {
+        TokenCacheMetrics metrics = tokenCaches.get(audience);
+        return metrics == null ? 0 : metrics.misses.sum();
+    }
+
+    /**
+     * @return the number of asynchronous calls waiting for a dispatcher slot when the last request was submitted.
+     */
+    public int getQueuedCalls() {
+        return queuedCalls.get();
+    }
+
+    /**
+     * @return the number of other calls in progress when the last request was submitted.
+     */
+    public int getRunningCalls() {
+        return runningCalls.get();
+    }
+
+    /**
+     * @return the largest number of asynchronous calls seen waiting for a dispatcher slot.
+     */
+    public int getMaxQueuedCalls() {
+        return maxQueuedCalls.get();
+    }
+
+    private EndpointMetrics metricsOf(String endpoint) {
+        EndpointMetrics metrics = endpoints.get(endpoint);
+        if (metrics == null) {
+            metrics = endpoints.computeIfAbsent(endpoint, k -> new EndpointMetrics());
+        }
+        return metrics;
+    }
+
+    private static final class EndpointMetrics {
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram queueWait = new LatencyHistogram();
+        private final AtomicLongArray statusCounts = new AtomicLongArray(MAX_STATUS_CODE + 1);
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder bytesSent = new LongAdder();
+        private final LongAdder bytesReceived = new LongAdder();
+        private final LongAdder uncompressedBytes = new LongAdder();
+        private final LongAdder compressedBytes = new LongAdder();
+    }
+
+    private static final class TokenCacheMetrics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+    }
+}
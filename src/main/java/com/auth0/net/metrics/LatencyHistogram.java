@@ -0,0 +1,118 @@
+package com.auth0.net.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free histogram of non-negative values, such as latencies in nanoseconds, that can be recorded concurrently
+ * from many threads without contention on a lock.
+ * <p>
+ * Values are counted in log-linear buckets: every power of two is split into {@value #SUB_BUCKETS} buckets of equal
+ * width, so percentiles are reported with a relative error below 12.5% whatever the magnitude of the values, using a
+ * fixed amount of memory (about 4 KB). Values below {@value #SUB_BUCKETS} are counted exactly.
+ * <p>
+ * Reads are not atomic with respect to concurrent writes: a percentile computed while values are being recorded
+ * reflects some, but not necessarily all, of the values recorded concurrently.
+ * <p>
+ * This class is thread-safe.
+ */
+public final class LatencyHistogram {
+
+    static final int SUB_BUCKET_BITS = 3;
+    static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        counts.incrementAndGet(bucketOf(value));
+        count.increment();
+        sum.add(value);
+        if (value > max.get()) {
+            max.accumulateAndGet(value, Math::max);
+        }
+    }
+
+    /**
+     * @return the number of values recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * @return the largest value recorded, or zero if none was.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the values recorded, or zero if none was.
+     */
+    public double getMean() {
+        long n = count.sum();
+        return n == 0 ? 0 : (double) sum.sum() / n;
+    }
+
+    /**
+     * Returns the value below or at which the given percentage of the recorded values fall. The value returned is
+     * the upper bound of the bucket the percentile falls in, capped to the largest value recorded.
+     *
+     * @param percentile the percentile, between 0 and 100, e.g. 99.9.
+     * @return the value at the given percentile, or zero if no value was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100.");
+        }
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            snapshot[i] = counts.get(i);
+            total += snapshot[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += snapshot[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), getMax());
+            }
+        }
+        return getMax();
+    }
+
+    static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int shift = bucket / SUB_BUCKETS - 1;
+        long next = (long) (SUB_BUCKETS + bucket % SUB_BUCKETS + 1) << shift;
+        return next - 1;
+    }
+}
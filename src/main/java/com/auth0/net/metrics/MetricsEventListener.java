@@ -0,0 +1,80 @@
+package com.auth0.net.metrics;
+
+import okhttp3.Call;
+import okhttp3.Dispatcher;
+import okhttp3.EventListener;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp {@linkplain EventListener} that records the bytes transferred by every call, and the state of the
+ * dispatcher when a call starts, to a {@link MetricsRecorder}.
+ * <p>
+ * A new listener is created for each call, so instances are confined to the call they observe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class MetricsEventListener extends EventListener {
+
+    private final MetricsRecorder recorder;
+    private final Dispatcher dispatcher;
+    private long bytesSent;
+    private long bytesReceived;
+
+    MetricsEventListener(MetricsRecorder recorder, Dispatcher dispatcher) {
+        this.recorder = recorder;
+        this.dispatcher = dispatcher;
+    }
+
+    @Override
+    public void callStart(@NotNull Call call) {
+        recorder.recordDispatcher(dispatcher.queuedCallsCount(), dispatcher.runningCallsCount());
+    }
+
+    @Override
+    public void requestBodyEnd(@NotNull Call call, long byteCount) {
+        bytesSent += byteCount;
+    }
+
+    @Override
+    public void responseBodyEnd(@NotNull Call call, long byteCount) {
+        bytesReceived += byteCount;
+    }
+
+    @Override
+    public void callEnd(@NotNull Call call) {
+        recorder.recordBytes(EndpointTemplate.of(call.request()), bytesSent, bytesReceived);
+    }
+
+    @Override
+    public void callFailed(@NotNull Call call, @NotNull IOException ioe) {
+        recorder.recordBytes(EndpointTemplate.of(call.request()), bytesSent, bytesReceived);
+    }
+
+    /**
+     * Creates a {@link MetricsEventListener} for every call.
+     */
+    public static class Factory implements EventListener.Factory {
+
+        private final MetricsRecorder recorder;
+        private final Dispatcher dispatcher;
+
+        /**
+         * Constructs a new factory of listeners that record to the given recorder.
+         *
+         * @param recorder   the recorder to record the metrics to.
+         * @param dispatcher the dispatcher the calls are executed by.
+         */
+        public Factory(MetricsRecorder recorder, Dispatcher dispatcher) {
+            this.recorder = recorder;
+            this.dispatcher = dispatcher;
+        }
+
+        @NotNull
+        @Override
+        public EventListener create(@NotNull Call call) {
+            return new MetricsEventListener(recorder, dispatcher);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.auth0.net.metrics;
+
+import okhttp3.Interceptor;
+import okhttp3.Request;
+import okhttp3.Response;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * An OkHttp {@linkplain Interceptor} that records the duration and status code of every request to a
+ * {@link MetricsRecorder}.
+ * <p>
+ * This class is thread-safe.
+ * <p>
+ * <strong>Note: This class is not intended for general use or extension, and may change at any time.</strong>
+ */
+public class MetricsInterceptor implements Interceptor {
+
+    private final MetricsRecorder recorder;
+
+    /**
+     * Constructs a new instance that records to the given recorder.
+     *
+     * @param recorder the recorder to record the metrics to.
+     */
+    public MetricsInterceptor(MetricsRecorder recorder) {
+        this.recorder = recorder;
+    }
+
+    @NotNull
+    @Override
+    public Response intercept(@NotNull Chain chain) throws IOException {
+        Request request = chain.request();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = chain.proceed(request);
+        } catch (IOException | RuntimeException e) {
+            recorder.recordRequest(EndpointTemplate.of(request), 0, System.nanoTime() - start);
+            throw e;
+        }
+        recorder.recordRequest(EndpointTemplate.of(request), response.code(), System.nanoTime() - start);
+        return response;
+    }
+}
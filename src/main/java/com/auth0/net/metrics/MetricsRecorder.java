@@ -0,0 +1,88 @@
+package com.auth0.net.metrics;
+
+/**
+ * Receives the metrics of the requests executed by an API client. Implementations can forward them to a metrics
+ * library, or keep them in memory like {@link InMemoryMetricsRecorder}.
+ * <p>
+ * Requests are identified by their endpoint template, made of the HTTP method and the path with its identifiers
+ * replaced by placeholders, for example {@code GET /api/v2/users/{id}}. See {@link EndpointTemplate}.
+ * <p>
+ * The methods are called on the threads executing the requests, so implementations must be thread-safe, should
+ * return quickly and must not throw. Every method has an empty default implementation, so that implementations
+ * only need to override the metrics they are interested in.
+ *
+ * @see com.auth0.client.HttpOptions#setMetricsRecorder(MetricsRecorder)
+ */
+public interface MetricsRecorder {
+
+    /**
+     * Records the completion of a request. For synchronous requests the duration includes any rate-limit retries,
+     * while for asynchronous requests each retry is recorded as a separate request.
+     *
+     * @param endpoint      the endpoint template of the request.
+     * @param statusCode    the status code of the response, or zero if no response was received.
+     * @param durationNanos the time from sending the request to receiving the response headers, in nanoseconds.
+     */
+    default void recordRequest(String endpoint, int statusCode, long durationNanos) {
+    }
+
+    /**
+     * Records a retry of a request that was rate-limited.
+     *
+     * @param endpoint the endpoint template of the request.
+     */
+    default void recordRetry(String endpoint) {
+    }
+
+    /**
+     * Records the number of bytes transferred by a request once it completes, excluding headers. Responses served
+     * from the response cache transfer no bytes.
+     *
+     * @param endpoint      the endpoint template of the request.
+     * @param bytesSent     the size of the request bodies sent, in bytes.
+     * @param bytesReceived the size of the response bodies received, in bytes.
+     */
+    default void recordBytes(String endpoint, long bytesSent, long bytesReceived) {
+    }
+
+    /**
+     * Records the size of a request body that was compressed before being sent. Only reported when request compression
+     * is enabled, see {@link com.auth0.client.HttpOptions#setRequestCompressionEnabled(boolean)}.
+     *
+     * @param endpoint          the endpoint template of the request.
+     * @param uncompressedBytes the size of the body before compression, in bytes.
+     * @param compressedBytes   the size of the body sent, in bytes.
+     */
+    default void recordCompression(String endpoint, long uncompressedBytes, long compressedBytes) {
+    }
+
+    /**
+     * Records the time an asynchronous request waited in the request queue before the dispatcher started executing
+     * it. Only reported when the request queue is bounded, see
+     * {@link com.auth0.client.HttpOptions#setMaxQueuedRequests(int)}.
+     *
+     * @param endpoint  the endpoint template of the request.
+     * @param waitNanos the time spent in the queue, in nanoseconds.
+     */
+    default void recordQueueWait(String endpoint, long waitNanos) {
+    }
+
+    /**
+     * Records a lookup in the token cache of the Authentication API client. Only reported when the token cache is
+     * enabled, see {@link com.auth0.client.HttpOptions#setTokenCacheEnabled(boolean)}.
+     *
+     * @param audience the audience of the requested token.
+     * @param hit      whether a cached token was returned, rather than a new one requested.
+     */
+    default void recordTokenCacheLookup(String audience, boolean hit) {
+    }
+
+    /**
+     * Records the state of the dispatcher when a request is submitted.
+     *
+     * @param queuedCalls  the number of asynchronous calls waiting for a dispatcher slot.
+     * @param runningCalls the number of other calls in progress, synchronous and asynchronous.
+     */
+    default void recordDispatcher(int queuedCalls, int runningCalls) {
+    }
+}
@@ -4,39 +4,53 @@ import com.auth0.exception.IdTokenValidationException;
 import com.auth0.jwt.interfaces.DecodedJWT;
 import com.auth0.utils.Asserts;
 
-import java.util.Calendar;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 
 /**
  * Provides utility methods for validating an OIDC-compliant ID token.
  * See the <a href="https://openid.net/specs/openid-connect-core-1_0-final.html#IDTokenValidation">OIDC Specification</a> for more information.
  * <p>
- * This class is not thread-safe:
- * It makes use of {@link Date} and {@link Calendar} classes to verify time sensitive claims.
+ * This class is thread-safe, provided its {@link SignatureVerifier} is.
  */
 public final class IdTokenVerifier {
 
     private static final Integer DEFAULT_LEEWAY = 60; // 1 min = 60 sec
 
+    // the number of tokens below which a batch is verified on a single thread
+    private static final int BATCH_THRESHOLD = 16;
+
     private static final String NONCE_CLAIM = "nonce";
     private static final String AZP_CLAIM = "azp";
     private static final String AUTH_TIME_CLAIM = "auth_time";
 
     private final String issuer;
     private final String audience;
-    private final Integer leeway;
-    private final Date clock;
+    private final long leeway;
+    private final Clock clock;
     private final SignatureVerifier signatureVerifier;
     private final String organization;
+    private final VerifiedTokenCache cache;
+    private final boolean fastRejection;
 
     private IdTokenVerifier(Builder builder) {
         this.issuer = builder.issuer;
         this.audience = builder.audience;
-        this.leeway = builder.leeway;
+        this.leeway = (builder.leeway != null ? builder.leeway : DEFAULT_LEEWAY) * 1000L;
         this.signatureVerifier = builder.signatureVerifier;
         this.clock = builder.clock;
         this.organization = builder.organization;
+        this.cache = builder.cache;
+        this.fastRejection = builder.fastRejection;
     }
 
     /**
@@ -115,13 +129,45 @@ public final class IdTokenVerifier {
             throw new IdTokenValidationException("ID token is required but missing");
         }
 
-        DecodedJWT decoded = this.signatureVerifier.verifySignature(token);
+        // time-based claims are compared in epoch milliseconds, so that no Calendar or Date is created
+        final long now = this.clock.millis();
+
+        // a token verified before skips its signature verification, but still has all its claims verified
+        final ByteBuffer cacheKey = this.cache != null ? VerifiedTokenCache.keyOf(token) : null;
+        DecodedJWT cached = cacheKey != null ? this.cache.get(cacheKey, now) : null;
+        if (cached != null) {
+            verifyClaims(cached, nonce, maxAuthenticationAge, now);
+            return;
+        }
+
+        final DecodedJWT decoded;
+        final long expTime;
+        if (this.fastRejection) {
+            // the claims are cheap to verify, unlike the signature, so invalid tokens are rejected before it is
+            decoded = this.signatureVerifier.decodeToken(token);
+            expTime = verifyClaims(decoded, nonce, maxAuthenticationAge, now);
+            this.signatureVerifier.verifySignature(decoded);
+        } else {
+            decoded = this.signatureVerifier.verifySignature(token);
+            expTime = verifyClaims(decoded, nonce, maxAuthenticationAge, now);
+        }
+
+        if (cacheKey != null) {
+            this.cache.put(cacheKey, decoded, expTime, now);
+        }
+    }
 
+    /**
+     * Verifies the claims of a decoded ID token.
+     *
+     * @return when the token expires, including the leeway, in milliseconds.
+     */
+    private long verifyClaims(DecodedJWT decoded, String nonce, Integer maxAuthenticationAge, long now) throws IdTokenValidationException {
         if (isEmpty(decoded.getIssuer())) {
             throw new IdTokenValidationException("Issuer (iss) claim must be a string present in the ID token");
         }
         if (!decoded.getIssuer().equals(this.issuer)) {
-            throw new IdTokenValidationException(String.format("Issuer (iss) claim mismatch in the ID token, expected \"%s\", found \"%s\"", this.issuer, decoded.getIssuer()));
+            throw new IdTokenValidationException("Issuer (iss) claim mismatch in the ID token, expected \"" + this.issuer + "\", found \"" + decoded.getIssuer() + "\"");
         }
 
         if (isEmpty(decoded.getSubject())) {
@@ -133,7 +179,7 @@ public final class IdTokenVerifier {
             throw new IdTokenValidationException("Audience (aud) claim must be a string or array of strings present in the ID token");
         }
         if (!audience.contains(this.audience)) {
-            throw new IdTokenValidationException(String.format("Audience (aud) claim mismatch in the ID token; expected \"%s\" but found \"%s\"", this.audience, decoded.getAudience()));
+            throw new IdTokenValidationException("Audience (aud) claim mismatch in the ID token; expected \"" + this.audience + "\" but found \"" + audience + "\"");
         }
 
         // Org verification
@@ -143,41 +189,32 @@ public final class IdTokenVerifier {
                 throw new IdTokenValidationException("Organization Id (org_id) claim must be a string present in the ID token");
             }
             if (!this.organization.equals(orgClaim)) {
-                throw new IdTokenValidationException(String.format("Organization (org_id) claim mismatch in the ID token; expected \"%s\" but found \"%s\"", this.organization, orgClaim));
+                throw new IdTokenValidationException("Organization (org_id) claim mismatch in the ID token; expected \"" + this.organization + "\" but found \"" + orgClaim + "\"");
             }
 
         }
 
-        final Calendar cal = Calendar.getInstance();
-        final Date now = this.clock != null ? this.clock : cal.getTime();
-        final int clockSkew = this.leeway != null ? this.leeway : DEFAULT_LEEWAY;
-
-        if (decoded.getExpiresAt() == null) {
+        final Date expiresAt = decoded.getExpiresAt();
+        if (expiresAt == null) {
             throw new IdTokenValidationException("Expiration Time (exp) claim must be a number present in the ID token");
         }
 
-        cal.setTime(decoded.getExpiresAt());
-        cal.add(Calendar.SECOND, clockSkew);
-        Date expDate = cal.getTime();
-
-        if (now.after(expDate)) {
-            throw new IdTokenValidationException(String.format("Expiration Time (exp) claim error in the ID token; current time (%d) is after expiration time (%d)", now.getTime() / 1000, expDate.getTime() / 1000));
+        final long expTime = expiresAt.getTime() + this.leeway;
+        if (now > expTime) {
+            throw new IdTokenValidationException("Expiration Time (exp) claim error in the ID token; current time (" + now / 1000 + ") is after expiration time (" + expTime / 1000 + ")");
         }
 
         if (decoded.getIssuedAt() == null) {
             throw new IdTokenValidationException("Issued At (iat) claim must be a number present in the ID token");
         }
 
-        cal.setTime(decoded.getIssuedAt());
-        cal.add(Calendar.SECOND, -1 * clockSkew);
-
         if (nonce != null) {
             String nonceClaim = decoded.getClaim(NONCE_CLAIM).asString();
             if (isEmpty(nonceClaim)) {
                 throw new IdTokenValidationException("Nonce (nonce) claim must be a string present in the ID token");
             }
             if (!nonce.equals(nonceClaim)) {
-                throw new IdTokenValidationException(String.format("Nonce (nonce) claim mismatch in the ID token; expected \"%s\", found \"%s\"", nonce, nonceClaim));
+                throw new IdTokenValidationException("Nonce (nonce) claim mismatch in the ID token; expected \"" + nonce + "\", found \"" + nonceClaim + "\"");
             }
         }
 
@@ -187,31 +224,103 @@ public final class IdTokenVerifier {
                 throw new IdTokenValidationException("Authorized Party (azp) claim must be a string present in the ID token when Audience (aud) claim has multiple values");
             }
             if (!this.audience.equals(azpClaim)) {
-                throw new IdTokenValidationException(String.format("Authorized Party (azp) claim mismatch in the ID token; expected \"%s\", found \"%s\"", this.audience, azpClaim));
+                throw new IdTokenValidationException("Authorized Party (azp) claim mismatch in the ID token; expected \"" + this.audience + "\", found \"" + azpClaim + "\"");
             }
         }
 
         if (maxAuthenticationAge != null) {
-            Date authTime = decoded.getClaim(AUTH_TIME_CLAIM).asDate();
+            Long authTime = decoded.getClaim(AUTH_TIME_CLAIM).asLong();
             if (authTime == null) {
                 throw new IdTokenValidationException("Authentication Time (auth_time) claim must be a number present in the ID token when Max Age (max_age) is specified");
             }
 
-            cal.setTime(authTime);
-            cal.add(Calendar.SECOND, maxAuthenticationAge);
-            cal.add(Calendar.SECOND, clockSkew);
-            Date authTimeDate = cal.getTime();
+            final long authTimeLimit = (authTime + maxAuthenticationAge) * 1000 + this.leeway;
+            if (now > authTimeLimit) {
+                throw new IdTokenValidationException("Authentication Time (auth_time) claim in the ID token indicates that too much time has passed since the last end-user authentication. Current time (" + now / 1000 + ") is after last auth at (" + authTimeLimit / 1000 + ")");
+            }
+        }
+
+        return expTime;
+    }
+
+    /**
+     * Verifies a batch of ID tokens in parallel on the {@linkplain ForkJoinPool#commonPool() common pool}, as
+     * {@link #verify(String)} does, for example to verify the tokens of an audit log.
+     *
+     * @param tokens the ID tokens to verify. Must not be null.
+     * @return the tokens that failed verification, in the order they were given, mapped to the reason they did.
+     * Empty if every token is valid.
+     * @see IdTokenVerifier#verifyAll(Collection, ForkJoinPool)
+     */
+    public Map<String, IdTokenValidationException> verifyAll(Collection<String> tokens) {
+        return verifyAll(tokens, ForkJoinPool.commonPool());
+    }
 
-            if (now.after(authTimeDate)) {
-                throw new IdTokenValidationException(String.format("Authentication Time (auth_time) claim in the ID token indicates that too much time has passed since the last end-user authentication. Current time (%d) is after last auth at (%d)", now.getTime() / 1000, authTimeDate.getTime() / 1000));
+    /**
+     * Verifies a batch of ID tokens in parallel on the given pool, as {@link #verify(String)} does, for example to
+     * verify the tokens of an audit log.
+     *
+     * @param tokens the ID tokens to verify. Must not be null.
+     * @param pool   the pool to verify the tokens on. Must not be null.
+     * @return the tokens that failed verification, in the order they were given, mapped to the reason they did.
+     * Empty if every token is valid.
+     * @see IdTokenVerifier#verifyAll(Collection)
+     */
+    public Map<String, IdTokenValidationException> verifyAll(Collection<String> tokens, ForkJoinPool pool) {
+        Asserts.assertNotNull(tokens, "tokens");
+        Asserts.assertNotNull(pool, "pool");
+
+        List<String> batch = new ArrayList<>(tokens);
+        IdTokenValidationException[] failures = new IdTokenValidationException[batch.size()];
+        pool.invoke(new VerifyBatch(batch, failures, 0, batch.size()));
+
+        Map<String, IdTokenValidationException> failed = new LinkedHashMap<>();
+        for (int i = 0; i < failures.length; i++) {
+            if (failures[i] != null) {
+                failed.put(batch.get(i), failures[i]);
             }
         }
+        return failed;
     }
 
     private boolean isEmpty(String value) {
         return value == null || value.isEmpty();
     }
 
+    /**
+     * Verifies the tokens of a batch in the range {@code [from, to)}, splitting it in halves until small enough.
+     */
+    private final class VerifyBatch extends RecursiveAction {
+
+        private final List<String> tokens;
+        private final IdTokenValidationException[] failures;
+        private final int from;
+        private final int to;
+
+        VerifyBatch(List<String> tokens, IdTokenValidationException[] failures, int from, int to) {
+            this.tokens = tokens;
+            this.failures = failures;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= BATCH_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    try {
+                        verify(tokens.get(i));
+                    } catch (IdTokenValidationException e) {
+                        failures[i] = e;
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new VerifyBatch(tokens, failures, from, middle), new VerifyBatch(tokens, failures, middle, to));
+        }
+    }
+
     /**
      * Builder class to construct a {@linkplain IdTokenVerifier}
      */
@@ -222,8 +331,10 @@ public final class IdTokenVerifier {
         private final SignatureVerifier signatureVerifier;
 
         private Integer leeway;
-        private Date clock;
+        private Clock clock = Clock.systemUTC();
         private String organization;
+        private VerifiedTokenCache cache;
+        private boolean fastRejection;
 
         /**
          * Create a new Builder instance.
@@ -266,6 +377,55 @@ public final class IdTokenVerifier {
             return this;
         }
 
+        /**
+         * Enable caching the ID tokens that were successfully verified, so that verifying the same token again skips
+         * the verification of its signature until it expires. Its claims, such as the nonce, organization and
+         * authentication time, are still verified every time. Tokens are cached by their hash, and about the least
+         * recently verified ones are evicted once the cache holds {@code maxSize} tokens. Looking up a token takes no
+         * lock. Disabled by default.
+         *
+         * @param maxSize the maximum number of verified tokens to cache. Must be one or greater.
+         * @return this Builder instance.
+         */
+        public Builder withVerificationCache(int maxSize) {
+            if (maxSize < 1) {
+                throw new IllegalArgumentException("maxSize must be one or greater.");
+            }
+            this.cache = new VerifiedTokenCache(maxSize);
+            return this;
+        }
+
+        /**
+         * Specify whether to verify the claims of the ID token before its signature, so that tokens with invalid
+         * claims, such as expired tokens or tokens issued by or for someone else, are rejected without paying for the
+         * verification of their signature. Useful when many of the verified tokens are expected to be invalid. The
+         * token is decoded once in both cases, and the same exceptions are thrown, but a token with both invalid
+         * claims and an invalid signature is reported for its claims rather than its signature. The algorithm of the
+         * token, and the public key of its Key ID (kid) for RS256, are always checked before its signature.
+         * Disabled by default.
+         *
+         * @param fastRejection whether to verify the claims of the token before its signature.
+         * @return this Builder instance.
+         */
+        public Builder withFastRejection(boolean fastRejection) {
+            this.fastRejection = fastRejection;
+            return this;
+        }
+
+        /**
+         * Specify the clock to use as the current time when validating time-based claims such as {@code exp} and
+         * {@code auth_time}, for example to verify tokens as of when they were used. If not specified, the system
+         * clock will be used.
+         *
+         * @param clock the clock to use as the current time. Must not be null.
+         * @return this Builder instance.
+         */
+        public Builder withClock(Clock clock) {
+            Asserts.assertNotNull(clock, "clock");
+            this.clock = clock;
+            return this;
+        }
+
         /**
          * Specify a custom clock to use as the current time when validating time-based claims. Exposed for testing
          * purposes only.
@@ -274,8 +434,7 @@ public final class IdTokenVerifier {
          * @return this Builder instance.
          */
         Builder withClock(Date clock) {
-            this.clock = clock;
-            return this;
+            return withClock(Clock.fixed(clock.toInstant(), ZoneOffset.UTC));
         }
 
         /**
@@ -0,0 +1,400 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.client.HttpOptions;
+import com.auth0.client.HttpTransport;
+import com.auth0.client.ProxyOptions;
+import com.auth0.exception.PublicKeyProviderException;
+import com.auth0.net.JsonCodec;
+import com.auth0.utils.Asserts;
+import com.fasterxml.jackson.databind.JsonNode;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * A {@link PublicKeyProvider} that obtains the RSA signing keys of a tenant from its JSON Web Key Set (JWKS), at
+ * {@code https://{YOUR_DOMAIN}/.well-known/jwks.json}, and caches them by key ID (kid). Once the keys are cached,
+ * verifying the signature of a token makes no network calls.
+ * <p>
+ * The cached keys are used for the configured cache TTL, and fetched again in the background during its last minute,
+ * or second half for short TTLs, so that they are renewed before going stale. When a token is signed with a key ID
+ * that is not cached, for example after a key rotation, the keys are fetched again, but at most once per minimum
+ * refetch interval, so that tokens with unknown key IDs cannot flood the endpoint. A single request for the keys is
+ * made at a time, and concurrent callers share its result.
+ *
+ * <pre>
+ * {@code
+ * PublicKeyProvider provider = JwksPublicKeyProvider.init("{YOUR_DOMAIN}").build();
+ * SignatureVerifier signatureVerifier = SignatureVerifier.forRS256(provider);
+ * }
+ * </pre>
+ * <p>
+ * This class is thread-safe.
+ */
+public final class JwksPublicKeyProvider implements PublicKeyProvider {
+
+    /**
+     * How long before the cache TTL elapses the keys are fetched again, at most half of the TTL.
+     */
+    static final long REFRESH_MARGIN = TimeUnit.SECONDS.toMillis(60);
+
+    private static final int DEFAULT_CACHE_TTL = 600;
+    private static final int DEFAULT_MIN_REFETCH_INTERVAL = 30;
+
+    private final OkHttpClient client;
+    private final JsonCodec codec;
+    private final HttpUrl jwksUrl;
+    private final long cacheTtl;
+    private final long minRefetchInterval;
+    private final LongSupplier clock;
+    private final Object lock = new Object();
+
+    private volatile Keys keys;
+    // guarded by lock
+    private CompletableFuture<Keys> fetching;
+    private long lastFetchAt;
+    private boolean fetched;
+
+    private JwksPublicKeyProvider(Builder builder) {
+        HttpTransport transport = builder.transport != null ? builder.transport : new HttpTransport(builder.options);
+        this.client = buildNetworkingClient(builder.options, transport);
+        this.codec = transport.getCodec();
+        this.jwksUrl = builder.baseUrl.newBuilder().addPathSegments(".well-known/jwks.json").build();
+        this.cacheTtl = TimeUnit.SECONDS.toMillis(builder.cacheTtl);
+        this.minRefetchInterval = TimeUnit.SECONDS.toMillis(builder.minRefetchInterval);
+        this.clock = builder.clock;
+    }
+
+    /**
+     * Initialize an instance of {@code JwksPublicKeyProvider}.
+     *
+     * @param domain the tenant's domain, whose JSON Web Key Set to obtain the keys from. Must not be null.
+     * @return a {@linkplain Builder} for further configuration.
+     */
+    public static Builder init(String domain) {
+        return new Builder(domain);
+    }
+
+    private static OkHttpClient buildNetworkingClient(HttpOptions options, HttpTransport transport) {
+        OkHttpClient.Builder clientBuilder = transport.newClientBuilder();
+        final ProxyOptions proxyOptions = options.getProxyOptions();
+        if (proxyOptions != null) {
+            clientBuilder.proxy(proxyOptions.getProxy());
+            final String proxyAuth = proxyOptions.getBasicAuthentication();
+            if (proxyAuth != null) {
+                clientBuilder.proxyAuthenticator((route, response) -> {
+                    if (response.request().header("Proxy-Authorization") != null) {
+                        return null;
+                    }
+                    return response.request().newBuilder()
+                            .header("Proxy-Authorization", proxyAuth)
+                            .build();
+                });
+            }
+        }
+        return clientBuilder
+                .connectTimeout(options.getConnectTimeout(), TimeUnit.SECONDS)
+                .readTimeout(options.getReadTimeout(), TimeUnit.SECONDS)
+                .build();
+    }
+
+    @Override
+    public RSAPublicKey getPublicKeyById(String keyId) throws PublicKeyProviderException {
+        Keys current = keys;
+        long now = clock.getAsLong();
+        if (current != null && now < current.expiresAt) {
+            RSAPublicKey key = current.byId.get(keyId);
+            if (key != null) {
+                if (now >= current.refreshAt) {
+                    // still valid, so it keeps being used while the keys are fetched in the background
+                    fetch(now);
+                }
+                return key;
+            }
+        }
+
+        CompletableFuture<Keys> future = fetch(now);
+        if (future == null) {
+            // another fetch may have completed since the keys were read
+            current = keys;
+            RSAPublicKey key = current == null ? null : current.byId.get(keyId);
+            if (key != null && now < current.expiresAt) {
+                return key;
+            }
+            if (current == null || now >= current.expiresAt) {
+                throw new PublicKeyProviderException("The JSON Web Key Set could not be fetched recently, and will be fetched again shortly.");
+            }
+            throw keyNotFound(keyId);
+        }
+        RSAPublicKey key = await(future).byId.get(keyId);
+        if (key == null) {
+            throw keyNotFound(keyId);
+        }
+        return key;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The version changes when the fetched keys differ from the ones fetched before. While no keys are cached, or once
+     * they have expired, the keys must be obtained every time, so that they are fetched again. As the keys may then
+     * not be obtained for a while, this also fetches them in the background when they are due for a refresh.
+     */
+    @Override
+    public long getKeysVersion() {
+        Keys current = keys;
+        long now = clock.getAsLong();
+        if (current == null || now >= current.expiresAt) {
+            return -1;
+        }
+        if (now >= current.refreshAt) {
+            fetch(now);
+        }
+        return current.version;
+    }
+
+    private static PublicKeyProviderException keyNotFound(String keyId) {
+        return new PublicKeyProviderException(String.format("No RSA signing key with Key ID (kid) \"%s\" was found in the JSON Web Key Set", keyId));
+    }
+
+    private static Keys await(CompletableFuture<Keys> future) throws PublicKeyProviderException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PublicKeyProviderException("Interrupted while fetching the JSON Web Key Set", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof PublicKeyProviderException) {
+                throw (PublicKeyProviderException) e.getCause();
+            }
+            throw new PublicKeyProviderException("Failed to fetch the JSON Web Key Set", e.getCause());
+        }
+    }
+
+    /**
+     * Fetches the keys, unless they are already being fetched, in which case that fetch is shared instead.
+     *
+     * @param now the current time.
+     * @return the future keys, or null if they were fetched too recently to be fetched again.
+     */
+    private CompletableFuture<Keys> fetch(long now) {
+        final CompletableFuture<Keys> future;
+        synchronized (lock) {
+            if (fetching != null) {
+                return fetching;
+            }
+            if (fetched && now - lastFetchAt < minRefetchInterval) {
+                return null;
+            }
+            future = new CompletableFuture<>();
+            fetching = future;
+            lastFetchAt = now;
+            fetched = true;
+        }
+
+        Request request = new Request.Builder().url(jwksUrl).get().build();
+        client.newCall(request).enqueue(new Callback() {
+            @Override
+            public void onFailure(@NotNull Call call, @NotNull IOException e) {
+                complete(future, null, now, new PublicKeyProviderException("Failed to fetch the JSON Web Key Set", e));
+            }
+
+            @Override
+            public void onResponse(@NotNull Call call, @NotNull Response response) {
+                try (ResponseBody body = response.body()) {
+                    if (!response.isSuccessful() || body == null) {
+                        complete(future, null, now, new PublicKeyProviderException(String.format("Failed to fetch the JSON Web Key Set, the request failed with status code %d", response.code())));
+                        return;
+                    }
+                    complete(future, parse(codec.getMapper().readTree(body.byteStream())), now, null);
+                } catch (IOException | RuntimeException e) {
+                    complete(future, null, now, new PublicKeyProviderException("Failed to parse the JSON Web Key Set", e));
+                }
+            }
+        });
+        return future;
+    }
+
+    private void complete(CompletableFuture<Keys> future, Map<String, RSAPublicKey> byId, long requestedAt, PublicKeyProviderException error) {
+        Keys fetchedKeys = null;
+        synchronized (lock) {
+            if (byId != null) {
+                Keys previous = keys;
+                long version = previous == null ? 0 : previous.byId.equals(byId) ? previous.version : previous.version + 1;
+                // measured from when they were requested, as the keys may have changed in the meantime
+                long expiresAt = requestedAt + cacheTtl;
+                fetchedKeys = new Keys(byId, version, expiresAt - Math.min(REFRESH_MARGIN, cacheTtl / 2), expiresAt);
+                keys = fetchedKeys;
+            }
+            // cleared before completing, so that the callers completed next find the new keys
+            fetching = null;
+        }
+        if (error == null) {
+            future.complete(fetchedKeys);
+        } else {
+            future.completeExceptionally(error);
+        }
+    }
+
+    /**
+     * Reads the RSA signing keys of a JSON Web Key Set, skipping the other keys and the ones that cannot be read.
+     */
+    private static Map<String, RSAPublicKey> parse(JsonNode jwks) {
+        Map<String, RSAPublicKey> byId = new HashMap<>();
+        for (JsonNode jwk : jwks.path("keys")) {
+            String use = jwk.path("use").asText("sig");
+            if (!"RSA".equals(jwk.path("kty").asText()) || !"sig".equals(use) || !jwk.hasNonNull("kid")) {
+                continue;
+            }
+            try {
+                BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.path("e").asText()));
+                RSAPublicKey key = (RSAPublicKey) KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+                byId.put(jwk.get("kid").asText(), key);
+            } catch (GeneralSecurityException | IllegalArgumentException e) {
+                // not a usable key, the others can still be
+            }
+        }
+        return Collections.unmodifiableMap(byId);
+    }
+
+    private static final class Keys {
+        final Map<String, RSAPublicKey> byId;
+        final long version;
+        final long refreshAt;
+        final long expiresAt;
+
+        Keys(Map<String, RSAPublicKey> byId, long version, long refreshAt, long expiresAt) {
+            this.byId = byId;
+            this.version = version;
+            this.refreshAt = refreshAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * Builder class to construct a {@linkplain JwksPublicKeyProvider}
+     */
+    public static class Builder {
+
+        private final HttpUrl baseUrl;
+
+        private HttpOptions options = new HttpOptions();
+        private HttpTransport transport;
+        private int cacheTtl = DEFAULT_CACHE_TTL;
+        private int minRefetchInterval = DEFAULT_MIN_REFETCH_INTERVAL;
+        private LongSupplier clock = System::currentTimeMillis;
+
+        /**
+         * Create a new Builder instance.
+         *
+         * @param domain the tenant's domain. Must not be null.
+         */
+        Builder(String domain) {
+            Asserts.assertNotNull(domain, "domain");
+            String url = domain;
+            if (!domain.startsWith("https://") && !domain.startsWith("http://")) {
+                url = "https://" + domain;
+            }
+            this.baseUrl = HttpUrl.parse(url);
+            if (baseUrl == null) {
+                throw new IllegalArgumentException("The domain had an invalid format and couldn't be parsed as an URL.");
+            }
+        }
+
+        /**
+         * Specify the options to configure the networking client with, such as its timeouts and proxy.
+         *
+         * @param options the options of the networking client. Must not be null.
+         * @return this Builder instance.
+         */
+        public Builder withHttpOptions(HttpOptions options) {
+            Asserts.assertNotNull(options, "options");
+            this.options = options;
+            return this;
+        }
+
+        /**
+         * Specify the transport to fetch the keys on, to share its connections and threads with the API clients.
+         * See {@link HttpTransport}.
+         *
+         * @param transport the transport to fetch the keys on. Must not be null.
+         * @return this Builder instance.
+         */
+        public Builder withHttpTransport(HttpTransport transport) {
+            Asserts.assertNotNull(transport, "transport");
+            this.transport = transport;
+            return this;
+        }
+
+        /**
+         * Specify how long the keys are cached before being fetched again. If not specified, a default of 10 minutes
+         * is used.
+         *
+         * @param cacheTtl how long the keys are cached, in seconds. Must be one or greater.
+         * @return this Builder instance.
+         */
+        public Builder withCacheTtl(int cacheTtl) {
+            if (cacheTtl < 1) {
+                throw new IllegalArgumentException("cacheTtl must be one or greater.");
+            }
+            this.cacheTtl = cacheTtl;
+            return this;
+        }
+
+        /**
+         * Specify the minimum time between two fetches of the keys prompted by unknown key IDs. If not specified, a
+         * default of 30 seconds is used.
+         *
+         * @param minRefetchInterval the minimum time between two fetches of the keys, in seconds. Must be zero or greater.
+         * @return this Builder instance.
+         */
+        public Builder withMinRefetchInterval(int minRefetchInterval) {
+            if (minRefetchInterval < 0) {
+                throw new IllegalArgumentException("minRefetchInterval must be zero or greater.");
+            }
+            this.minRefetchInterval = minRefetchInterval;
+            return this;
+        }
+
+        /**
+         * Specify a custom clock to use as the current time, in milliseconds. Exposed for testing purposes only.
+         *
+         * @param clock the source of the current time.
+         * @return this Builder instance.
+         */
+        Builder withClock(LongSupplier clock) {
+            this.clock = clock;
+            return this;
+        }
+
+        /**
+         * Constructs a {@linkplain JwksPublicKeyProvider} instance from this Builder.
+         *
+         * @return an initialized instance of {@code JwksPublicKeyProvider}.
+         */
+        public JwksPublicKeyProvider build() {
+            return new JwksPublicKeyProvider(this);
+        }
+    }
+}
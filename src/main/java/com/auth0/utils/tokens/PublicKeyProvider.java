@@ -7,7 +7,8 @@ import java.security.interfaces.RSAPublicKey;
 /**
  * The interface to obtain a public key. This is used to configure signature verification for tokens signed
  * with the RS256 asymmetric signing algorithm.
- * Developers should provide an implementation of this interface when verifying a RS256 ID token.
+ * Developers should provide an implementation of this interface when verifying a RS256 ID token, or use
+ * {@link JwksPublicKeyProvider}, which fetches and caches the keys of the tenant's JSON Web Key Set.
  *
  * <p>The following example demonstrates using the {@code JwkProviderBuilder} from the
  * <a href="https://github.com/auth0/jwks-rsa-java">jwks-rsa-java library</a> to fetch the public key.</p>
@@ -36,4 +37,18 @@ public interface PublicKeyProvider {
      * @throws PublicKeyProviderException if the public key cannot be retrieved.
      */
     RSAPublicKey getPublicKeyById(String keyId) throws PublicKeyProviderException;
+
+    /**
+     * Get the version of the keys returned by this provider, which changes whenever they may have changed, for
+     * example after they were fetched again and a key was rotated or revoked. While the version stays the same,
+     * callers may keep using the keys they obtained before instead of getting them again. As it is called for every
+     * verified token, it must be cheap and not block.
+     * <p>
+     * By default, providers do not report key changes, and their keys are obtained every time they are used.
+     *
+     * @return the version of the keys, zero or greater, or -1 if the keys must be obtained every time they are used.
+     */
+    default long getKeysVersion() {
+        return -1;
+    }
 }
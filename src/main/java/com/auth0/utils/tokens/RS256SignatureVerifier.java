@@ -3,31 +3,78 @@ package com.auth0.utils.tokens;
 import com.auth0.exception.IdTokenValidationException;
 import com.auth0.exception.PublicKeyProviderException;
 import com.auth0.jwt.algorithms.Algorithm;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.auth0.jwt.interfaces.JWTVerifier;
 import com.auth0.jwt.interfaces.RSAKeyProvider;
 
 import java.security.interfaces.RSAPrivateKey;
 import java.security.interfaces.RSAPublicKey;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * An implementation of {@code SignatureVerifier} for tokens signed with the RS256 asymmetric signing algorithm.
  * <p>
+ * If the {@linkplain PublicKeyProvider} reports when its keys change, see {@link PublicKeyProvider#getKeysVersion()},
+ * the verifier of each key ID (kid) is kept until they do, so that verifying a token neither gets its key from the
+ * provider nor creates a verifier for it. Otherwise, the key is obtained from the provider for every token.
+ * <p>
  * This class is thread-safe.
  */
 class RS256SignatureVerifier extends SignatureVerifier {
 
+    private static final String ALGORITHM = "RS256";
+
+    private final PublicKeyProvider publicKeyProvider;
+    private volatile Verifiers verifiers = new Verifiers(-1);
+
     RS256SignatureVerifier(PublicKeyProvider publicKeyProvider) {
         super(getAlgorithm(publicKeyProvider));
+        this.publicKeyProvider = publicKeyProvider;
+    }
+
+    @Override
+    JWTVerifier getVerifier(DecodedJWT decoded) throws IdTokenValidationException {
+        String keyId = decoded.getKeyId();
+        long version = publicKeyProvider.getKeysVersion();
+        if (version < 0 || keyId == null || !ALGORITHM.equals(decoded.getAlgorithm())) {
+            // the key is obtained while verifying, after the algorithm is checked
+            return super.getVerifier(decoded);
+        }
+
+        Verifiers current = verifiers;
+        if (current.version != version) {
+            // the keys may have changed, so none of the verifiers of the previous keys is kept
+            current = new Verifiers(version);
+            verifiers = current;
+        }
+        JWTVerifier verifier = current.byKeyId.get(keyId);
+        if (verifier != null) {
+            return verifier;
+        }
+
+        RSAPublicKey publicKey = getPublicKey(publicKeyProvider, keyId);
+        if (publicKey == null) {
+            return super.getVerifier(decoded);
+        }
+        verifier = createVerifier(Algorithm.RSA256(publicKey, null));
+        JWTVerifier existing = current.byKeyId.putIfAbsent(keyId, verifier);
+        return existing != null ? existing : verifier;
+    }
+
+    private static RSAPublicKey getPublicKey(PublicKeyProvider publicKeyProvider, String keyId) {
+        try {
+            return publicKeyProvider.getPublicKeyById(keyId);
+        } catch (PublicKeyProviderException pke) {
+            throw new IdTokenValidationException(String.format("Could not find a public key for Key ID (kid) \"%s\"", keyId), pke);
+        }
     }
 
     private static Algorithm getAlgorithm(final PublicKeyProvider publicKeyProvider) {
         return Algorithm.RSA256(new RSAKeyProvider() {
             @Override
             public RSAPublicKey getPublicKeyById(String keyId) {
-                try {
-                    return publicKeyProvider.getPublicKeyById(keyId);
-                } catch (PublicKeyProviderException pke) {
-                    throw new IdTokenValidationException(String.format("Could not find a public key for Key ID (kid) \"%s\"", keyId), pke);
-                }
+                return getPublicKey(publicKeyProvider, keyId);
             }
 
             @Override
@@ -43,4 +90,16 @@ class RS256SignatureVerifier extends SignatureVerifier {
             }
         });
     }
+
+    /**
+     * The verifiers of the keys of a given version, by key ID.
+     */
+    private static final class Verifiers {
+        final long version;
+        final ConcurrentMap<String, JWTVerifier> byKeyId = new ConcurrentHashMap<>();
+
+        Verifiers(long version) {
+            this.version = version;
+        }
+    }
 }
@@ -36,7 +36,8 @@ public abstract class SignatureVerifier {
     /**
      * Get a {@code SignatureVerifier} for use when validating an ID token signed using the RS256 signing algorithm.
      * Callers should provide an implementation of the {@linkplain PublicKeyProvider} to provide the public key used
-     * to verify the ID token's signature.
+     * to verify the ID token's signature. If the provider reports when its keys change, such as
+     * {@linkplain JwksPublicKeyProvider}, the verifier of each key is reused until they do.
      *
      * @param publicKeyProvider an implementation of {@linkplain PublicKeyProvider} to get the public key.
      * @return a {@code SignatureVerifier} for use with tokens signed using the RS256 signing algorithm.
@@ -54,9 +55,7 @@ public abstract class SignatureVerifier {
     SignatureVerifier(Algorithm algorithm) {
         Asserts.assertNotNull(algorithm, "algorithm");
         this.algorithm = algorithm;
-        this.verifier = JWT.require(algorithm)
-                .ignoreIssuedAt()
-                .build();
+        this.verifier = createVerifier(algorithm);
     }
 
     /**
@@ -68,9 +67,21 @@ public abstract class SignatureVerifier {
      */
     DecodedJWT verifySignature(String token) throws IdTokenValidationException {
         DecodedJWT decoded = decodeToken(token);
+        verifySignature(decoded);
+        return decoded;
+    }
 
+    /**
+     * Verifies the signature of a token that was already decoded.
+     *
+     * @param decoded the decoded token for which to verify its signature.
+     * @throws IdTokenValidationException if the signature verification failed.
+     * @see #decodeToken(String)
+     */
+    void verifySignature(DecodedJWT decoded) throws IdTokenValidationException {
+        JWTVerifier verifier = getVerifier(decoded);
         try {
-            this.verifier.verify(decoded);
+            verifier.verify(decoded);
         } catch (AlgorithmMismatchException algorithmMismatchException) {
             String message = String.format("Signature algorithm of \"%s\" is not supported. Expected the ID token to be signed with \"%s\"",
                     decoded.getAlgorithm(), this.algorithm.getName());
@@ -80,11 +91,40 @@ public abstract class SignatureVerifier {
         } catch (JWTVerificationException ignored) {
             // no-op. Would only occur for expired tokens, which will be handle during claims validation
         }
+    }
 
-        return decoded;
+    /**
+     * Gets the verifier to verify the signature of a token with. Used by internal implementations that verify tokens
+     * with different verifiers, such as one per key.
+     *
+     * @param decoded the decoded token for which to verify its signature.
+     * @return the verifier of the token's signature.
+     * @throws IdTokenValidationException if no verifier can be obtained for the token.
+     */
+    JWTVerifier getVerifier(DecodedJWT decoded) throws IdTokenValidationException {
+        return this.verifier;
+    }
+
+    /**
+     * Creates the verifier of the signatures made with the given algorithm.
+     *
+     * @param algorithm the algorithm used to verify the signature.
+     * @return the verifier of the signatures.
+     */
+    static JWTVerifier createVerifier(Algorithm algorithm) {
+        return JWT.require(algorithm)
+                .ignoreIssuedAt()
+                .build();
     }
 
-    private DecodedJWT decodeToken(String token) throws IdTokenValidationException {
+    /**
+     * Decodes a token, without verifying its signature.
+     *
+     * @param token the token to decode.
+     * @return a {@linkplain DecodedJWT} that represents the token.
+     * @throws IdTokenValidationException if the token could not be decoded.
+     */
+    DecodedJWT decodeToken(String token) throws IdTokenValidationException {
         try {
             return JWT.decode(token);
         } catch (JWTDecodeException e) {
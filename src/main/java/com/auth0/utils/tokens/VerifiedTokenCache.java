@@ -0,0 +1,165 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Caches the ID tokens whose signature and claims were successfully verified, by the SHA-256 hash of the token, until
+ * they expire.
+ * <p>
+ * Looking up a token takes no lock, so that threads verifying the same tokens do not wait for each other. Instead of
+ * keeping the tokens in the order they were used, each records when it was last used, and once the cache is full, a
+ * single thread evicts the expired tokens and a tenth of the least recently used ones at once, so that the cost of
+ * finding them is spread over the tokens cached next. While a thread is evicting, the cache can briefly hold more tokens
+ * than its maximum size.
+ * <p>
+ * See {@link IdTokenVerifier.Builder#withVerificationCache(int)}.
+ * <p>
+ * This class is thread-safe.
+ */
+final class VerifiedTokenCache {
+
+    /**
+     * The fraction of the maximum size evicted at once when the cache is full.
+     */
+    static final double EVICTION_FRACTION = 0.1D;
+
+    private final int maxSize;
+    private final ConcurrentMap<ByteBuffer, Entry> entries;
+    private final ReentrantLock evictionLock;
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+        this.entries = new ConcurrentHashMap<>();
+        this.evictionLock = new ReentrantLock();
+    }
+
+    /**
+     * @param token the ID token.
+     * @return the key of the token in the cache.
+     */
+    static ByteBuffer keyOf(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * @param key the key of the token, see {@link #keyOf(String)}.
+     * @param now the current time, in milliseconds.
+     * @return the verified token, or null if it was not verified or has expired since.
+     */
+    DecodedJWT get(ByteBuffer key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (now > entry.expiresAt) {
+            entries.remove(key, entry);
+            return null;
+        }
+        entry.use(now);
+        return entry.decoded;
+    }
+
+    /**
+     * @param key       the key of the token, see {@link #keyOf(String)}.
+     * @param decoded   the verified token.
+     * @param expiresAt when the token expires, including the leeway, in milliseconds.
+     * @param now       the current time, in milliseconds.
+     */
+    void put(ByteBuffer key, DecodedJWT decoded, long expiresAt, long now) {
+        entries.put(key, new Entry(decoded, expiresAt, now));
+        if (entries.size() > maxSize) {
+            evict(key, now);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * Evicts the expired tokens and the least recently used ones, down to a tenth below the maximum size, unless
+     * another thread already is.
+     *
+     * @param added the key of the token just cached, which is kept.
+     * @param now   the current time, in milliseconds.
+     */
+    private void evict(ByteBuffer added, long now) {
+        if (!evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            if (entries.size() <= maxSize) {
+                return;
+            }
+            List<Candidate> candidates = new ArrayList<>(entries.size());
+            for (Map.Entry<ByteBuffer, Entry> e : entries.entrySet()) {
+                if (now > e.getValue().expiresAt) {
+                    entries.remove(e.getKey(), e.getValue());
+                } else if (!e.getKey().equals(added)) {
+                    candidates.add(new Candidate(e.getKey(), e.getValue()));
+                }
+            }
+            int excess = entries.size() - (maxSize - (int) (maxSize * EVICTION_FRACTION));
+            if (excess <= 0) {
+                return;
+            }
+            candidates.sort(Comparator.comparingLong(c -> c.lastUsed));
+            for (int i = 0; i < excess && i < candidates.size(); i++) {
+                entries.remove(candidates.get(i).key, candidates.get(i).entry);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * A token that can be evicted, with when it was last used as of the start of the eviction, as it keeps changing.
+     */
+    private static final class Candidate {
+        final ByteBuffer key;
+        final Entry entry;
+        final long lastUsed;
+
+        Candidate(ByteBuffer key, Entry entry) {
+            this.key = key;
+            this.entry = entry;
+            this.lastUsed = entry.lastUsed;
+        }
+    }
+
+    private static final class Entry {
+        final DecodedJWT decoded;
+        final long expiresAt;
+        volatile long lastUsed;
+
+        Entry(DecodedJWT decoded, long expiresAt, long now) {
+            this.decoded = decoded;
+            this.expiresAt = expiresAt;
+            this.lastUsed = now;
+        }
+
+        void use(long now) {
+            // written at most once per millisecond, so that threads using the same token rarely contend on it
+            if (lastUsed != now) {
+                lastUsed = now;
+            }
+        }
+    }
+}
@@ -9,12 +9,15 @@ import okhttp3.mockwebserver.RecordedRequest;
 import okio.Buffer;
 
 import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 public class MockServer {
 
@@ -163,6 +166,41 @@ public class MockServer {
         server.enqueue(response);
     }
 
+    public void jsonResponse(String path, int statusCode, Charset charset) throws IOException {
+        MockResponse response = new MockResponse()
+                .setResponseCode(statusCode)
+                .addHeader("Content-Type", "application/json; charset=" + charset.name())
+                .setBody(new Buffer().writeString(new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8), charset));
+        server.enqueue(response);
+    }
+
+    public void delayedJsonResponse(String path, int statusCode, long delay, TimeUnit unit) throws IOException {
+        MockResponse response = new MockResponse()
+                .setResponseCode(statusCode)
+                .addHeader("Content-Type", "application/json")
+                .setBody(readTextFile(path))
+                .setHeadersDelay(delay, unit);
+        server.enqueue(response);
+    }
+
+    public void cacheableJsonResponse(String path, String etag) throws IOException {
+        MockResponse response = new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Cache-Control", "no-cache")
+                .addHeader("ETag", etag)
+                .setBody(readTextFile(path));
+        server.enqueue(response);
+    }
+
+    public void notModifiedResponse(String etag) {
+        MockResponse response = new MockResponse()
+                .setResponseCode(304)
+                .addHeader("Cache-Control", "no-cache")
+                .addHeader("ETag", etag);
+        server.enqueue(response);
+    }
+
     public void noContentResponse() {
         MockResponse response = new MockResponse()
             .setResponseCode(204)
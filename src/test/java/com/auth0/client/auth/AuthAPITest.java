@@ -1,13 +1,17 @@
 package com.auth0.client.auth;
 
 import com.auth0.client.HttpOptions;
+import com.auth0.client.HttpTransport;
 import com.auth0.client.LoggingOptions;
 import com.auth0.client.MockServer;
 import com.auth0.client.ProxyOptions;
+import com.auth0.client.ResponseCacheOptions;
+import com.auth0.client.mgmt.ClientCredentialsTokenProvider;
 import com.auth0.exception.APIException;
 import com.auth0.json.auth.*;
 import com.auth0.net.Request;
 import com.auth0.net.*;
+import com.auth0.net.metrics.InMemoryMetricsRecorder;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.*;
@@ -19,6 +23,7 @@ import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
 import java.io.FileReader;
@@ -50,6 +55,9 @@ public class AuthAPITest {
     @Rule
     public ExpectedException exception = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() throws Exception {
         server = new MockServer();
@@ -136,6 +144,66 @@ public class AuthAPITest {
         assertThat(api.getClient().readTimeoutMillis(), is(0));
     }
 
+    @Test
+    public void shouldNotCacheResponsesByDefault() {
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET);
+        assertThat(api.getClient().cache(), is(nullValue()));
+        assertThat(api.getResponseCacheStats(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldUseResponseCacheIfConfigured() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setResponseCacheOptions(new ResponseCacheOptions(folder.newFolder(), 1024 * 1024));
+        AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, options);
+
+        assertThat(api.getClient().cache(), is(notNullValue()));
+        assertThat(api.getResponseCacheStats().getRequestCount(), is(0L));
+    }
+
+    @Test
+    public void shouldNotShareCachedUserInfoBetweenAccessTokens() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setResponseCacheOptions(new ResponseCacheOptions(folder.newFolder(), 1024 * 1024));
+        AuthAPI api = new AuthAPI(server.getBaseUrl(), CLIENT_ID, CLIENT_SECRET, options);
+
+        server.cacheableJsonResponse(AUTH_USER_INFO, "\"v1\"");
+        server.cacheableJsonResponse(AUTH_USER_INFO, "\"v1\"");
+        api.userInfo("firstToken").execute();
+        api.userInfo("secondToken").execute();
+
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer firstToken"));
+        RecordedRequest second = server.takeRequest();
+        assertThat(second, hasHeader("Authorization", "Bearer secondToken"));
+        assertThat(second.getHeader("If-None-Match"), is(nullValue()));
+        assertThat(api.getResponseCacheStats().getHitCount(), is(0L));
+        assertThat(api.getClient().cache().size(), is(0L));
+    }
+
+    @Test
+    public void shouldWarmUpConnections() throws Exception {
+        for (int i = 0; i < 2; i++) {
+            server.emptyResponse(200);
+        }
+
+        api.warmUp(2).get();
+
+        assertThat(server.takeRequest().getMethod(), is("HEAD"));
+        assertThat(server.takeRequest().getMethod(), is("HEAD"));
+        assertThat(api.getClient().connectionPool().idleConnectionCount(), is(2));
+    }
+
+    @Test
+    public void shouldShareTransportResources() {
+        HttpTransport transport = new HttpTransport();
+        AuthAPI first = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET, new HttpOptions(), transport);
+        AuthAPI second = new AuthAPI("other.auth0.com", CLIENT_ID, CLIENT_SECRET, new HttpOptions(), transport);
+
+        assertThat(first.getClient().dispatcher(), is(sameInstance(second.getClient().dispatcher())));
+        assertThat(first.getClient().connectionPool(), is(sameInstance(second.getClient().connectionPool())));
+        assertThat(first.getClient().interceptors(), everyItem(not(is(in(second.getClient().interceptors())))));
+    }
+
     @Test
     public void shouldNotUseProxyByDefault() throws Exception {
         AuthAPI api = new AuthAPI(DOMAIN, CLIENT_ID, CLIENT_SECRET);
@@ -1143,6 +1211,64 @@ public class AuthAPITest {
         assertThat(response.getExpiresIn(), is(notNullValue()));
     }
 
+    @Test
+    public void shouldNotCacheTokensByDefault() throws Exception {
+        server.jsonResponse(AUTH_TOKENS, 200);
+        server.jsonResponse(AUTH_TOKENS, 200);
+        TokenHolder first = api.requestToken("https://myapi.auth0.com/users").execute();
+        TokenHolder second = api.requestToken("https://myapi.auth0.com/users").execute();
+
+        assertThat(second, is(not(sameInstance(first))));
+        server.takeRequest();
+        server.takeRequest();
+    }
+
+    @Test
+    public void shouldCacheTokensByAudienceAndScopeWhenEnabled() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setTokenCacheEnabled(true);
+        InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+        options.setMetricsRecorder(metrics);
+        AuthAPI api = new AuthAPI(server.getBaseUrl(), CLIENT_ID, CLIENT_SECRET, options);
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        TokenHolder first = api.requestToken("https://myapi.auth0.com/users").setScope("read:users").execute();
+        server.takeRequest();
+        TokenHolder cached = api.requestToken("https://myapi.auth0.com/users").setScope("read:users").execute();
+        assertThat(cached, is(sameInstance(first)));
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        TokenHolder otherScope = api.requestToken("https://myapi.auth0.com/users").setScope("update:users").execute();
+        assertThat(otherScope, is(not(sameInstance(first))));
+        Map<String, Object> body = bodyFromRequest(server.takeRequest());
+        assertThat(body, hasEntry("scope", "update:users"));
+
+        assertThat(metrics.getTokenCacheHits("https://myapi.auth0.com/users"), is(1L));
+        assertThat(metrics.getTokenCacheMisses("https://myapi.auth0.com/users"), is(2L));
+    }
+
+    @Test
+    public void shouldRequestNewTokenOnceCachedTokenIsInvalidated() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setTokenCacheEnabled(true);
+        InMemoryMetricsRecorder metrics = new InMemoryMetricsRecorder();
+        options.setMetricsRecorder(metrics);
+        AuthAPI api = new AuthAPI(server.getBaseUrl(), CLIENT_ID, CLIENT_SECRET, options);
+        ClientCredentialsTokenProvider provider = new ClientCredentialsTokenProvider(api, "https://myapi.auth0.com/users");
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        String rejected = provider.getToken();
+        server.takeRequest();
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        provider.invalidate(rejected);
+        provider.getToken();
+        server.takeRequest();
+
+        assertThat(metrics.getTokenCacheHits("https://myapi.auth0.com/users"), is(0L));
+        assertThat(metrics.getTokenCacheMisses("https://myapi.auth0.com/users"), is(2L));
+    }
+
     // Login with Passwordless
 
     @Test
@@ -0,0 +1,256 @@
+package com.auth0.client.mgmt;
+
+import com.auth0.client.auth.AuthAPI;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.TokenHolder;
+import com.auth0.net.TokenRequest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.*;
+
+public class ClientCredentialsTokenProviderTest {
+
+    private static final String AUDIENCE = "https://domain.auth0.com/api/v2/";
+
+    private AuthAPI authAPI;
+    private TokenRequest tokenRequest;
+    private AtomicLong now;
+    private AtomicInteger issued;
+    private ClientCredentialsTokenProvider provider;
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        tokenRequest = mock(TokenRequest.class);
+        when(tokenRequest.execute()).thenAnswer(invocation -> token(3600));
+        authAPI = mock(AuthAPI.class);
+        when(authAPI.requestToken(AUDIENCE)).thenReturn(tokenRequest);
+        now = new AtomicLong(1_000_000L);
+        issued = new AtomicInteger();
+        provider = new ClientCredentialsTokenProvider(authAPI, AUDIENCE, now::get);
+    }
+
+    private TokenHolder token(long expiresIn) {
+        return new TokenHolder("token-" + issued.incrementAndGet(), null, null, "Bearer", expiresIn, null, null);
+    }
+
+    @Test
+    public void shouldThrowWhenAuthAPIIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'auth api' cannot be null!");
+        new ClientCredentialsTokenProvider(null, AUDIENCE);
+    }
+
+    @Test
+    public void shouldThrowWhenAudienceIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'audience' cannot be null!");
+        new ClientCredentialsTokenProvider(authAPI, null);
+    }
+
+    @Test
+    public void shouldRequestTokenOnce() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        now.addAndGet(TimeUnit.MINUTES.toMillis(30));
+        assertThat(provider.getToken(), is("token-1"));
+
+        verify(authAPI, times(1)).requestToken(AUDIENCE);
+    }
+
+    @Test
+    public void shouldRenewTokenBeforeItExpires() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600) - ClientCredentialsTokenProvider.REFRESH_MARGIN - 1);
+        assertThat(provider.getToken(), is("token-1"));
+        now.addAndGet(1);
+        assertThat(provider.getToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldRenewShortLivedTokensHalfwayThroughTheirLifetime() throws Exception {
+        doAnswer(invocation -> token(60)).when(tokenRequest).execute();
+        assertThat(provider.getToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(29));
+        assertThat(provider.getToken(), is("token-1"));
+        now.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        assertThat(provider.getToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldRenewTokenFromTokenCacheBeforeItExpires() throws Exception {
+        // the token cache returns the token it obtained 50 minutes ago, with the lifetime it was issued with
+        TokenHolder cached = new TokenHolder("cached", null, null, "Bearer", 3600, null,
+                new Date(now.get() + TimeUnit.MINUTES.toMillis(10)));
+        doReturn(cached).doAnswer(invocation -> token(3600)).when(tokenRequest).execute();
+        assertThat(provider.getToken(), is("cached"));
+
+        now.addAndGet(TimeUnit.MINUTES.toMillis(10) - ClientCredentialsTokenProvider.REFRESH_MARGIN - 1);
+        assertThat(provider.getToken(), is("cached"));
+        now.addAndGet(1);
+        assertThat(provider.getToken(), is("token-1"));
+    }
+
+    @Test
+    public void shouldKeepUsingValidTokenWhenRenewalFails() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        doThrow(new Auth0Exception("Failed to execute request")).when(tokenRequest).execute();
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3590));
+        assertThat(provider.getToken(), is("token-1"));
+    }
+
+    @Test
+    public void shouldThrowWhenExpiredTokenCannotBeRenewed() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        doThrow(new Auth0Exception("Failed to execute request")).when(tokenRequest).execute();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600));
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("Failed to execute request");
+        provider.getToken();
+    }
+
+    @Test
+    public void shouldThrowWhenResponseHasNoAccessToken() throws Exception {
+        doReturn(new TokenHolder()).when(tokenRequest).execute();
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("The token response did not contain an access token.");
+        provider.getToken();
+    }
+
+    @Test
+    public void shouldRenewInvalidatedToken() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        provider.invalidate("token-1");
+        assertThat(provider.getToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldInvalidateCachedTokenWhenRejected() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        provider.invalidate("token-1");
+
+        verify(authAPI).invalidateCachedToken("token-1");
+    }
+
+    @Test
+    public void shouldIgnoreInvalidationOfReplacedToken() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        provider.invalidate("token-1");
+        assertThat(provider.getToken(), is("token-2"));
+        provider.invalidate("token-1");
+        assertThat(provider.getToken(), is("token-2"));
+
+        verify(authAPI, times(2)).requestToken(AUDIENCE);
+    }
+
+    @Test
+    public void shouldRenewTokenInvalidatedWhileRenewing() throws Exception {
+        AtomicBoolean invalidate = new AtomicBoolean();
+        provider = new ClientCredentialsTokenProvider(authAPI, AUDIENCE, () -> {
+            // invalidated by another thread right after this one read the current token
+            if (invalidate.getAndSet(false)) {
+                provider.invalidate("token-1");
+            }
+            return now.get();
+        });
+        assertThat(provider.getToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600) - ClientCredentialsTokenProvider.REFRESH_MARGIN);
+        invalidate.set(true);
+        assertThat(provider.getToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldRenewExpiredTokenInvalidatedWhileWaiting() throws Exception {
+        AtomicBoolean invalidate = new AtomicBoolean();
+        provider = new ClientCredentialsTokenProvider(authAPI, AUDIENCE, () -> {
+            if (invalidate.getAndSet(false)) {
+                provider.invalidate("token-1");
+            }
+            return now.get();
+        });
+        assertThat(provider.getToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600));
+        invalidate.set(true);
+        assertThat(provider.getToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldRequestTokenOnceForConcurrentCallers() throws Exception {
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requested.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return token(3600);
+        }).when(tokenRequest).execute();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> tokens = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                tokens.add(executor.submit(provider::getToken));
+            }
+            assertThat(requested.await(5, TimeUnit.SECONDS), is(true));
+            release.countDown();
+            for (Future<String> token : tokens) {
+                assertThat(token.get(5, TimeUnit.SECONDS), is("token-1"));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(tokenRequest, times(1)).execute();
+    }
+
+    @Test
+    public void shouldRenewOnceWhileOtherCallersKeepUsingValidToken() throws Exception {
+        assertThat(provider.getToken(), is("token-1"));
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3590));
+
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requested.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return token(3600);
+        }).when(tokenRequest).execute();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> renewing = executor.submit(provider::getToken);
+            assertThat(requested.await(5, TimeUnit.SECONDS), is(true));
+            assertThat(provider.getToken(), is("token-1"));
+            release.countDown();
+            assertThat(renewing.get(5, TimeUnit.SECONDS), is("token-2"));
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(provider.getToken(), is("token-2"));
+        verify(tokenRequest, times(2)).execute();
+    }
+}
@@ -1,29 +1,63 @@
 package com.auth0.client.mgmt;
 
+import com.auth0.client.CircuitBreakerOptions;
 import com.auth0.client.HttpOptions;
+import com.auth0.client.HttpTransport;
 import com.auth0.client.LoggingOptions;
 import com.auth0.client.MockServer;
 import com.auth0.client.ProxyOptions;
+import com.auth0.client.QueueOverflowPolicy;
+import com.auth0.client.ResponseCacheOptions;
+import com.auth0.client.ResponseCacheStats;
+import com.auth0.exception.APIException;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.mgmt.tenants.Tenant;
+import com.auth0.net.AdaptiveConcurrencyLimiter;
+import com.auth0.net.CircuitBreakerInterceptor;
+import com.auth0.net.RateLimitGovernor;
 import com.auth0.net.RateLimitInterceptor;
+import com.auth0.net.RequestCoalescingInterceptor;
+import com.auth0.net.RequestCompressionInterceptor;
+import com.auth0.net.RequestQueueInterceptor;
 import com.auth0.net.Telemetry;
 import com.auth0.net.TelemetryInterceptor;
+import com.auth0.net.VirtualThreads;
+import com.auth0.net.metrics.InMemoryMetricsRecorder;
+import com.auth0.net.metrics.MetricsEventListener;
+import com.auth0.net.metrics.MetricsInterceptor;
 import okhttp3.*;
 import okhttp3.logging.HttpLoggingInterceptor;
+import okhttp3.mockwebserver.RecordedRequest;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 
+import java.io.File;
 import java.net.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
-
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.auth0.client.MockServer.MGMT_TENANT;
+import static com.auth0.client.MockServer.MGMT_USER;
+import static com.auth0.client.RecordedRequestMatcher.hasHeader;
 import static com.auth0.client.UrlMatcher.isUrl;
 import static okhttp3.logging.HttpLoggingInterceptor.Level;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
 
 public class ManagementAPITest {
 
@@ -37,6 +71,9 @@ public class ManagementAPITest {
     @Rule
     public ExpectedException exception = ExpectedException.none();
 
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
     @Before
     public void setUp() throws Exception {
         server = new MockServer();
@@ -143,6 +180,154 @@ public class ManagementAPITest {
         assertThat(api.users().apiToken, is("new token"));
     }
 
+    @Test
+    public void shouldReuseEntitiesUntilApiTokenIsUpdated() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, "first token");
+        UsersEntity users = api.users();
+
+        assertThat(api.users(), is(sameInstance(users)));
+        assertThat(api.clients(), is(sameInstance(api.clients())));
+
+        api.setApiToken("new token");
+
+        assertThat(api.users(), is(not(sameInstance(users))));
+        assertThat(api.users(), is(sameInstance(api.users())));
+        assertThat(users.apiToken, is("first token"));
+    }
+
+    @Test
+    public void shouldSendUpdatedApiToken() throws Exception {
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("1", null).execute();
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer apiToken"));
+
+        api.setApiToken("new token");
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("1", null).execute();
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer new token"));
+    }
+
+    @Test
+    public void shouldThrowWhenTokenProviderIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'token provider' cannot be null!");
+        ManagementAPI.newBuilder(DOMAIN, null);
+    }
+
+    @Test
+    public void shouldThrowWhenTokenProviderOptionsAreNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'client options' cannot be null!");
+        ManagementAPI.newBuilder(DOMAIN, () -> "provided token").withHttpOptions(null);
+    }
+
+    @Test
+    public void shouldBuildWithTokenProviderOnSharedTransport() {
+        HttpTransport transport = new HttpTransport(new HttpOptions());
+        ManagementAPI first = ManagementAPI.newBuilder(DOMAIN, () -> "provided token").withHttpTransport(transport).build();
+        ManagementAPI second = new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions(), transport);
+
+        assertThat(first.getClient().connectionPool(), is(sameInstance(second.getClient().connectionPool())));
+        assertThat(first.getClient().interceptors(), hasItem(isA(TokenProviderInterceptor.class)));
+    }
+
+    @Test
+    public void shouldThrowOnUpdateWhenTokenProviderIsUsed() {
+        ManagementAPI api = ManagementAPI.newBuilder(DOMAIN, () -> "provided token").build();
+
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("The API token is obtained from the token provider and cannot be set.");
+        api.setApiToken("new token");
+    }
+
+    @Test
+    public void shouldAddTokenProviderInterceptorAfterTheQueue() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxQueuedRequests(10);
+        ManagementAPI api = ManagementAPI.newBuilder(DOMAIN, () -> "provided token").withHttpOptions(options).build();
+
+        List<Interceptor> interceptors = api.getClient().interceptors();
+        assertThat(interceptors.get(0), is(instanceOf(RequestQueueInterceptor.class)));
+        assertThat(interceptors.get(1), is(instanceOf(TokenProviderInterceptor.class)));
+    }
+
+    @Test
+    public void shouldNotAddTokenProviderInterceptorWithApiToken() {
+        for (Interceptor i : api.getClient().interceptors()) {
+            assertThat(i, is(not(instanceOf(TokenProviderInterceptor.class))));
+        }
+    }
+
+    @Test
+    public void shouldAuthenticateWithProvidedToken() throws Exception {
+        AtomicInteger issued = new AtomicInteger();
+        ManagementAPI api = ManagementAPI.newBuilder(server.getBaseUrl(), () -> "token-" + issued.incrementAndGet()).build();
+
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("1", null).execute();
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer token-1"));
+
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("1", null).executeAsync().get();
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer token-2"));
+    }
+
+    @Test
+    public void shouldRetryOnceWithNewTokenWhenUnauthorized() throws Exception {
+        List<String> invalidated = new ArrayList<>();
+        AtomicInteger issued = new AtomicInteger(1);
+        ManagementAPI api = ManagementAPI.newBuilder(server.getBaseUrl(), new TokenProvider() {
+            @Override
+            public String getToken() {
+                return "token-" + issued.get();
+            }
+
+            @Override
+            public void invalidate(String token) {
+                invalidated.add(token);
+                issued.incrementAndGet();
+            }
+        }).build();
+
+        server.emptyResponse(401);
+        server.jsonResponse(MGMT_USER, 200);
+        assertThat(api.users().get("1", null).execute(), is(notNullValue()));
+
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer token-1"));
+        assertThat(server.takeRequest(), hasHeader("Authorization", "Bearer token-2"));
+        assertThat(invalidated, contains("token-1"));
+    }
+
+    @Test
+    public void shouldNotRetryWhenUnauthorizedTokenIsNotRenewed() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        ManagementAPI api = ManagementAPI.newBuilder(server.getBaseUrl(), () -> {
+            calls.incrementAndGet();
+            return "static token";
+        }).build();
+
+        server.emptyResponse(401);
+        server.jsonResponse(MGMT_USER, 200);
+        try {
+            api.users().get("1", null).execute();
+            fail("Expected the request to fail");
+        } catch (APIException e) {
+            assertThat(e.getStatusCode(), is(401));
+        }
+        assertThat(calls.get(), is(2));
+    }
+
+    @Test
+    public void shouldFailRequestWhenTokenCannotBeObtained() throws Exception {
+        ManagementAPI api = ManagementAPI.newBuilder(server.getBaseUrl(), () -> {
+            throw new Auth0Exception("The token could not be obtained.");
+        }).build();
+
+        exception.expect(Auth0Exception.class);
+        exception.expectMessage("The token could not be obtained.");
+        api.users().get("1", null).execute();
+    }
+
     @Test
     public void shouldUseDefaultTimeoutIfNotSpecified() {
         ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
@@ -489,6 +674,435 @@ public class ManagementAPITest {
         }
     }
 
+    @Test
+    public void shouldNotPaceRequestsByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(RateLimitGovernor.class))));
+    }
+
+    @Test
+    public void shouldPaceRequestsAfterRetriesIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setRateLimitPacingEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        List<Interceptor> interceptors = api.getClient().interceptors();
+        assertThat(interceptors, hasItem(isA(RateLimitGovernor.class)));
+        assertThat(interceptors.get(interceptors.size() - 1), is(instanceOf(RateLimitGovernor.class)));
+    }
+
+    @Test
+    public void shouldNotAdaptConcurrencyByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(AdaptiveConcurrencyLimiter.class))));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(5));
+    }
+
+    @Test
+    public void shouldAdaptConcurrencyLastIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setAdaptiveConcurrencyEnabled(true);
+        options.setRateLimitPacingEnabled(true);
+        options.setMaxRequests(20);
+        options.setMaxRequestsPerHost(4);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        List<Interceptor> interceptors = api.getClient().interceptors();
+        Interceptor last = interceptors.get(interceptors.size() - 1);
+        assertThat(last, is(instanceOf(AdaptiveConcurrencyLimiter.class)));
+        assertThat(((AdaptiveConcurrencyLimiter) last).getLimit(), is(4));
+        assertThat(api.getClient().dispatcher().getMaxRequestsPerHost(), is(20));
+    }
+
+    @Test
+    public void shouldNotBreakCircuitsByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(CircuitBreakerInterceptor.class))));
+    }
+
+    @Test
+    public void shouldBreakCircuitsBeforeRetriesIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setCircuitBreakerOptions(new CircuitBreakerOptions());
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        List<Interceptor> interceptors = api.getClient().interceptors();
+        int breaker = -1;
+        int retries = -1;
+        for (int i = 0; i < interceptors.size(); i++) {
+            if (interceptors.get(i) instanceof CircuitBreakerInterceptor) {
+                breaker = i;
+            } else if (interceptors.get(i) instanceof RateLimitInterceptor) {
+                retries = i;
+            }
+        }
+        assertThat(breaker, is(greaterThanOrEqualTo(0)));
+        assertThat(breaker, is(lessThan(retries)));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidCircuitBreakerFailureThreshold() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("failureThreshold must be one or greater.");
+
+        new CircuitBreakerOptions().setFailureThreshold(0);
+    }
+
+    @Test
+    public void shouldThrowOnInvalidCircuitBreakerCooldown() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("cooldown must be one or greater.");
+
+        new CircuitBreakerOptions().setCooldown(0);
+    }
+
+    @Test
+    public void shouldNotCompressRequestsByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(RequestCompressionInterceptor.class))));
+    }
+
+    @Test
+    public void shouldCompressRequestsIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setRequestCompressionEnabled(true);
+        options.setRequestCompressionThreshold(4096);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        RequestCompressionInterceptor compression = null;
+        for (Interceptor i : api.getClient().interceptors()) {
+            if (i instanceof RequestCompressionInterceptor) {
+                compression = (RequestCompressionInterceptor) i;
+            }
+        }
+        assertThat(compression, is(notNullValue()));
+        assertThat(compression.getThreshold(), is(4096L));
+    }
+
+    @Test
+    public void shouldThrowOnNegativeRequestCompressionThreshold() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("threshold must be zero or greater.");
+
+        HttpOptions options = new HttpOptions();
+        options.setRequestCompressionThreshold(-1);
+    }
+
+    @Test
+    public void shouldNotCoalesceRequestsByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(RequestCoalescingInterceptor.class))));
+    }
+
+    @Test
+    public void shouldCoalesceRequestsBeforeRetriesIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setRequestCoalescingEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        List<Interceptor> interceptors = api.getClient().interceptors();
+        int coalescing = -1;
+        int retries = -1;
+        for (int i = 0; i < interceptors.size(); i++) {
+            if (interceptors.get(i) instanceof RequestCoalescingInterceptor) {
+                coalescing = i;
+            } else if (interceptors.get(i) instanceof RateLimitInterceptor) {
+                retries = i;
+            }
+        }
+        assertThat(coalescing, is(greaterThanOrEqualTo(0)));
+        assertThat(coalescing, is(lessThan(retries)));
+    }
+
+    @Test
+    public void shouldNotCacheResponsesByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().cache(), is(nullValue()));
+        assertThat(api.getResponseCacheStats(), is(nullValue()));
+    }
+
+    @Test
+    public void shouldUseResponseCacheIfConfigured() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setResponseCacheOptions(new ResponseCacheOptions(folder.newFolder(), 1024 * 1024));
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        assertThat(api.getClient().cache(), is(notNullValue()));
+        assertThat(api.getClient().cache().maxSize(), is(1024L * 1024));
+    }
+
+    @Test
+    public void shouldRevalidateCachedResponses() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setResponseCacheOptions(new ResponseCacheOptions(folder.newFolder(), 1024 * 1024));
+        ManagementAPI api = new ManagementAPI(server.getBaseUrl(), API_TOKEN, options);
+
+        server.cacheableJsonResponse(MGMT_TENANT, "\"v1\"");
+        Tenant first = api.tenants().get(null).execute();
+        RecordedRequest firstRequest = server.takeRequest();
+        assertThat(firstRequest.getHeader("If-None-Match"), is(nullValue()));
+
+        server.notModifiedResponse("\"v1\"");
+        Tenant second = api.tenants().get(null).execute();
+        RecordedRequest secondRequest = server.takeRequest();
+        assertThat(secondRequest.getHeader("If-None-Match"), is("\"v1\""));
+        assertThat(secondRequest.getBodySize(), is(0L));
+
+        assertThat(second, is(notNullValue()));
+        assertThat(second.getFriendlyName(), is(first.getFriendlyName()));
+
+        ResponseCacheStats stats = api.getResponseCacheStats();
+        assertThat(stats.getRequestCount(), is(2L));
+        assertThat(stats.getHitCount(), is(1L));
+        assertThat(stats.getMissCount(), is(1L));
+        assertThat(stats.getNetworkCount(), is(2L));
+    }
+
+    @Test
+    public void shouldNotShareCachedResponsesBetweenTokens() throws Exception {
+        File directory = folder.newFolder();
+        HttpOptions options = new HttpOptions();
+        options.setResponseCacheOptions(new ResponseCacheOptions(directory, 1024 * 1024));
+        ManagementAPI api = new ManagementAPI(server.getBaseUrl(), "first-token", options);
+
+        server.cacheableJsonResponse(MGMT_TENANT, "\"v1\"");
+        api.tenants().get(null).execute();
+        server.takeRequest();
+
+        api.setApiToken("second-token");
+        server.cacheableJsonResponse(MGMT_TENANT, "\"v2\"");
+        api.tenants().get(null).execute();
+        RecordedRequest secondToken = server.takeRequest();
+        assertThat(secondToken.getHeader("Authorization"), is("Bearer second-token"));
+        assertThat(secondToken.getHeader("If-None-Match"), is(nullValue()));
+        assertThat(secondToken.getHeader("Auth0-Authorization-Digest"), is(nullValue()));
+
+        server.notModifiedResponse("\"v2\"");
+        api.tenants().get(null).execute();
+        assertThat(server.takeRequest().getHeader("If-None-Match"), is("\"v2\""));
+
+        api.setApiToken("first-token");
+        server.cacheableJsonResponse(MGMT_TENANT, "\"v1\"");
+        api.tenants().get(null).execute();
+        assertThat(server.takeRequest().getHeader("If-None-Match"), is(nullValue()));
+        // the cache records the digest of the tokens rather than the tokens
+        api.getClient().cache().flush();
+        for (File file : directory.listFiles()) {
+            assertThat(new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1), not(containsString("-token")));
+        }
+    }
+
+    @Test
+    public void shouldThrowOnNonPositiveResponseCacheSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxSize must be greater than zero.");
+        new ResponseCacheOptions(new File("cache"), 0);
+    }
+
+    @Test
+    public void shouldUseDispatcherExecutorIfConfigured() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            HttpOptions options = new HttpOptions();
+            options.setDispatcherExecutor(executor);
+            ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+            assertThat(api.getClient().dispatcher().executorService(), is(sameInstance(executor)));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldParseAsyncResponsesOnDecodingExecutor() throws Exception {
+        AtomicInteger executions = new AtomicInteger();
+        HttpOptions options = new HttpOptions();
+        options.setDecodingExecutor(command -> {
+            executions.incrementAndGet();
+            command.run();
+        });
+        ManagementAPI api = new ManagementAPI(server.getBaseUrl(), API_TOKEN, options);
+
+        server.jsonResponse(MGMT_TENANT, 200);
+        Tenant tenant = api.tenants().get(null).executeAsync().get();
+
+        assertThat(tenant, is(notNullValue()));
+        assertThat(executions.get(), is(1));
+    }
+
+    @Test
+    public void shouldThrowWhenEnablingVirtualThreadsOnUnsupportedRuntime() {
+        Assume.assumeFalse(VirtualThreads.isAvailable());
+        exception.expect(IllegalStateException.class);
+        exception.expectMessage("Virtual threads require Java 21 or later.");
+        new HttpOptions().setVirtualThreadsEnabled(true);
+    }
+
+    @Test
+    public void shouldExecuteAsyncRequestsOnVirtualThreadsIfConfigured() throws Exception {
+        Assume.assumeTrue(VirtualThreads.isAvailable());
+        HttpOptions options = new HttpOptions();
+        options.setVirtualThreadsEnabled(true);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        Future<Object> isVirtual = api.getClient().dispatcher().executorService()
+                .submit(() -> Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+        assertThat(isVirtual.get(), is(true));
+    }
+
+    @Test
+    public void shouldAllowHttp2ByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().protocols(), hasItem(Protocol.HTTP_2));
+    }
+
+    @Test
+    public void shouldOnlyUseHttp1IfHttp2Disabled() {
+        HttpOptions options = new HttpOptions();
+        options.setHttp2Enabled(false);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+        assertThat(api.getClient().protocols(), contains(Protocol.HTTP_1_1));
+    }
+
+    @Test
+    public void shouldThrowOnNegativeMaxIdleConnections() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxIdleConnections must be zero or greater.");
+        new HttpOptions().setMaxIdleConnections(-1);
+    }
+
+    @Test
+    public void shouldThrowOnNonPositiveKeepAliveDuration() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("keepAliveDuration must be one or greater.");
+        new HttpOptions().setKeepAliveDuration(0);
+    }
+
+    @Test
+    public void shouldWarmUpConnections() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setMaxIdleConnections(10);
+        ManagementAPI api = new ManagementAPI(server.getBaseUrl(), API_TOKEN, options);
+        for (int i = 0; i < 3; i++) {
+            server.emptyResponse(200);
+        }
+
+        api.warmUp(3).get();
+
+        for (int i = 0; i < 3; i++) {
+            RecordedRequest request = server.takeRequest();
+            assertThat(request.getMethod(), is("HEAD"));
+            assertThat(request.getPath(), is("/"));
+            assertThat(request.getHeader("Authorization"), is(nullValue()));
+        }
+        assertThat(api.getClient().connectionPool().idleConnectionCount(), is(3));
+    }
+
+    @Test
+    public void shouldThrowOnNonPositiveWarmUpConnections() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("connections must be one or greater.");
+        new ManagementAPI(DOMAIN, API_TOKEN).warmUp(0);
+    }
+
+    @Test
+    public void shouldShareTransportResources() {
+        HttpOptions transportOptions = new HttpOptions();
+        transportOptions.setMaxRequests(20);
+        HttpTransport transport = new HttpTransport(transportOptions);
+
+        HttpOptions options = new HttpOptions();
+        options.setManagementAPIMaxRetries(1);
+        ManagementAPI first = new ManagementAPI(DOMAIN, API_TOKEN, options, transport);
+        ManagementAPI second = new ManagementAPI("other.auth0.com", "otherToken", new HttpOptions(), transport);
+
+        assertThat(first.getClient().dispatcher(), is(sameInstance(second.getClient().dispatcher())));
+        assertThat(first.getClient().connectionPool(), is(sameInstance(second.getClient().connectionPool())));
+        assertThat(first.getClient().dispatcher().getMaxRequests(), is(20));
+
+        assertThat(getRateLimitInterceptor(first).getMaxRetries(), is(1));
+        assertThat(getRateLimitInterceptor(second).getMaxRetries(), is(3));
+        assertThat(first.getClient().interceptors(), everyItem(not(is(in(second.getClient().interceptors())))));
+    }
+
+    @Test
+    public void shouldNotShareTransportResourcesByDefault() {
+        ManagementAPI first = new ManagementAPI(DOMAIN, API_TOKEN);
+        ManagementAPI second = new ManagementAPI(DOMAIN, API_TOKEN);
+
+        assertThat(first.getClient().dispatcher(), is(not(sameInstance(second.getClient().dispatcher()))));
+        assertThat(first.getClient().connectionPool(), is(not(sameInstance(second.getClient().connectionPool()))));
+    }
+
+    @Test
+    public void shouldThrowWhenTransportIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'transport' cannot be null!");
+        new ManagementAPI(DOMAIN, API_TOKEN, new HttpOptions(), null);
+    }
+
+    private static RateLimitInterceptor getRateLimitInterceptor(ManagementAPI api) {
+        for (Interceptor interceptor : api.getClient().interceptors()) {
+            if (interceptor instanceof RateLimitInterceptor) {
+                return (RateLimitInterceptor) interceptor;
+            }
+        }
+        throw new AssertionError("RateLimitInterceptor not found");
+    }
+
+    @Test
+    public void shouldNotRecordMetricsByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(MetricsInterceptor.class))));
+    }
+
+    @Test
+    public void shouldRecordMetricsIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setMetricsRecorder(new InMemoryMetricsRecorder());
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        assertThat(api.getClient().interceptors(), hasItem(isA(MetricsInterceptor.class)));
+        assertThat(api.getClient().eventListenerFactory(), is(instanceOf(MetricsEventListener.Factory.class)));
+    }
+
+    @Test
+    public void shouldNotBoundRequestQueueByDefault() {
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN);
+        assertThat(api.getClient().interceptors(), not(hasItem(isA(RequestQueueInterceptor.class))));
+    }
+
+    @Test
+    public void shouldBoundRequestQueueFirstIfConfigured() {
+        HttpOptions options = new HttpOptions();
+        options.setMaxQueuedRequests(100);
+        options.setQueueOverflowPolicy(QueueOverflowPolicy.CALLER_RUNS);
+        ManagementAPI api = new ManagementAPI(DOMAIN, API_TOKEN, options);
+
+        Interceptor first = api.getClient().interceptors().get(0);
+        assertThat(first, is(instanceOf(RequestQueueInterceptor.class)));
+        assertThat(((RequestQueueInterceptor) first).getMaxQueuedRequests(), is(100));
+        assertThat(((RequestQueueInterceptor) first).getPolicy(), is(QueueOverflowPolicy.CALLER_RUNS));
+    }
+
+    @Test
+    public void shouldThrowOnNegativeMaxQueuedRequestsConfiguration() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxQueuedRequests must be zero or greater.");
+
+        HttpOptions options = new HttpOptions();
+        options.setMaxQueuedRequests(-1);
+    }
+
+    @Test
+    public void shouldThrowOnNullQueueOverflowPolicyConfiguration() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'queue overflow policy' cannot be null!");
+
+        HttpOptions options = new HttpOptions();
+        options.setQueueOverflowPolicy(null);
+    }
+
     @Test
     public void shouldThrowOnNegativeMaxRetriesConfiguration() {
         exception.expect(IllegalArgumentException.class);
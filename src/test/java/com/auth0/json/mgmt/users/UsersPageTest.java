@@ -54,6 +54,30 @@ public class UsersPageTest extends JsonTest<UsersPage> {
         assertThat(page.getItems().size(), is(1));
     }
 
+    @Test
+    public void shouldDeserializeFieldsInAnyOrderAndSkipUnknownFields() throws Exception {
+        String json = "{\"users\":[{\"user_id\":\"auth0|1\",\"email\":\"me@auth0.com\"},{\"user_id\":\"auth0|2\"}],\"extra\":{\"nested\":[1,{\"start\":99}]},\"total\":14,\"start\":2,\"limit\":50,\"length\":2,\"next\":null}";
+        UsersPage page = fromJSON(json, UsersPage.class);
+
+        assertThat(page.getStart(), is(2));
+        assertThat(page.getLength(), is(2));
+        assertThat(page.getTotal(), is(14));
+        assertThat(page.getLimit(), is(50));
+        assertThat(page.getNext(), is(nullValue()));
+        assertThat(page.getItems(), hasSize(2));
+        assertThat(page.getItems().get(0).getId(), is("auth0|1"));
+        assertThat(page.getItems().get(0).getEmail(), is("me@auth0.com"));
+        assertThat(page.getItems().get(1).getId(), is("auth0|2"));
+    }
+
+    @Test
+    public void shouldDeserializeNullItems() throws Exception {
+        UsersPage page = fromJSON("{\"start\":0,\"users\":null}", UsersPage.class);
+
+        assertThat(page.getStart(), is(0));
+        assertThat(page.getItems(), is(nullValue()));
+    }
+
     @Test
     public void shouldBeCreatedWithoutNextField() {
         UsersPage page = new UsersPageDeserializer().createPage(0, 5, 20, 50, new ArrayList<>());
@@ -0,0 +1,276 @@
+package com.auth0.net;
+
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class AdaptiveConcurrencyLimiterTest {
+
+    private static final String ENDPOINT = "GET /api/v2/users";
+    private static final long LATENCY = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private AtomicLong clock;
+
+    @Before
+    public void setUp() {
+        clock = new AtomicLong(1_000_000_000L);
+    }
+
+    @Test
+    public void shouldThrowOnInitialLimitBelowOne() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("initialLimit must be between one and maxLimit.");
+        new AdaptiveConcurrencyLimiter(0, 10);
+    }
+
+    @Test
+    public void shouldThrowOnInitialLimitAboveMax() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("initialLimit must be between one and maxLimit.");
+        new AdaptiveConcurrencyLimiter(11, 10);
+    }
+
+    @Test
+    public void shouldGrowWhileLatencyIsFlatAndLimitIsUsed() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10, clock::get);
+        long first = limiter.acquire(null);
+        for (int i = 0; i < 50; i++) {
+            long second = limiter.acquire(null);
+            clock.addAndGet(LATENCY);
+            limiter.onResponse(ENDPOINT, second, 200);
+        }
+        // two requests in flight only justify a limit of four
+        assertThat(limiter.getLimit(), is(4));
+        limiter.onResponse(ENDPOINT, first, 200);
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void shouldNotGrowAboveMaxLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 3, clock::get);
+        long[] started = new long[3];
+        for (int i = 0; i < 100; i++) {
+            int inFlight = limiter.getLimit();
+            for (int j = 0; j < inFlight; j++) {
+                started[j] = limiter.acquire(null);
+            }
+            clock.addAndGet(LATENCY);
+            for (int j = 0; j < inFlight; j++) {
+                limiter.onResponse(ENDPOINT, started[j], 200);
+            }
+        }
+        assertThat(limiter.getLimit(), is(3));
+    }
+
+    @Test
+    public void shouldHalveLimitOnceWhenRateLimited() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(8, 10, clock::get);
+        long first = limiter.acquire(null);
+        long second = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onResponse(ENDPOINT, first, 429);
+        assertThat(limiter.getLimit(), is(4));
+
+        // already in flight when the limit was decreased
+        limiter.onResponse(ENDPOINT, second, 429);
+        assertThat(limiter.getLimit(), is(4));
+
+        long third = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onResponse(ENDPOINT, third, 429);
+        assertThat(limiter.getLimit(), is(2));
+    }
+
+    @Test
+    public void shouldNotShrinkBelowOne() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(2, 10, clock::get);
+        for (int i = 0; i < 10; i++) {
+            long started = limiter.acquire(null);
+            clock.addAndGet(LATENCY);
+            limiter.onResponse(ENDPOINT, started, 429);
+        }
+        assertThat(limiter.getLimit(), is(1));
+    }
+
+    @Test
+    public void shouldShrinkOnLatencyInflation() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20, clock::get);
+        long started = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onResponse(ENDPOINT, started, 200);
+        assertThat(limiter.getLimit(), is(10));
+
+        started = limiter.acquire(null);
+        clock.addAndGet(LATENCY * 3);
+        limiter.onResponse(ENDPOINT, started, 200);
+        assertThat(limiter.getLimit(), is(9));
+    }
+
+    @Test
+    public void shouldTrackLatencyBaselinePerEndpoint() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20, clock::get);
+        long started = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onResponse(ENDPOINT, started, 200);
+
+        started = limiter.acquire(null);
+        clock.addAndGet(LATENCY * 3);
+        limiter.onResponse("GET /api/v2/logs", started, 200);
+        assertThat(limiter.getLimit(), is(10));
+    }
+
+    @Test
+    public void shouldIgnoreSmallLatencyVariations() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20, clock::get);
+        long started = limiter.acquire(null);
+        clock.addAndGet(TimeUnit.MICROSECONDS.toNanos(100));
+        limiter.onResponse(ENDPOINT, started, 200);
+
+        started = limiter.acquire(null);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1));
+        limiter.onResponse(ENDPOINT, started, 200);
+        assertThat(limiter.getLimit(), is(10));
+    }
+
+    @Test
+    public void shouldShrinkOnTimeoutsOnly() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 20, clock::get);
+        long started = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onDropped(started, false);
+        assertThat(limiter.getLimit(), is(10));
+
+        started = limiter.acquire(null);
+        clock.addAndGet(LATENCY);
+        limiter.onDropped(started, true);
+        assertThat(limiter.getLimit(), is(9));
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void shouldWaitForSlotWhenOverLimit() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, clock::get);
+        long first = limiter.acquire(null);
+
+        CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiter = new Thread(() -> {
+            try {
+                limiter.acquire(null);
+                acquired.countDown();
+            } catch (Exception ignored) {
+            }
+        });
+        waiter.start();
+        assertThat(acquired.await(200, TimeUnit.MILLISECONDS), is(false));
+
+        limiter.onDropped(first, false);
+        assertThat(acquired.await(5, TimeUnit.SECONDS), is(true));
+        assertThat(limiter.getInFlight(), is(1));
+    }
+
+    @Test
+    public void shouldReserveSlotsForAsyncRequestsWithoutWaiting() {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 10, clock::get);
+        List<AdaptiveConcurrencyLimiter.Slot> slots = new ArrayList<>();
+        limiter.reserve(slots::add);
+        limiter.reserve(slots::add);
+        assertThat(slots, hasSize(1));
+        assertThat(limiter.getWaiting(), is(1));
+
+        // handed to the waiting request, only once
+        slots.get(0).release();
+        slots.get(0).release();
+        assertThat(slots, hasSize(2));
+        assertThat(limiter.getWaiting(), is(0));
+        assertThat(limiter.getInFlight(), is(1));
+
+        assertThat(slots.get(1).claim(), is(true));
+        limiter.onDropped(clock.get(), false);
+        slots.get(1).release();
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void shouldNotHoldDispatcherThreadsWhileAsyncRequestsWaitForSlot() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+            OkHttpClient client = new OkHttpClient.Builder().addInterceptor(limiter).build();
+            server.enqueue(new MockResponse().setHeadersDelay(300, TimeUnit.MILLISECONDS));
+            server.enqueue(new MockResponse());
+
+            CompletableFuture<Void> first = new VoidRequest(client, server.url("/api/v2/users").toString(), "GET").executeAsync();
+            CompletableFuture<Void> second = new VoidRequest(client, server.url("/api/v2/logs").toString(), "GET").executeAsync();
+            assertThat(limiter.getWaiting(), is(1));
+            assertThat(client.dispatcher().runningCallsCount(), is(1));
+
+            CompletableFuture.allOf(first, second).get(5, TimeUnit.SECONDS);
+            assertThat(server.getRequestCount(), is(2));
+            assertThat(limiter.getInFlight(), is(0));
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldReleaseReservedSlotWhenRequestNeverReachesLimiter() throws Exception {
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 8);
+        OkHttpClient client = new OkHttpClient.Builder()
+                .addInterceptor(chain -> {
+                    throw new IOException("failed before the limiter");
+                })
+                .addInterceptor(limiter)
+                .build();
+
+        CompletableFuture<Void> future = new VoidRequest(client, "https://domain.auth0.com/api/v2/users", "GET").executeAsync();
+        try {
+            future.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException ignored) {
+        }
+        assertThat(limiter.getInFlight(), is(0));
+    }
+
+    @Test
+    public void shouldAdaptToResponses() throws Exception {
+        MockWebServer server = new MockWebServer();
+        server.start();
+        try {
+            AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(4, 8);
+            OkHttpClient client = new OkHttpClient.Builder().addInterceptor(limiter).build();
+            server.enqueue(new MockResponse().setResponseCode(429));
+
+            Request request = new Request.Builder().url(server.url("/api/v2/users")).build();
+            try (Response response = client.newCall(request).execute()) {
+                assertThat(response.code(), is(429));
+            }
+            assertThat(limiter.getLimit(), is(2));
+            assertThat(limiter.getInFlight(), is(0));
+        } finally {
+            server.shutdown();
+        }
+    }
+}
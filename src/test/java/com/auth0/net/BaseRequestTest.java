@@ -5,11 +5,18 @@ import com.auth0.exception.Auth0Exception;
 import com.auth0.exception.RateLimitException;
 import okhttp3.Request;
 import okhttp3.*;
+import okio.Timeout;
 import org.junit.Before;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.*;
@@ -238,6 +245,135 @@ public class BaseRequestTest {
         assertThat(result, is("Success"));
     }
 
+    @Test
+    public void shouldApplyTimeoutToCall() throws Exception {
+        Timeout timeout = new Timeout();
+        when(call.timeout()).thenReturn(timeout);
+
+        new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        }.setTimeout(3, TimeUnit.SECONDS).execute();
+
+        // what remains of the timeout once the request was created
+        assertThat(timeout.timeoutNanos(), is(both(greaterThan(TimeUnit.SECONDS.toNanos(2))).and(lessThanOrEqualTo(TimeUnit.SECONDS.toNanos(3)))));
+    }
+
+    @Test
+    public void shouldNotChangeCallTimeoutByDefault() throws Exception {
+        new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        }.execute();
+
+        verify(call, never()).timeout();
+    }
+
+    @Test
+    public void shouldThrowOnNegativeTimeout() {
+        MockBaseRequest<String> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        };
+
+        IllegalArgumentException e = null;
+        try {
+            request.setTimeout(-1, TimeUnit.SECONDS);
+        } catch (IllegalArgumentException ex) {
+            e = ex;
+        }
+        assertThat(e, is(notNullValue()));
+        assertThat(e.getMessage(), is("timeout must be zero or greater."));
+    }
+
+    @Test
+    public void asyncCancellationCancelsCall() {
+        doReturn(call).when(client).newCall(any());
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            protected String parseResponse(Response response) {
+                return "";
+            }
+        }.executeAsync();
+
+        verify(call).enqueue(any());
+        verify(call, never()).cancel();
+
+        request.cancel(true);
+
+        verify(call).cancel();
+    }
+
+    @Test
+    public void asyncParsesResponseOnDecodingExecutor() throws Exception {
+        doReturn(call).when(client).newCall(any());
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "decoding-thread"));
+        try {
+            CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+                @Override
+                Executor getDecodingExecutor() {
+                    return executor;
+                }
+
+                @Override
+                protected String parseResponse(Response response) {
+                    return Thread.currentThread().getName();
+                }
+            }.executeAsync();
+
+            assertThat(request.get(), is("decoding-thread"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void asyncCompletesWithExceptionWhenDecodingExecutorRejects() throws Exception {
+        doReturn(call).when(client).newCall(any());
+        doAnswer(invocation -> {
+            ((Callback) invocation.getArgument(0)).onResponse(call, response);
+            return null;
+        }).when(call).enqueue(any());
+
+        CompletableFuture<?> request = new MockBaseRequest<String>(client) {
+            @Override
+            Executor getDecodingExecutor() {
+                return command -> {
+                    throw new RejectedExecutionException("Rejected!");
+                };
+            }
+
+            @Override
+            protected String parseResponse(Response response) {
+                return "Success";
+            }
+        }.executeAsync();
+
+        Exception exception = null;
+        try {
+            request.get();
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(Auth0Exception.class)));
+        assertThat(exception.getCause().getCause(), is(instanceOf(RejectedExecutionException.class)));
+        verify(response).close();
+    }
+
     private abstract static class MockBaseRequest<String> extends BaseRequest {
         MockBaseRequest(OkHttpClient client) {
             super(client);
@@ -0,0 +1,252 @@
+package com.auth0.net;
+
+import com.auth0.client.CircuitBreakerListener;
+import com.auth0.client.CircuitBreakerState;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.exception.CircuitBreakerOpenException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class CircuitBreakerInterceptorTest {
+
+    private static final long COOLDOWN = 30_000L;
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private MockWebServer server;
+    private AtomicLong clock;
+    private List<String> transitions;
+    private CircuitBreakerInterceptor breaker;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        clock = new AtomicLong(1_600_000_000_000L);
+        transitions = new ArrayList<>();
+        CircuitBreakerListener listener = (family, from, to) -> transitions.add(family + ": " + from + " -> " + to);
+        breaker = new CircuitBreakerInterceptor(3, COOLDOWN, listener, clock::get);
+        client = new OkHttpClient.Builder()
+                .addInterceptor(breaker)
+                .readTimeout(500, TimeUnit.MILLISECONDS)
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldThrowOnInvalidFailureThreshold() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("failureThreshold must be one or greater.");
+        new CircuitBreakerInterceptor(0, COOLDOWN, null);
+    }
+
+    @Test
+    public void shouldThrowOnNegativeCooldown() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("cooldownMillis must be zero or greater.");
+        new CircuitBreakerInterceptor(1, -1, null);
+    }
+
+    @Test
+    public void shouldOpenAfterConsecutiveFailures() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(503));
+            assertThat(execute("/api/v2/jobs/1"), is(503));
+        }
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.OPEN));
+        assertThat(transitions, contains("jobs: CLOSED -> OPEN"));
+
+        exception.expect(CircuitBreakerOpenException.class);
+        exception.expectMessage("The circuit breaker of the 'jobs' endpoints is open");
+        try {
+            execute("/api/v2/jobs/2");
+        } finally {
+            assertThat(server.getRequestCount(), is(3));
+        }
+    }
+
+    @Test
+    public void shouldResetFailuresOnSuccess() throws Exception {
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        server.enqueue(new MockResponse().setResponseCode(500));
+        for (int i = 0; i < 5; i++) {
+            execute("/api/v2/jobs/1");
+        }
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.CLOSED));
+        assertThat(transitions, is(empty()));
+    }
+
+    @Test
+    public void shouldNotCountClientErrorsAndRateLimits() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(i == 0 ? 429 : 404));
+            execute("/api/v2/jobs/1");
+        }
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.CLOSED));
+    }
+
+    @Test
+    public void shouldCountTimeoutsAsFailures() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setSocketPolicy(SocketPolicy.NO_RESPONSE));
+            try {
+                execute("/api/v2/jobs/1");
+            } catch (IOException ignored) {
+            }
+        }
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.OPEN));
+    }
+
+    @Test
+    public void shouldKeepCircuitsPerEndpointFamily() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+
+        server.enqueue(new MockResponse().setResponseCode(200));
+        assertThat(execute("/api/v2/users/1"), is(200));
+        assertThat(breaker.getState("users"), is(CircuitBreakerState.CLOSED));
+    }
+
+    @Test
+    public void shouldCloseAfterSuccessfulProbe() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+        clock.addAndGet(COOLDOWN);
+
+        server.enqueue(new MockResponse().setResponseCode(200));
+        assertThat(execute("/api/v2/jobs/1"), is(200));
+
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.CLOSED));
+        assertThat(transitions, contains("jobs: CLOSED -> OPEN", "jobs: OPEN -> HALF_OPEN", "jobs: HALF_OPEN -> CLOSED"));
+    }
+
+    @Test
+    public void shouldReopenAfterFailedProbe() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+        clock.addAndGet(COOLDOWN);
+
+        server.enqueue(new MockResponse().setResponseCode(502));
+        assertThat(execute("/api/v2/jobs/1"), is(502));
+
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.OPEN));
+        assertThat(transitions, contains("jobs: CLOSED -> OPEN", "jobs: OPEN -> HALF_OPEN", "jobs: HALF_OPEN -> OPEN"));
+
+        // the cooldown starts again
+        clock.addAndGet(COOLDOWN - 1);
+        exception.expect(CircuitBreakerOpenException.class);
+        execute("/api/v2/jobs/1");
+    }
+
+    @Test
+    public void shouldRejectOtherRequestsWhileProbing() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+        clock.addAndGet(COOLDOWN);
+
+        server.enqueue(new MockResponse().setResponseCode(200).setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        Thread probe = new Thread(() -> {
+            try {
+                execute("/api/v2/jobs/1");
+            } catch (IOException ignored) {
+            }
+        });
+        probe.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (breaker.getState("jobs") != CircuitBreakerState.HALF_OPEN && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+
+        Exception rejected = null;
+        try {
+            execute("/api/v2/jobs/2");
+        } catch (CircuitBreakerOpenException e) {
+            rejected = e;
+        }
+        assertThat(rejected, is(notNullValue()));
+        probe.join(5000);
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.CLOSED));
+    }
+
+    @Test
+    public void shouldFailAsyncRequestsWithCircuitBreakerOpenException() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+        TypeReference<Map<String, Object>> type = new TypeReference<Map<String, Object>>() {
+        };
+        CustomRequest<Map<String, Object>> request = new CustomRequest<>(client, server.url("/api/v2/jobs/1").toString(), "GET", type);
+
+        CompletableFuture<Map<String, Object>> future = request.executeAsync();
+        Exception failure = null;
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            failure = e;
+        }
+        assertThat(failure, is(notNullValue()));
+        assertThat(failure.getCause(), is(instanceOf(CircuitBreakerOpenException.class)));
+        assertThat(((CircuitBreakerOpenException) failure.getCause()).getEndpointFamily(), is("jobs"));
+
+        exception.expect(CircuitBreakerOpenException.class);
+        request.execute();
+    }
+
+    @Test
+    public void shouldNotSendSyncRequestsWhileOpen() throws Exception {
+        openCircuit("/api/v2/jobs/1");
+        TypeReference<Map<String, Object>> type = new TypeReference<Map<String, Object>>() {
+        };
+        CustomRequest<Map<String, Object>> request = new CustomRequest<>(client, server.url("/api/v2/jobs/1").toString(), "GET", type);
+
+        Auth0Exception failure = null;
+        try {
+            request.execute();
+        } catch (Auth0Exception e) {
+            failure = e;
+        }
+        assertThat(failure, is(instanceOf(CircuitBreakerOpenException.class)));
+        assertThat(server.getRequestCount(), is(3));
+    }
+
+    private void openCircuit(String path) throws IOException {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(500));
+            execute(path);
+        }
+        assertThat(breaker.getState("jobs"), is(CircuitBreakerState.OPEN));
+    }
+
+    private int execute(String path) throws IOException {
+        Request request = new Request.Builder().url(server.url(path)).build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+}
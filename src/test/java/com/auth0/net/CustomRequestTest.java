@@ -5,6 +5,7 @@ import com.auth0.exception.APIException;
 import com.auth0.exception.Auth0Exception;
 import com.auth0.exception.RateLimitException;
 import com.auth0.json.auth.TokenHolder;
+import com.auth0.json.mgmt.users.User;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -18,8 +19,13 @@ import org.junit.*;
 import org.junit.rules.ExpectedException;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
 import static com.auth0.client.MockServer.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -138,12 +144,61 @@ public class CustomRequestTest {
         request.execute();
     }
 
+    @Test
+    public void shouldThrowWhenTimeoutElapses() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setTimeout(100, TimeUnit.MILLISECONDS);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 1, TimeUnit.SECONDS);
+
+        exception.expect(Auth0Exception.class);
+        exception.expectCause(Matchers.<Throwable>instanceOf(InterruptedIOException.class));
+        exception.expectMessage("Failed to execute request");
+        request.execute();
+    }
+
+    @Test
+    public void shouldCompleteAsyncExceptionallyWhenTimeoutElapses() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        request.setTimeout(100, TimeUnit.MILLISECONDS);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 1, TimeUnit.SECONDS);
+
+        CompletableFuture<TokenHolder> future = request.executeAsync();
+        Exception exception = null;
+        try {
+            future.get(500, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(Auth0Exception.class)));
+        assertThat(exception.getCause().getCause(), is(instanceOf(InterruptedIOException.class)));
+    }
+
+    @Test
+    public void shouldReleaseDispatcherWhenAsyncFutureIsCancelled() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", tokenHolderType);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 3, TimeUnit.SECONDS);
+
+        CompletableFuture<TokenHolder> future = request.executeAsync();
+        server.takeRequest();
+        assertThat(client.dispatcher().runningCallsCount(), is(1));
+
+        future.cancel(true);
+
+        long deadline = System.currentTimeMillis() + 500;
+        while (client.dispatcher().runningCallsCount() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(client.dispatcher().runningCallsCount(), is(0));
+    }
+
     @Test
     public void shouldThrowOnBodyCreationFailure() throws Exception {
         ObjectMapper mapper = mock(ObjectMapper.class);
         when(mapper.writeValueAsBytes(any(Object.class))).thenThrow(JsonProcessingException.class);
 
-        CustomRequest request = new CustomRequest<>(client, server.getBaseUrl(), "POST", mapper, voidType);
+        CustomRequest request = new CustomRequest<>(client, server.getBaseUrl(), "POST", new JsonCodec(mapper), voidType);
         request.addParameter("name", "value");
         exception.expect(Auth0Exception.class);
         exception.expectCause(Matchers.<Throwable>instanceOf(JsonProcessingException.class));
@@ -166,6 +221,38 @@ public class CustomRequestTest {
         assertThat(response.getExpiresIn(), is(notNullValue()));
     }
 
+    @Test
+    public void shouldParseSuccessfulResponseWithDeclaredCharset() throws Exception {
+        CustomRequest<List<User>> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", new TypeReference<List<User>>() {
+        });
+        server.jsonResponse(MGMT_USERS_LIST, 200, StandardCharsets.UTF_16LE);
+        List<User> response = request.execute();
+        server.takeRequest();
+
+        assertThat(response, hasSize(2));
+        assertThat(response.get(0).getEmail(), is("john.doe@gmail.com"));
+        assertThat(response.get(0).getIdentities().get(1).getProfileData().getName(), is("Auth0\uFE0F"));
+    }
+
+    @Test
+    public void shouldParseErrorResponseWithDeclaredCharset() throws Exception {
+        CustomRequest<List> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", listType);
+        server.jsonResponse(AUTH_ERROR_WITH_ERROR_DESCRIPTION, 400, StandardCharsets.UTF_16BE);
+        Exception exception = null;
+        try {
+            request.execute();
+            server.takeRequest();
+        } catch (Exception e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception, is(instanceOf(APIException.class)));
+        APIException authException = (APIException) exception;
+        assertThat(authException.getDescription(), is("the connection was not found"));
+        assertThat(authException.getError(), is("invalid_request"));
+        assertThat(authException.getStatusCode(), is(400));
+    }
+
     @Test
     public void shouldThrowOnParseInvalidSuccessfulResponse() throws Exception {
         CustomRequest<List> request = new CustomRequest<>(client, server.getBaseUrl(), "GET", listType);
@@ -0,0 +1,145 @@
+package com.auth0.net;
+
+import com.auth0.client.MockServer;
+import com.auth0.exception.APIException;
+import com.auth0.json.auth.TokenHolder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+import static com.auth0.client.MockServer.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class ExchangeTraceTest {
+
+    private static final String EVENT_NAME = "com.auth0.HttpExchange";
+
+    private MockServer server;
+    private OkHttpClient client;
+    private TypeReference<TokenHolder> tokenHolderType;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockServer();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RateLimitInterceptor(2))
+                .build();
+        tokenHolderType = new TypeReference<TokenHolder>() {
+        };
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void shouldNotTraceWhenNotRecording() {
+        assertThat(ExchangeTrace.start(), is(sameInstance(ExchangeTrace.NONE)));
+    }
+
+    @Test
+    public void shouldNotTraceWhenEventIsDisabled() throws Exception {
+        try (Recording recording = new Recording()) {
+            recording.disable(EVENT_NAME);
+            recording.start();
+            assertThat(ExchangeTrace.start(), is(sameInstance(ExchangeTrace.NONE)));
+        }
+    }
+
+    @Test
+    public void shouldRecordEventForSyncRequest() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl() + "api/v2/users/auth0|123", "GET", tokenHolderType);
+        server.rateLimitReachedResponse(-1, -1, -1);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        List<RecordedEvent> events = record(() -> {
+            request.execute();
+            return null;
+        });
+
+        assertThat(events, hasSize(1));
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("endpoint"), is("GET /api/v2/users/{id}"));
+        assertThat(event.getInt("status"), is(200));
+        assertThat(event.getInt("retries"), is(1));
+        assertThat(event.getDuration("createRequestTime"), is(greaterThan(Duration.ZERO)));
+        assertThat(event.getDuration("networkTime"), is(greaterThan(Duration.ZERO)));
+        assertThat(event.getDuration("parseTime"), is(greaterThan(Duration.ZERO)));
+    }
+
+    @Test
+    public void shouldRecordEventForAsyncRequest() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl() + "oauth/token", "POST", tokenHolderType);
+        request.addParameter("grant_type", "client_credentials");
+        server.rateLimitReachedResponse(-1, -1, -1);
+        server.rateLimitReachedResponse(-1, -1, -1);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        List<RecordedEvent> events = record(() -> request.executeAsync().get());
+
+        assertThat(events, hasSize(1));
+        RecordedEvent event = events.get(0);
+        assertThat(event.getString("endpoint"), is("POST /oauth/token"));
+        assertThat(event.getInt("status"), is(200));
+        assertThat(event.getInt("retries"), is(2));
+        assertThat(event.getDuration("networkTime"), is(greaterThan(Duration.ZERO)));
+        assertThat(event.getDuration("parseTime"), is(greaterThan(Duration.ZERO)));
+    }
+
+    @Test
+    public void shouldRecordEventForFailedRequest() throws Exception {
+        CustomRequest<TokenHolder> request = new CustomRequest<>(client, server.getBaseUrl() + "oauth/token", "POST", tokenHolderType);
+        request.addParameter("grant_type", "client_credentials");
+        server.jsonResponse(AUTH_ERROR_WITH_ERROR_DESCRIPTION, 400);
+
+        List<RecordedEvent> events = record(() -> {
+            try {
+                request.executeAsync().get();
+            } catch (ExecutionException e) {
+                assertThat(e.getCause(), is(instanceOf(APIException.class)));
+            }
+            return null;
+        });
+
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getInt("status"), is(400));
+        assertThat(events.get(0).getInt("retries"), is(0));
+        assertThat(events.get(0).getDuration("parseTime"), is(greaterThan(Duration.ZERO)));
+    }
+
+    private List<RecordedEvent> record(Action action) throws Exception {
+        Path file = folder.newFile("exchange.jfr").toPath();
+        try (Recording recording = new Recording()) {
+            recording.enable(EVENT_NAME).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+        }
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(EVENT_NAME))
+                .collect(Collectors.toList());
+    }
+
+    private interface Action {
+        Object run() throws Exception;
+    }
+}
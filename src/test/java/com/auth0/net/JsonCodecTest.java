@@ -0,0 +1,67 @@
+package com.auth0.net;
+
+import com.auth0.json.auth.TokenHolder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class JsonCodecTest {
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void shouldThrowWhenMapperIsNull() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'mapper' cannot be null!");
+        new JsonCodec(null);
+    }
+
+    @Test
+    public void shouldExposeMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonCodec codec = new JsonCodec(mapper);
+        assertThat(codec.getMapper(), is(sameInstance(mapper)));
+    }
+
+    @Test
+    public void shouldCacheReaderPerType() {
+        JsonCodec codec = new JsonCodec();
+        assertThat(codec.readerFor(new TypeReference<TokenHolder>() {
+        }), is(sameInstance(codec.readerFor(new TypeReference<TokenHolder>() {
+        }))));
+        assertThat(codec.readerFor(new TypeReference<List<String>>() {
+        }), is(sameInstance(codec.readerFor(new TypeReference<List<String>>() {
+        }))));
+        assertThat(codec.readerFor(new TypeReference<List<String>>() {
+        }), is(not(sameInstance(codec.readerFor(new TypeReference<List<Integer>>() {
+        })))));
+    }
+
+    @Test
+    public void shouldReadGenericTypes() throws Exception {
+        JsonCodec codec = new JsonCodec();
+        Map<String, Object> values = codec.readerFor(new TypeReference<Map<String, Object>>() {
+        }).readValue("{\"a\":1,\"b\":[\"x\"]}");
+        assertThat(values, hasEntry("a", (Object) 1));
+        assertThat(values, hasEntry("b", (Object) Collections.singletonList("x")));
+    }
+
+    @Test
+    public void shouldWriteValues() throws Exception {
+        JsonCodec codec = new JsonCodec();
+        byte[] bytes = codec.writeValueAsBytes(Collections.singletonMap("key", "value"));
+        assertThat(new String(bytes, StandardCharsets.UTF_8), is("{\"key\":\"value\"}"));
+    }
+}
@@ -11,7 +11,6 @@ import com.auth0.net.multipart.RecordedMultipartRequest;
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import okhttp3.Call;
 import okhttp3.MultipartBody;
 import okhttp3.OkHttpClient;
@@ -85,7 +84,7 @@ public class MultipartRequestTest {
     public void shouldAddMultipleParts() throws Exception {
         String boundary = UUID.randomUUID().toString();
         MultipartBody.Builder bodyBuilder = new MultipartBody.Builder(boundary);
-        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new ObjectMapper(), tokenHolderType, bodyBuilder);
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new JsonCodec(), tokenHolderType, bodyBuilder);
 
         File fileValue = new File(MULTIPART_SAMPLE);
         request.addPart("keyName", "keyValue");
@@ -113,7 +112,7 @@ public class MultipartRequestTest {
     @Test
     public void shouldNotOverrideContentTypeHeader() throws Exception {
         MultipartBody.Builder bodyBuilder = new MultipartBody.Builder("5c49fdf2");
-        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new ObjectMapper(), tokenHolderType, bodyBuilder);
+        MultipartRequest<TokenHolder> request = new MultipartRequest<>(client, server.getBaseUrl(), "POST", new JsonCodec(), tokenHolderType, bodyBuilder);
         request.addPart("non_empty", "body");
         request.addHeader("Content-Type", "plaintext");
 
@@ -0,0 +1,286 @@
+package com.auth0.net;
+
+import com.auth0.exception.Auth0Exception;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.InterruptedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RateLimitGovernorTest {
+
+    private static final long NOW = 1_600_000_000_000L;
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private MockWebServer server;
+    private AtomicLong clock;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        clock = new AtomicLong(NOW);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldThrowOnNegativeMaxWait() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxWaitMillis must be zero or greater.");
+        new RateLimitGovernor(-1);
+    }
+
+    @Test
+    public void shouldResolveEndpointFamily() {
+        assertThat(RateLimitGovernor.endpointFamily(HttpUrl.get("https://tenant.auth0.com/api/v2/users/auth0|123")), is("users"));
+        assertThat(RateLimitGovernor.endpointFamily(HttpUrl.get("https://tenant.auth0.com/api/v2/logs?page=1")), is("logs"));
+        assertThat(RateLimitGovernor.endpointFamily(HttpUrl.get("https://tenant.auth0.com/oauth/token")), is("oauth"));
+        assertThat(RateLimitGovernor.endpointFamily(HttpUrl.get("https://tenant.auth0.com/")), is(""));
+    }
+
+    @Test
+    public void shouldTrackBudgetPerEndpointFamily() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(0, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 40, NOW + 10_000));
+        server.enqueue(rateLimited(50, 7, NOW + 10_000));
+        execute(client, "/api/v2/users/1");
+        execute(client, "/api/v2/logs");
+
+        assertThat(governor.getRemaining("users"), is(40L));
+        assertThat(governor.getRemaining("logs"), is(7L));
+        assertThat(governor.getRemaining("jobs"), is(-1L));
+    }
+
+    @Test
+    public void shouldNotDelayWhileBudgetIsAvailable() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 40, NOW + 60_000));
+        execute(client, "/api/v2/users");
+
+        assertThat(governor.reserve(request("/api/v2/users")), is(0L));
+    }
+
+    @Test
+    public void shouldSpreadRequestsWhenBudgetIsLow() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(60_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(100, 4, NOW + 8_000));
+        execute(client, "/api/v2/users");
+
+        assertThat(governor.reserve(request("/api/v2/users")), is(0L));
+        assertThat(governor.reserve(request("/api/v2/users")), is(2_000L));
+        assertThat(governor.reserve(request("/api/v2/users")), is(4_666L));
+    }
+
+    @Test
+    public void shouldWaitForResetWhenBudgetIsExhausted() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000));
+        execute(client, "/api/v2/users");
+
+        assertThat(governor.reserve(request("/api/v2/users")), is(1_000L));
+    }
+
+    @Test
+    public void shouldSpreadWaitersAfterResetWhenBudgetIsExhausted() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000));
+        execute(client, "/api/v2/users");
+
+        long spacing = RateLimitGovernor.RESET_SPREAD_MILLIS / 50;
+        for (int i = 0; i < 50; i++) {
+            assertThat(governor.reserve(request("/api/v2/users")), is(1_000L + i * spacing));
+        }
+    }
+
+    @Test
+    public void shouldNotWaitLongerThanMaxWait() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(100, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 60_000));
+        execute(client, "/api/v2/users");
+
+        assertThat(governor.reserve(request("/api/v2/users")), is(100L));
+    }
+
+    @Test
+    public void shouldNotDelayAfterWindowHasReset() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 2_000));
+        execute(client, "/api/v2/users");
+        clock.addAndGet(2_000);
+
+        assertThat(governor.reserve(request("/api/v2/users")), is(0L));
+    }
+
+    @Test
+    public void shouldWaitForBudgetOnCallingThreadWhenExecutingSynchronously() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000));
+        server.enqueue(new MockResponse());
+        execute(client, "/api/v2/users");
+
+        long start = System.nanoTime();
+        new VoidRequest(client, server.url("/api/v2/users").toString(), "GET").execute();
+        assertThat((System.nanoTime() - start) / 1_000_000, is(greaterThanOrEqualTo(950L)));
+    }
+
+    @Test
+    public void shouldPaceRetriesWhenExecutingSynchronously() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(1, null, governor))
+            .addInterceptor(governor)
+            .build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000).setResponseCode(429));
+        server.enqueue(new MockResponse());
+
+        long start = System.nanoTime();
+        new VoidRequest(client, server.url("/api/v2/users").toString(), "GET").execute();
+        // far longer than the backoff, as the retry waits for the budget to reset
+        assertThat((System.nanoTime() - start) / 1_000_000, is(greaterThanOrEqualTo(950L)));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldPaceRetriesWhenExecutingAsynchronously() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(1, null, governor))
+            .addInterceptor(governor)
+            .build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000).setResponseCode(429));
+        server.enqueue(new MockResponse());
+
+        long start = System.nanoTime();
+        new VoidRequest(client, server.url("/api/v2/users").toString(), "GET").executeAsync().get(5, TimeUnit.SECONDS);
+        assertThat((System.nanoTime() - start) / 1_000_000, is(greaterThanOrEqualTo(950L)));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldFailFastWhenPacingExceedsTimeoutWhenExecutingSynchronously() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 2_000));
+        execute(client, "/api/v2/users");
+
+        VoidRequest request = new VoidRequest(client, server.url("/api/v2/users").toString(), "GET");
+        request.setTimeout(500, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        Auth0Exception e = null;
+        try {
+            request.execute();
+        } catch (Auth0Exception ex) {
+            e = ex;
+        }
+        assertThat(e, is(notNullValue()));
+        assertThat(e.getCause(), is(instanceOf(InterruptedIOException.class)));
+        assertThat((System.nanoTime() - start) / 1_000_000, is(lessThan(500L)));
+        assertThat(server.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldIncludePacingInTimeoutWhenExecutingSynchronously() throws Exception {
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder().addInterceptor(governor).build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000));
+        server.enqueue(new MockResponse().setHeadersDelay(1_000, TimeUnit.MILLISECONDS));
+        execute(client, "/api/v2/users");
+
+        VoidRequest request = new VoidRequest(client, server.url("/api/v2/users").toString(), "GET");
+        request.setTimeout(1_500, TimeUnit.MILLISECONDS);
+        long start = System.nanoTime();
+        Auth0Exception e = null;
+        try {
+            request.execute();
+        } catch (Auth0Exception ex) {
+            e = ex;
+        }
+        assertThat(e, is(notNullValue()));
+        assertThat(e.getCause(), is(instanceOf(InterruptedIOException.class)));
+        assertThat((System.nanoTime() - start) / 1_000_000, is(lessThan(1_900L)));
+    }
+
+    @Test
+    public void shouldNotHoldDispatcherSlotWhileWaitingForBudgetAsynchronously() throws Exception {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(1);
+        RateLimitGovernor governor = new RateLimitGovernor(5_000, clock::get);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(governor)
+            .dispatcher(dispatcher)
+            .build();
+
+        server.enqueue(rateLimited(50, 0, NOW + 1_000));
+        server.enqueue(new MockResponse());
+        server.enqueue(new MockResponse());
+        execute(client, "/api/v2/users");
+
+        CompletableFuture<Void> paced = new VoidRequest(client, server.url("/api/v2/users").toString(), "GET").executeAsync();
+        CompletableFuture<Void> other = new VoidRequest(client, server.url("/api/v2/logs").toString(), "GET").executeAsync();
+        CompletableFuture.allOf(paced, other).get(5, TimeUnit.SECONDS);
+
+        // the other request is executed while the paced one waits for the budget to reset
+        assertThat(server.takeRequest().getPath(), is("/api/v2/logs"));
+        assertThat(server.takeRequest().getPath(), is("/api/v2/users"));
+    }
+
+    private Request request(String path) {
+        return new Request.Builder().url(server.url(path)).build();
+    }
+
+    private void execute(OkHttpClient client, String path) throws Exception {
+        try (Response ignored = client.newCall(request(path)).execute()) {
+            server.takeRequest();
+        }
+    }
+
+    private static MockResponse rateLimited(long limit, long remaining, long resetAtMillis) {
+        // the reset header is expressed in seconds, so round up to not lose the sub-second part of the window
+        return new MockResponse()
+                .addHeader("X-RateLimit-Limit", limit)
+                .addHeader("X-RateLimit-Remaining", remaining)
+                .addHeader("X-RateLimit-Reset", (resetAtMillis + 999) / 1000);
+    }
+}
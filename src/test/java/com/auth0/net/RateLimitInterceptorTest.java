@@ -1,5 +1,7 @@
 package com.auth0.net;
 
+import com.auth0.exception.RateLimitException;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.Response;
@@ -12,11 +14,16 @@ import org.junit.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 
 public class RateLimitInterceptorTest {
 
@@ -175,4 +182,77 @@ public class RateLimitInterceptorTest {
         assertThat(retryTimings.get(5), greaterThan(retryTimings.get(2)));
     }
 
+    @Test
+    public void shouldRetryRateLimitResponsesAsynchronously() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(3))
+            .build();
+
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        VoidRequest request = new VoidRequest(client, server.url("/").toString(), "GET");
+        request.executeAsync().get(5, TimeUnit.SECONDS);
+
+        server.takeRequest();
+        server.takeRequest();
+        RecordedRequest finalRequest = server.takeRequest();
+        assertThat(finalRequest.getSequenceNumber(), is(2));
+    }
+
+    @Test
+    public void shouldFailAsyncRequestWhenMaxRetriesHit() throws Exception {
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(2))
+            .build();
+
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setResponseCode(429));
+        }
+
+        VoidRequest request = new VoidRequest(client, server.url("/").toString(), "GET");
+        Exception exception = null;
+        try {
+            request.executeAsync().get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+
+        assertThat(exception.getCause(), is(instanceOf(RateLimitException.class)));
+        assertThat(server.getRequestCount(), is(3));
+    }
+
+    @Test
+    public void shouldNotHoldDispatcherSlotWhileBackingOffAsynchronously() throws Exception {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequestsPerHost(1);
+        OkHttpClient client = new OkHttpClient.Builder()
+            .addInterceptor(new RateLimitInterceptor(3))
+            .dispatcher(dispatcher)
+            .build();
+
+        server.enqueue(new MockResponse().setResponseCode(429));
+        server.enqueue(new MockResponse().setResponseCode(200));
+        server.enqueue(new MockResponse().setResponseCode(200));
+
+        CompletableFuture<Void> limited = new VoidRequest(client, server.url("/limited").toString(), "GET").executeAsync();
+        CompletableFuture<Void> other = new VoidRequest(client, server.url("/other").toString(), "GET").executeAsync();
+        CompletableFuture.allOf(limited, other).get(5, TimeUnit.SECONDS);
+
+        // the other request is executed while the rate-limited one waits for its retry
+        assertThat(server.takeRequest().getPath(), is("/limited"));
+        assertThat(server.takeRequest().getPath(), is("/other"));
+        assertThat(server.takeRequest().getPath(), is("/limited"));
+    }
+
+    @Test
+    public void shouldComputeAsyncBackoffDelays() {
+        for (int attempt = 1; attempt <= 10; attempt++) {
+            long expected = Math.min(100L << (attempt - 1), 1000L);
+            long delay = RateLimitInterceptor.backoffDelay(attempt);
+            assertThat((double) delay, closeTo(expected, expected * 0.2 + 1));
+            assertThat(delay, lessThanOrEqualTo(1200L));
+        }
+    }
 }
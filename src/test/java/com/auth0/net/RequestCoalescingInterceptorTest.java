@@ -0,0 +1,290 @@
+package com.auth0.net;
+
+import okhttp3.Call;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.Dispatcher;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okhttp3.mockwebserver.SocketPolicy;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RequestCoalescingInterceptorTest {
+
+    private MockWebServer server;
+    private ExecutorService executor;
+    private RequestCoalescingInterceptor interceptor;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        executor = Executors.newFixedThreadPool(5);
+        interceptor = new RequestCoalescingInterceptor();
+        client = new OkHttpClient.Builder().addInterceptor(interceptor).build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        executor.shutdownNow();
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldShareResponseOfIdenticalConcurrentGetRequests() throws Exception {
+        server.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .addHeader("Content-Type", "application/json")
+                .setBody("{\"id\":\"123\"}")
+                .setHeadersDelay(500, TimeUnit.MILLISECONDS));
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            results.add(executor.submit(get("/api/v2/users/123", "Bearer token")));
+        }
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS), is("200 application/json {\"id\":\"123\"}"));
+        }
+
+        assertThat(server.getRequestCount(), is(1));
+        assertThat(interceptor.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void shouldNotShareResponseOfRequestsWithDifferentCredentials() throws Exception {
+        server.enqueue(new MockResponse().setBody("first").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        server.enqueue(new MockResponse().setBody("second").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+
+        Future<String> first = executor.submit(get("/api/v2/users/123", "Bearer one"));
+        Future<String> second = executor.submit(get("/api/v2/users/123", "Bearer two"));
+        first.get(5, TimeUnit.SECONDS);
+        second.get(5, TimeUnit.SECONDS);
+
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldNotShareResponseOfSequentialRequests() throws Exception {
+        server.enqueue(new MockResponse().setBody("first"));
+        server.enqueue(new MockResponse().setBody("second"));
+
+        assertThat(get("/api/v2/users/123", "Bearer token").call(), endsWith("first"));
+        assertThat(get("/api/v2/users/123", "Bearer token").call(), endsWith("second"));
+        assertThat(server.getRequestCount(), is(2));
+    }
+
+    @Test
+    public void shouldNotCoalesceNonGetRequests() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            server.enqueue(new MockResponse().setBody("ok").setHeadersDelay(300, TimeUnit.MILLISECONDS));
+        }
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            results.add(executor.submit(() -> {
+                @SuppressWarnings("deprecation")
+                Request request = new Request.Builder()
+                        .url(server.url("/api/v2/users"))
+                        .post(RequestBody.create(MediaType.parse("application/json"), "{}"))
+                        .build();
+                try (Response response = client.newCall(request).execute()) {
+                    return response.code();
+                }
+            }));
+        }
+        for (Future<Integer> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS), is(200));
+        }
+
+        assertThat(server.getRequestCount(), is(3));
+    }
+
+    @Test
+    public void shouldFailAllCoalescedRequestsWhenTheRequestFails() throws Exception {
+        client = client.newBuilder().retryOnConnectionFailure(false).build();
+        CountDownLatch release = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                // keep the first request in flight until the others have joined it
+                release.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setSocketPolicy(SocketPolicy.DISCONNECT_AFTER_REQUEST);
+            }
+        });
+
+        List<Future<String>> results = new ArrayList<>();
+        results.add(executor.submit(get("/api/v2/users/123", "Bearer token")));
+        awaitUntil(() -> interceptor.getInFlightCount() == 1);
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(get("/api/v2/users/123", "Bearer token")));
+        }
+        awaitUntil(() -> interceptor.getWaitingCount() == 2);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            Exception exception = null;
+            try {
+                result.get(5, TimeUnit.SECONDS);
+            } catch (ExecutionException e) {
+                exception = e;
+            }
+            assertThat(exception, is(notNullValue()));
+            assertThat(exception.getCause(), is(instanceOf(IOException.class)));
+        }
+        assertThat(server.getRequestCount(), is(1));
+        assertThat(interceptor.getInFlightCount(), is(0));
+    }
+
+    @Test
+    public void shouldSendCoalescedRequestsOnTheirOwnWhenTheRequestIsCancelled() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger received = new AtomicInteger();
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                if (received.incrementAndGet() == 1) {
+                    release.await(5, TimeUnit.SECONDS);
+                }
+                return new MockResponse().setBody("ok");
+            }
+        });
+
+        Call leader = call("/api/v2/users/123", "Bearer token");
+        Future<String> cancelled = executor.submit(() -> execute(leader));
+        awaitUntil(() -> interceptor.getInFlightCount() == 1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            results.add(executor.submit(get("/api/v2/users/123", "Bearer token")));
+        }
+        awaitUntil(() -> interceptor.getWaitingCount() == 2);
+        leader.cancel();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS), endsWith("ok"));
+        }
+        Exception exception = null;
+        try {
+            cancelled.get(5, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(IOException.class)));
+        release.countDown();
+        assertThat(server.getRequestCount(), is(3));
+    }
+
+    @Test
+    public void shouldStopWaitingWhenTheCoalescedRequestIsCancelled() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setBody("ok");
+            }
+        });
+
+        Future<String> leader = executor.submit(get("/api/v2/users/123", "Bearer token"));
+        awaitUntil(() -> interceptor.getInFlightCount() == 1);
+        Call waiter = call("/api/v2/users/123", "Bearer token");
+        Future<String> cancelled = executor.submit(() -> execute(waiter));
+        awaitUntil(() -> interceptor.getWaitingCount() == 1);
+        waiter.cancel();
+
+        Exception exception = null;
+        try {
+            cancelled.get(1, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(IOException.class)));
+        assertThat(interceptor.getWaitingCount(), is(0));
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS), endsWith("ok"));
+        assertThat(server.getRequestCount(), is(1));
+    }
+
+    @Test
+    public void shouldStopWaitingWhenTheCoalescedRequestTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        server.setDispatcher(new Dispatcher() {
+            @Override
+            public MockResponse dispatch(RecordedRequest request) throws InterruptedException {
+                release.await(5, TimeUnit.SECONDS);
+                return new MockResponse().setBody("ok");
+            }
+        });
+
+        Future<String> leader = executor.submit(get("/api/v2/users/123", "Bearer token"));
+        awaitUntil(() -> interceptor.getInFlightCount() == 1);
+        Call waiter = call("/api/v2/users/123", "Bearer token");
+        waiter.timeout().timeout(200, TimeUnit.MILLISECONDS);
+        Future<String> timedOut = executor.submit(() -> execute(waiter));
+
+        Exception exception = null;
+        try {
+            timedOut.get(1, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            exception = e;
+        }
+        assertThat(exception, is(notNullValue()));
+        assertThat(exception.getCause(), is(instanceOf(InterruptedIOException.class)));
+
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS), endsWith("ok"));
+        assertThat(server.getRequestCount(), is(1));
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat("Timed out waiting for the condition", System.nanoTime() < deadline, is(true));
+            Thread.sleep(10);
+        }
+    }
+
+    private Callable<String> get(String path, String authorization) {
+        return () -> execute(call(path, authorization));
+    }
+
+    private Call call(String path, String authorization) {
+        Request request = new Request.Builder()
+                .url(server.url(path))
+                .header("Authorization", authorization)
+                .build();
+        return client.newCall(request);
+    }
+
+    private static String execute(Call call) throws IOException {
+        try (Response response = call.execute()) {
+            return response.code() + " " + response.header("Content-Type") + " " + response.body().string();
+        }
+    }
+}
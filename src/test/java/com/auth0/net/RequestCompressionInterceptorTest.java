@@ -0,0 +1,185 @@
+package com.auth0.net;
+
+import com.auth0.net.metrics.InMemoryMetricsRecorder;
+import okhttp3.MediaType;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+import okhttp3.Response;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import okhttp3.mockwebserver.RecordedRequest;
+import okio.Buffer;
+import okio.GzipSource;
+import okio.Okio;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RequestCompressionInterceptorTest {
+
+    private static final MediaType JSON = MediaType.parse("application/json");
+    private static final String ENDPOINT = "PATCH /api/v2/users/{id}";
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private MockWebServer server;
+    private InMemoryMetricsRecorder recorder;
+    private OkHttpClient client;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockWebServer();
+        server.start();
+        recorder = new InMemoryMetricsRecorder();
+        client = new OkHttpClient.Builder()
+                .addInterceptor(new RequestCompressionInterceptor(1024, recorder))
+                .build();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.shutdown();
+    }
+
+    @Test
+    public void shouldThrowOnNegativeThreshold() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("threshold must be zero or greater.");
+        new RequestCompressionInterceptor(-1, null);
+    }
+
+    @Test
+    public void shouldCompressLargeJsonBodies() throws Exception {
+        String json = largeJson();
+        server.enqueue(new MockResponse());
+        execute(json, JSON);
+
+        RecordedRequest recorded = server.takeRequest();
+        assertThat(recorded.getHeader("Content-Encoding"), is("gzip"));
+        assertThat(recorded.getBodySize(), is(lessThan((long) json.length())));
+        assertThat(gunzip(recorded.getBody()), is(json));
+
+        assertThat(recorder.getUncompressedBytes(ENDPOINT), is((long) json.length()));
+        assertThat(recorder.getCompressedBytes(ENDPOINT), is(recorded.getBodySize()));
+    }
+
+    @Test
+    public void shouldNotCompressSmallBodies() throws Exception {
+        server.enqueue(new MockResponse());
+        execute("{\"name\":\"john\"}", JSON);
+
+        RecordedRequest recorded = server.takeRequest();
+        assertThat(recorded.getHeader("Content-Encoding"), is(nullValue()));
+        assertThat(recorded.getBody().readUtf8(), is("{\"name\":\"john\"}"));
+        assertThat(recorder.getEndpoints(), is(empty()));
+    }
+
+    @Test
+    public void shouldNotCompressOtherContentTypes() throws Exception {
+        server.enqueue(new MockResponse());
+        execute(largeJson(), MediaType.parse("text/plain"));
+
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldNotCompressBodiesThatDoNotShrink() throws Exception {
+        byte[] random = new byte[4096];
+        new Random(42).nextBytes(random);
+        server.enqueue(new MockResponse());
+        @SuppressWarnings("deprecation")
+        RequestBody body = RequestBody.create(JSON, random);
+        execute(body);
+
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldFallBackToUncompressedBodiesWhenUnsupported() throws Exception {
+        String json = largeJson();
+        server.enqueue(new MockResponse().setResponseCode(415));
+        server.enqueue(new MockResponse());
+        server.enqueue(new MockResponse());
+
+        assertThat(execute(json, JSON), is(200));
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is("gzip"));
+        RecordedRequest retried = server.takeRequest();
+        assertThat(retried.getHeader("Content-Encoding"), is(nullValue()));
+        assertThat(retried.getBody().readUtf8(), is(json));
+
+        // no longer compressed for the endpoint
+        execute(json, JSON);
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+        assertThat(recorder.getUncompressedBytes(ENDPOINT), is(0L));
+    }
+
+    @Test
+    public void shouldFallBackToUncompressedBodiesWhenRejectedAsBadRequest() throws Exception {
+        String json = largeJson();
+        server.enqueue(new MockResponse().setResponseCode(400));
+        server.enqueue(new MockResponse());
+        server.enqueue(new MockResponse());
+
+        assertThat(execute(json, JSON), is(200));
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is("gzip"));
+        RecordedRequest retried = server.takeRequest();
+        assertThat(retried.getHeader("Content-Encoding"), is(nullValue()));
+        assertThat(retried.getBody().readUtf8(), is(json));
+
+        // no longer compressed for the endpoint
+        execute(json, JSON);
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+    }
+
+    @Test
+    public void shouldKeepCompressingWhenUncompressedBodyIsAlsoRejectedAsBadRequest() throws Exception {
+        String json = largeJson();
+        server.enqueue(new MockResponse().setResponseCode(400));
+        server.enqueue(new MockResponse().setResponseCode(400));
+        server.enqueue(new MockResponse());
+
+        assertThat(execute(json, JSON), is(400));
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is("gzip"));
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is(nullValue()));
+
+        // the request itself was invalid, so the endpoint is still compressed
+        execute(json, JSON);
+        assertThat(server.takeRequest().getHeader("Content-Encoding"), is("gzip"));
+    }
+
+    private int execute(String body, MediaType contentType) throws IOException {
+        @SuppressWarnings("deprecation")
+        RequestBody requestBody = RequestBody.create(contentType, body);
+        return execute(requestBody);
+    }
+
+    private int execute(RequestBody body) throws IOException {
+        Request request = new Request.Builder()
+                .url(server.url("/api/v2/users/auth0|123"))
+                .patch(body)
+                .build();
+        try (Response response = client.newCall(request).execute()) {
+            return response.code();
+        }
+    }
+
+    private static String largeJson() {
+        return "{\"app_metadata\":{\"roles\":[" + String.join(",", Collections.nCopies(200, "\"admin\"")) + "]}}";
+    }
+
+    private static String gunzip(Buffer body) throws IOException {
+        return Okio.buffer(new GzipSource(body)).readUtf8();
+    }
+}
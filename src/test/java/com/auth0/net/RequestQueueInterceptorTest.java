@@ -0,0 +1,208 @@
+package com.auth0.net;
+
+import com.auth0.client.MockServer;
+import com.auth0.client.QueueOverflowPolicy;
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.TokenHolder;
+import com.auth0.net.metrics.InMemoryMetricsRecorder;
+import com.fasterxml.jackson.core.type.TypeReference;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.auth0.client.MockServer.*;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class RequestQueueInterceptorTest {
+
+    private MockServer server;
+    private InMemoryMetricsRecorder recorder;
+    private TypeReference<TokenHolder> tokenHolderType;
+
+    @SuppressWarnings("deprecation")
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockServer();
+        recorder = new InMemoryMetricsRecorder();
+        tokenHolderType = new TypeReference<TokenHolder>() {
+        };
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void shouldThrowOnNegativeMaxQueuedRequests() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxQueuedRequests must be zero or greater.");
+        new RequestQueueInterceptor(-1, QueueOverflowPolicy.REJECT, null);
+    }
+
+    @Test
+    public void shouldNotBoundQueueWhenMaxIsZero() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(0, QueueOverflowPolicy.REJECT, null);
+        for (int i = 0; i < 10; i++) {
+            assertThat(queue.enter(), is(notNullValue()));
+        }
+        assertThat(queue.getQueuedRequests(), is(0));
+    }
+
+    @Test
+    public void shouldRejectRequestsWhenQueueIsFull() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.REJECT, recorder);
+        OkHttpClient client = singleSlotClient(queue);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 500, TimeUnit.MILLISECONDS);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        CompletableFuture<TokenHolder> running = newRequest(client).executeAsync();
+        awaitQueued(queue, 0);
+        CompletableFuture<TokenHolder> queued = newRequest(client).executeAsync();
+        assertThat(queue.getQueuedRequests(), is(1));
+        CompletableFuture<TokenHolder> rejected = newRequest(client).executeAsync();
+
+        assertThat(rejected.isCompletedExceptionally(), is(true));
+        try {
+            rejected.get();
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(instanceOf(Auth0Exception.class)));
+            assertThat(e.getCause().getMessage(), is("Failed to execute request"));
+            assertThat(e.getCause().getCause(), is(instanceOf(RejectedExecutionException.class)));
+        }
+
+        assertThat(running.get(), is(notNullValue()));
+        assertThat(queued.get(), is(notNullValue()));
+        assertThat(queue.getQueuedRequests(), is(0));
+        assertThat(recorder.getQueueWait("GET /oauth/token").getCount(), is(2L));
+        assertThat(recorder.getQueueWait("GET /oauth/token").getMax(), is(greaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(400))));
+    }
+
+    @Test
+    public void shouldRunRequestsOnCallerWhenQueueIsFull() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.CALLER_RUNS, null);
+        OkHttpClient client = singleSlotClient(queue);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 500, TimeUnit.MILLISECONDS);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 500, TimeUnit.MILLISECONDS);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        CompletableFuture<TokenHolder> running = newRequest(client).executeAsync();
+        awaitQueued(queue, 0);
+        CompletableFuture<TokenHolder> queued = newRequest(client).executeAsync();
+        CompletableFuture<TokenHolder> callerRun = newRequest(client).executeAsync();
+
+        assertThat(callerRun.isDone(), is(true));
+        assertThat(callerRun.get(), is(notNullValue()));
+        assertThat(running.get(), is(notNullValue()));
+        assertThat(queued.get(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldBlockCallerUntilQueueHasRoom() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.BLOCK, null);
+        OkHttpClient client = singleSlotClient(queue);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 500, TimeUnit.MILLISECONDS);
+        server.jsonResponse(AUTH_TOKENS, 200);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        CompletableFuture<TokenHolder> running = newRequest(client).executeAsync();
+        awaitQueued(queue, 0);
+        CompletableFuture<TokenHolder> queued = newRequest(client).executeAsync();
+
+        AtomicReference<CompletableFuture<TokenHolder>> blocked = new AtomicReference<>();
+        Thread caller = new Thread(() -> blocked.set(newRequest(client).executeAsync()));
+        caller.start();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (caller.getState() != Thread.State.WAITING && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(caller.getState(), is(Thread.State.WAITING));
+        assertThat(running.isDone(), is(false));
+
+        caller.join(5000);
+        assertThat(running.isDone(), is(true));
+        assertThat(blocked.get().get(), is(notNullValue()));
+        assertThat(queued.get(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldFailBlockedCallerWhenInterrupted() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.BLOCK, null);
+        queue.enter();
+        OkHttpClient client = singleSlotClient(queue);
+
+        Thread.currentThread().interrupt();
+        CompletableFuture<TokenHolder> future = newRequest(client).executeAsync();
+
+        assertThat(Thread.interrupted(), is(true));
+        assertThat(future.isCompletedExceptionally(), is(true));
+    }
+
+    @Test
+    public void shouldFreeQueueSlotWhenQueuedRequestIsCancelled() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.REJECT, null);
+        OkHttpClient client = singleSlotClient(queue);
+        server.delayedJsonResponse(AUTH_TOKENS, 200, 500, TimeUnit.MILLISECONDS);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        CompletableFuture<TokenHolder> running = newRequest(client).executeAsync();
+        awaitQueued(queue, 0);
+        CompletableFuture<TokenHolder> queued = newRequest(client).executeAsync();
+        assertThat(queue.getQueuedRequests(), is(1));
+
+        queued.cancel(true);
+
+        assertThat(queue.getQueuedRequests(), is(0));
+        CompletableFuture<TokenHolder> next = newRequest(client).executeAsync();
+        assertThat(next.isCompletedExceptionally(), is(false));
+        assertThat(running.get(), is(notNullValue()));
+        assertThat(next.get(), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldNotQueueSyncRequests() throws Exception {
+        RequestQueueInterceptor queue = new RequestQueueInterceptor(1, QueueOverflowPolicy.REJECT, recorder);
+        queue.enter();
+        OkHttpClient client = singleSlotClient(queue);
+        server.jsonResponse(AUTH_TOKENS, 200);
+
+        assertThat(newRequest(client).execute(), is(notNullValue()));
+        assertThat(queue.getQueuedRequests(), is(1));
+        assertThat(recorder.getQueueWait("GET /oauth/token"), is(nullValue()));
+    }
+
+    private OkHttpClient singleSlotClient(RequestQueueInterceptor queue) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(1);
+        return new OkHttpClient.Builder()
+                .dispatcher(dispatcher)
+                .addInterceptor(queue)
+                .build();
+    }
+
+    private CustomRequest<TokenHolder> newRequest(OkHttpClient client) {
+        return new CustomRequest<>(client, server.getBaseUrl() + "oauth/token", "GET", tokenHolderType);
+    }
+
+    private static void awaitQueued(RequestQueueInterceptor queue, int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.getQueuedRequests() != count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(queue.getQueuedRequests(), is(count));
+    }
+}
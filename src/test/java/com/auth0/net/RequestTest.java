@@ -2,6 +2,9 @@ package com.auth0.net;
 
 import com.auth0.exception.Auth0Exception;
 import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.Assert.assertThrows;
 
 public class RequestTest {
@@ -17,4 +20,16 @@ public class RequestTest {
                 }
             }::executeAsync);
     }
+
+    @Test
+    public void defaultSetTimeoutImplementationShouldThrow() {
+        assertThrows("setTimeout",
+            UnsupportedOperationException.class,
+            () -> new Request<String>() {
+                @Override
+                public String execute() throws Auth0Exception {
+                    return null;
+                }
+            }.setTimeout(1, TimeUnit.SECONDS));
+    }
 }
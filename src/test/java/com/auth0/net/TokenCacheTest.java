@@ -0,0 +1,263 @@
+package com.auth0.net;
+
+import com.auth0.exception.Auth0Exception;
+import com.auth0.json.auth.TokenHolder;
+import com.auth0.net.metrics.InMemoryMetricsRecorder;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.*;
+
+public class TokenCacheTest {
+
+    private static final String AUDIENCE = "https://api.example.com/";
+
+    private AtomicLong now;
+    private AtomicInteger issued;
+    private InMemoryMetricsRecorder metrics;
+    private TokenCache cache;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong(1_000_000L);
+        issued = new AtomicInteger();
+        metrics = new InMemoryMetricsRecorder();
+        cache = new TokenCache(metrics, now::get);
+    }
+
+    private TokenHolder token(long expiresIn) {
+        return new TokenHolder("token-" + issued.incrementAndGet(), null, null, "Bearer", expiresIn, null, null);
+    }
+
+    private TokenRequest request(String key) throws Exception {
+        TokenRequest request = mock(TokenRequest.class);
+        doReturn(key).when(request).getCacheKey();
+        doReturn(AUDIENCE).when(request).getAudience();
+        doAnswer(invocation -> token(3600)).when(request).executeUncached();
+        doAnswer(invocation -> CompletableFuture.completedFuture(token(3600))).when(request).executeAsyncUncached();
+        return request;
+    }
+
+    @Test
+    public void shouldReturnCachedTokenUntilItIsAboutToExpire() throws Exception {
+        TokenRequest request = request("key");
+
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600) - TokenCache.REFRESH_MARGIN - 1);
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request("key")).getAccessToken(), is("token-1"));
+
+        verify(request, times(1)).executeUncached();
+        verify(request, never()).executeAsyncUncached();
+        assertThat(cache.size(), is(1));
+    }
+
+    @Test
+    public void shouldComputeKeyOncePerLookup() throws Exception {
+        TokenRequest request = request("key");
+
+        cache.get(request);
+        verify(request, times(1)).getCacheKey();
+        cache.getAsync(request).get();
+        verify(request, times(2)).getCacheKey();
+    }
+
+    @Test
+    public void shouldCacheTokensByKey() throws Exception {
+        assertThat(cache.get(request("read")).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request("write")).getAccessToken(), is("token-2"));
+        assertThat(cache.get(request("read")).getAccessToken(), is("token-1"));
+        assertThat(cache.size(), is(2));
+    }
+
+    @Test
+    public void shouldRequestNewTokenOnceInvalidated() throws Exception {
+        assertThat(cache.get(request("read")).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request("write")).getAccessToken(), is("token-2"));
+
+        cache.invalidate("token-1");
+        cache.invalidate("unknown");
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get(request("read")).getAccessToken(), is("token-3"));
+        assertThat(cache.get(request("write")).getAccessToken(), is("token-2"));
+    }
+
+    @Test
+    public void shouldRenewTokenInTheBackgroundBeforeItExpires() throws Exception {
+        TokenRequest request = request("key");
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+
+        CompletableFuture<TokenHolder> renewal = new CompletableFuture<>();
+        doReturn(renewal).when(request).executeAsyncUncached();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600) - TokenCache.REFRESH_MARGIN);
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        verify(request, times(1)).executeAsyncUncached();
+
+        renewal.complete(token(3600));
+        assertThat(cache.get(request).getAccessToken(), is("token-2"));
+        verify(request, times(1)).executeUncached();
+    }
+
+    @Test
+    public void shouldKeepCachedTokenWhenRenewalFails() throws Exception {
+        TokenRequest request = request("key");
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+
+        CompletableFuture<TokenHolder> renewal = new CompletableFuture<>();
+        renewal.completeExceptionally(new Auth0Exception("Failed to execute request"));
+        doReturn(renewal).when(request).executeAsyncUncached();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3590));
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        verify(request, times(2)).executeAsyncUncached();
+    }
+
+    @Test
+    public void shouldRequestNewTokenOnceExpired() throws Exception {
+        TokenRequest request = request("key");
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(3600));
+        assertThat(cache.get(request).getAccessToken(), is("token-2"));
+        verify(request, times(2)).executeUncached();
+    }
+
+    @Test
+    public void shouldRenewShortLivedTokensHalfwayThroughTheirLifetime() throws Exception {
+        TokenRequest request = request("key");
+        doAnswer(invocation -> token(60)).when(request).executeUncached();
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+
+        now.addAndGet(TimeUnit.SECONDS.toMillis(29));
+        cache.get(request);
+        verify(request, never()).executeAsyncUncached();
+        now.addAndGet(TimeUnit.SECONDS.toMillis(1));
+        cache.get(request);
+        verify(request, times(1)).executeAsyncUncached();
+    }
+
+    @Test
+    public void shouldNotCacheTokensWithoutExpiration() throws Exception {
+        TokenRequest request = request("key");
+        doAnswer(invocation -> token(0)).when(request).executeUncached();
+
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+        assertThat(cache.get(request).getAccessToken(), is("token-2"));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldNotCacheFailures() throws Exception {
+        TokenRequest request = request("key");
+        Auth0Exception failure = new Auth0Exception("Failed to execute request");
+        doThrow(failure).doAnswer(invocation -> token(3600)).when(request).executeUncached();
+
+        try {
+            cache.get(request);
+            fail("Expected the request to fail");
+        } catch (Auth0Exception e) {
+            assertThat(e, is(sameInstance(failure)));
+        }
+        assertThat(cache.get(request).getAccessToken(), is("token-1"));
+    }
+
+    @Test
+    public void shouldRequestTokenOnceForConcurrentCallers() throws Exception {
+        TokenRequest request = request("key");
+        CountDownLatch requested = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requested.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return token(3600);
+        }).when(request).executeUncached();
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<TokenHolder>> tokens = new ArrayList<>();
+            for (int i = 0; i < 50; i++) {
+                tokens.add(executor.submit(() -> cache.get(request)));
+            }
+            assertThat(requested.await(5, TimeUnit.SECONDS), is(true));
+            CompletableFuture<TokenHolder> async = cache.getAsync(request);
+            release.countDown();
+            for (Future<TokenHolder> token : tokens) {
+                assertThat(token.get(5, TimeUnit.SECONDS).getAccessToken(), is("token-1"));
+            }
+            assertThat(async.get(5, TimeUnit.SECONDS).getAccessToken(), is("token-1"));
+        } finally {
+            executor.shutdownNow();
+        }
+        verify(request, times(1)).executeUncached();
+        verify(request, never()).executeAsyncUncached();
+    }
+
+    @Test
+    public void shouldReturnCachedTokenAsynchronously() throws Exception {
+        TokenRequest request = request("key");
+
+        assertThat(cache.getAsync(request).get().getAccessToken(), is("token-1"));
+        assertThat(cache.getAsync(request).get().getAccessToken(), is("token-1"));
+        verify(request, times(1)).executeAsyncUncached();
+    }
+
+    @Test
+    public void shouldNotFailOtherCallersWhenOneCancels() throws Exception {
+        TokenRequest request = request("key");
+        CompletableFuture<TokenHolder> response = new CompletableFuture<>();
+        doReturn(response).when(request).executeAsyncUncached();
+
+        CompletableFuture<TokenHolder> cancelled = cache.getAsync(request);
+        CompletableFuture<TokenHolder> other = cache.getAsync(request);
+        cancelled.cancel(true);
+        response.complete(token(3600));
+
+        assertThat(other.get(5, TimeUnit.SECONDS).getAccessToken(), is("token-1"));
+        verify(request, times(1)).executeAsyncUncached();
+    }
+
+    @Test
+    public void shouldFailAsynchronouslyWithTheRequestFailure() throws Exception {
+        TokenRequest request = request("key");
+        Auth0Exception failure = new Auth0Exception("Failed to execute request");
+        CompletableFuture<TokenHolder> response = new CompletableFuture<>();
+        response.completeExceptionally(failure);
+        doReturn(response).when(request).executeAsyncUncached();
+
+        try {
+            cache.getAsync(request).get();
+            fail("Expected the request to fail");
+        } catch (ExecutionException e) {
+            assertThat(e.getCause(), is(sameInstance(failure)));
+        }
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldRecordHitsAndMisses() throws Exception {
+        TokenRequest request = request("key");
+        cache.get(request);
+        cache.get(request);
+        cache.get(request);
+
+        assertThat(metrics.getTokenCacheMisses(AUDIENCE), is(1L));
+        assertThat(metrics.getTokenCacheHits(AUDIENCE), is(2L));
+        assertThat(metrics.getTokenCacheHits("https://other.example.com/"), is(0L));
+    }
+}
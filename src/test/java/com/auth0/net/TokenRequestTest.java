@@ -83,4 +83,66 @@ public class TokenRequestTest {
         assertThat(values, hasEntry("realm", "dbconnection"));
     }
 
+    @Test
+    public void shouldKeyCacheByParametersAndHashedClientSecret() {
+        TokenRequest request = new TokenRequest(client, server.getBaseUrl());
+        request.addParameter("client_secret", "secret");
+        request.setAudience("https://myapi.auth0.com/users");
+        request.setScope("read:users");
+
+        TokenRequest other = new TokenRequest(client, server.getBaseUrl());
+        other.setScope("read:users");
+        other.setAudience("https://myapi.auth0.com/users");
+        other.addParameter("client_secret", "secret");
+
+        assertThat(request.getCacheKey(), is(other.getCacheKey()));
+        assertThat(request.getCacheKey(), not(containsString(":secret")));
+
+        other.addParameter("client_secret", "rotated secret");
+        assertThat(request.getCacheKey(), is(not(other.getCacheKey())));
+
+        other.addParameter("client_secret", "secret");
+        other.addParameter("organization", "org_123");
+        assertThat(request.getCacheKey(), is(not(other.getCacheKey())));
+    }
+
+    @Test
+    public void shouldComputeCacheKeyOnceUntilParametersChange() {
+        TokenRequest request = new TokenRequest(client, server.getBaseUrl());
+        request.addParameter("client_secret", "secret");
+        request.setAudience("https://myapi.auth0.com/users");
+
+        String key = request.getCacheKey();
+        assertThat(request.getCacheKey(), is(sameInstance(key)));
+
+        request.setScope("read:users");
+        assertThat(request.getCacheKey(), is(not(key)));
+    }
+
+    @Test
+    public void shouldNotMistakeParameterValuesForOtherParameters() {
+        TokenRequest request = new TokenRequest(client, server.getBaseUrl());
+        request.setAudience("api");
+        request.setScope("read");
+
+        TokenRequest other = new TokenRequest(client, server.getBaseUrl());
+        other.setAudience("api5:scope4:read");
+
+        assertThat(request.getCacheKey(), is(not(other.getCacheKey())));
+    }
+
+    @Test
+    public void shouldReturnCachedToken() throws Exception {
+        TokenCache cache = new TokenCache(null);
+        TokenRequest request = new TokenRequest(client, server.getBaseUrl(), JsonCodec.getDefault(), cache);
+        request.setAudience("https://myapi.auth0.com/users");
+
+        server.jsonResponse(AUTH_TOKENS, 200);
+        TokenHolder response = request.execute();
+        server.takeRequest();
+
+        assertThat(request.execute(), is(sameInstance(response)));
+        assertThat(request.executeAsync().get(), is(sameInstance(response)));
+        assertThat(cache.size(), is(1));
+    }
 }
@@ -0,0 +1,55 @@
+package com.auth0.net.metrics;
+
+import okhttp3.HttpUrl;
+import okhttp3.Request;
+import org.junit.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+public class EndpointTemplateTest {
+
+    @Test
+    public void shouldReplaceIdentifiers() {
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/users/auth0%7C5f8a1b2c3d4e5f6a7b8c9d0e"), is("GET /api/v2/users/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/users/google-oauth2%7C1234/roles?page=1"), is("GET /api/v2/users/{id}/roles"));
+        assertThat(template("DELETE", "https://domain.auth0.com/api/v2/roles/rol_abc123/users"), is("DELETE /api/v2/roles/{id}/users"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/clients/KmfzcL2rVbBdRzpQXgLmuMUtRcNnYpxE"), is("GET /api/v2/clients/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/user-blocks?identifier=john%40example.com"), is("GET /api/v2/user-blocks"));
+        assertThat(template("DELETE", "https://domain.auth0.com/api/v2/users/auth0%7C123/identities/google-oauth2/1234"), is("DELETE /api/v2/users/{id}/identities/{id}/{id}"));
+    }
+
+    @Test
+    public void shouldReplaceNamesInParameterPositions() {
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/organizations/name/acme"), is("GET /api/v2/organizations/name/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/organizations/name/other-corp"), is("GET /api/v2/organizations/name/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/organizations/org_abc/members/auth0%7C1/roles"), is("GET /api/v2/organizations/{id}/members/{id}/roles"));
+        assertThat(template("PATCH", "https://domain.auth0.com/api/v2/connections/con_abcdefghijklmnop"), is("PATCH /api/v2/connections/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/roles/admins/users"), is("GET /api/v2/roles/{id}/users"));
+        assertThat(template("PUT", "https://domain.auth0.com/api/v2/rules-configs/apiKey"), is("PUT /api/v2/rules-configs/{id}"));
+        assertThat(template("DELETE", "https://domain.auth0.com/api/v2/users/auth0%7C123/identities/github/octocat"), is("DELETE /api/v2/users/{id}/identities/{id}/{id}"));
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/users"), is("GET /api/v2/users"));
+    }
+
+    @Test
+    public void shouldKeepResourceNames() {
+        assertThat(template("GET", "https://domain.auth0.com/api/v2/attack-protection/brute-force-protection"), is("GET /api/v2/attack-protection/brute-force-protection"));
+        assertThat(template("PUT", "https://domain.auth0.com/api/v2/branding/templates/universal-login"), is("PUT /api/v2/branding/templates/universal-login"));
+        assertThat(template("POST", "https://domain.auth0.com/oauth/token"), is("POST /oauth/token"));
+    }
+
+    @Test
+    public void shouldHandleRootPath() {
+        assertThat(template("HEAD", "https://domain.auth0.com/"), is("HEAD /"));
+    }
+
+    @Test
+    public void shouldUseRequestMethodAndUrl() {
+        Request request = new Request.Builder().url("https://domain.auth0.com/api/v2/users/auth0%7C1").build();
+        assertThat(EndpointTemplate.of(request), is("GET /api/v2/users/{id}"));
+    }
+
+    private static String template(String method, String url) {
+        return EndpointTemplate.of(method, HttpUrl.get(url));
+    }
+}
@@ -0,0 +1,94 @@
+package com.auth0.net.metrics;
+
+import org.junit.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void shouldBeEmptyInitially() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThat(histogram.getCount(), is(0L));
+        assertThat(histogram.getMax(), is(0L));
+        assertThat(histogram.getMean(), is(0D));
+        assertThat(histogram.getValueAtPercentile(99), is(0L));
+    }
+
+    @Test
+    public void shouldMapEveryValueToTheBucketContainingIt() {
+        for (long value = 0; value < 100_000; value++) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(bucket), is(greaterThanOrEqualTo(value)));
+            if (bucket > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(bucket - 1), is(lessThan(value)));
+            }
+        }
+        assertThat(LatencyHistogram.bucketOf(Long.MAX_VALUE), is(lessThan((64 - LatencyHistogram.SUB_BUCKET_BITS) * LatencyHistogram.SUB_BUCKETS)));
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(Long.MAX_VALUE)), is(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void shouldReportPercentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value = 1; value <= 10_000; value++) {
+            histogram.record(TimeUnit.MICROSECONDS.toNanos(value));
+        }
+
+        assertThat(histogram.getCount(), is(10_000L));
+        assertThat(histogram.getMax(), is(TimeUnit.MICROSECONDS.toNanos(10_000)));
+        assertThat(histogram.getMean(), is(closeTo(TimeUnit.MICROSECONDS.toNanos(5_000) + 500, 1)));
+        assertWithinError(histogram.getValueAtPercentile(50), TimeUnit.MICROSECONDS.toNanos(5_000));
+        assertWithinError(histogram.getValueAtPercentile(99), TimeUnit.MICROSECONDS.toNanos(9_900));
+        assertThat(histogram.getValueAtPercentile(100), is(histogram.getMax()));
+    }
+
+    @Test
+    public void shouldRecordNegativeValuesAsZero() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertThat(histogram.getCount(), is(1L));
+        assertThat(histogram.getValueAtPercentile(100), is(0L));
+    }
+
+    @Test
+    public void shouldThrowOnInvalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        IllegalArgumentException e = null;
+        try {
+            histogram.getValueAtPercentile(101);
+        } catch (IllegalArgumentException ex) {
+            e = ex;
+        }
+        assertThat(e, is(notNullValue()));
+        assertThat(e.getMessage(), is("percentile must be between 0 and 100."));
+    }
+
+    @Test
+    public void shouldRecordConcurrently() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int t = 0; t < 8; t++) {
+            executor.execute(() -> {
+                for (int i = 1; i <= 10_000; i++) {
+                    histogram.record(i);
+                }
+            });
+        }
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS), is(true));
+
+        assertThat(histogram.getCount(), is(80_000L));
+        assertThat(histogram.getMax(), is(10_000L));
+        assertWithinError(histogram.getValueAtPercentile(50), 5_000);
+    }
+
+    private static void assertWithinError(long actual, long expected) {
+        assertThat((double) actual, is(closeTo(expected, expected * 0.125)));
+    }
+}
@@ -0,0 +1,125 @@
+package com.auth0.net.metrics;
+
+import com.auth0.client.HttpOptions;
+import com.auth0.client.MockServer;
+import com.auth0.client.mgmt.ManagementAPI;
+import com.auth0.json.mgmt.users.User;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.auth0.client.MockServer.MGMT_USER;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+public class MetricsInterceptorTest {
+
+    private static final String ENDPOINT = "GET /api/v2/users/{id}";
+
+    private MockServer server;
+    private InMemoryMetricsRecorder recorder;
+    private ManagementAPI api;
+
+    @Before
+    public void setUp() throws Exception {
+        server = new MockServer();
+        recorder = new InMemoryMetricsRecorder();
+        HttpOptions options = new HttpOptions();
+        options.setMetricsRecorder(recorder);
+        api = new ManagementAPI(server.getBaseUrl(), "apiToken", options);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.stop();
+    }
+
+    @Test
+    public void shouldRecordRequestMetrics() throws Exception {
+        server.jsonResponse(MGMT_USER, 200);
+        User user = api.users().get("auth0|1", null).execute();
+        assertThat(user, is(notNullValue()));
+
+        assertThat(recorder.getEndpoints(), contains(ENDPOINT));
+        assertThat(recorder.getLatency(ENDPOINT).getCount(), is(1L));
+        assertThat(recorder.getLatency(ENDPOINT).getMax(), is(greaterThan(0L)));
+        assertThat(recorder.getStatusCount(ENDPOINT, 200), is(1L));
+        assertThat(recorder.getRetryCount(ENDPOINT), is(0L));
+        assertThat(recorder.getBytesSent(ENDPOINT), is(0L));
+        assertThat(recorder.getBytesReceived(ENDPOINT), is(greaterThan(0L)));
+        assertThat(recorder.getRunningCalls(), is(0));
+        assertThat(recorder.getQueuedCalls(), is(0));
+    }
+
+    @Test
+    public void shouldRecordRequestBodyBytes() throws Exception {
+        server.jsonResponse(MGMT_USER, 200);
+        User user = new User("auth0");
+        user.setEmail("me@example.com");
+        api.users().create(user).execute();
+
+        assertThat(recorder.getBytesSent("POST /api/v2/users"), is(greaterThan(0L)));
+        assertThat(recorder.getStatusCount("POST /api/v2/users", 200), is(1L));
+    }
+
+    @Test
+    public void shouldRecordSynchronousRetries() throws Exception {
+        server.rateLimitReachedResponse(10, 0, -1);
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("auth0|1", null).execute();
+
+        assertThat(recorder.getRetryCount(ENDPOINT), is(1L));
+        assertThat(recorder.getLatency(ENDPOINT).getCount(), is(1L));
+        assertThat(recorder.getStatusCount(ENDPOINT, 200), is(1L));
+    }
+
+    @Test
+    public void shouldRecordAsynchronousRetries() throws Exception {
+        server.rateLimitReachedResponse(10, 0, -1);
+        server.jsonResponse(MGMT_USER, 200);
+        api.users().get("auth0|1", null).executeAsync().get();
+
+        assertThat(recorder.getRetryCount(ENDPOINT), is(1L));
+        assertThat(recorder.getStatusCount(ENDPOINT, 429), is(1L));
+        assertThat(recorder.getStatusCount(ENDPOINT, 200), is(1L));
+    }
+
+    @Test
+    public void shouldRecordQueuedCalls() throws Exception {
+        HttpOptions options = new HttpOptions();
+        options.setMaxRequests(1);
+        options.setMetricsRecorder(recorder);
+        ManagementAPI api = new ManagementAPI(server.getBaseUrl(), "apiToken", options);
+        for (int i = 0; i < 3; i++) {
+            server.jsonResponse(MGMT_USER, 200);
+        }
+
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[3];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = api.users().get("auth0|1", null).executeAsync();
+        }
+        CompletableFuture.allOf(futures).get();
+
+        assertThat(recorder.getMaxQueuedCalls(), is(greaterThan(0)));
+        assertThat(recorder.getStatusCount(ENDPOINT, 200), is(3L));
+    }
+
+    @Test
+    public void shouldRecordFailures() throws Exception {
+        server.stop();
+        Exception exception = null;
+        try {
+            api.users().get("auth0|1", null).execute();
+        } catch (Exception e) {
+            exception = e;
+        }
+
+        assertThat(exception, is(notNullValue()));
+        assertThat(recorder.getStatusCount(ENDPOINT, 0), is(1L));
+        assertThat(recorder.getLatency(ENDPOINT).getCount(), is(1L));
+        // restart so that tearDown can stop it
+        server = new MockServer();
+    }
+}
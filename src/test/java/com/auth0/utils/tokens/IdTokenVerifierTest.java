@@ -9,9 +9,20 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 import static org.mockito.Mockito.*;
 
 public class IdTokenVerifierTest {
@@ -549,6 +560,293 @@ public class IdTokenVerifierTest {
             .verify(jwt);
     }
 
+    @Test
+    public void failsToEnableVerificationCacheWithInvalidSize() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("maxSize must be one or greater.");
+        IdTokenVerifier.init("issuer", "audience", signatureVerifier).withVerificationCache(0);
+    }
+
+    @Test
+    public void verifiesSignatureOnEveryCallByDefault() {
+        String token = createToken("org_123");
+        SignatureVerifier verifier = mockVerifier(token);
+
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier).build();
+        idTokenVerifier.verify(token);
+        idTokenVerifier.verify(token);
+
+        verify(verifier, times(2)).verifySignature(token);
+    }
+
+    @Test
+    public void skipsSignatureVerificationOfCachedToken() {
+        String token = createToken("org_123");
+        SignatureVerifier verifier = mockVerifier(token);
+
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withVerificationCache(10)
+                .build();
+        idTokenVerifier.verify(token, "nonce");
+        idTokenVerifier.verify(token, "nonce");
+        idTokenVerifier.verify(token);
+
+        verify(verifier, times(1)).verifySignature(token);
+    }
+
+    @Test
+    public void verifiesNonceOfCachedToken() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Nonce (nonce) claim mismatch in the ID token; expected \"other\", found \"nonce\"");
+
+        String token = createToken("org_123");
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, mockVerifier(token))
+                .withVerificationCache(10)
+                .build();
+        idTokenVerifier.verify(token, "nonce");
+        idTokenVerifier.verify(token, "other");
+    }
+
+    @Test
+    public void verifiesOrganizationOfCachedToken() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Organization (org_id) claim mismatch in the ID token; expected \"org_abc\" but found \"org_123\"");
+
+        String token = createToken("org_123");
+        IdTokenVerifier.Builder builder = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, mockVerifier(token))
+                .withVerificationCache(10);
+        builder.withOrganization("org_123").build().verify(token);
+        builder.withOrganization("org_abc").build().verify(token);
+    }
+
+    @Test
+    public void verifiesMaxAgeOfCachedToken() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Authentication Time (auth_time) claim in the ID token indicates that too much time has passed since the last end-user authentication.");
+
+        String token = createToken("org_123");
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, mockVerifier(token))
+                .withVerificationCache(10)
+                .build();
+        idTokenVerifier.verify(token, null, 2 * 24 * 60 * 60);
+        idTokenVerifier.verify(token, null, 60);
+    }
+
+    @Test
+    public void doesNotCacheTokensThatFailVerification() {
+        String token = createToken("org_123");
+        SignatureVerifier verifier = mockVerifier(token);
+
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withVerificationCache(10)
+                .build();
+        for (int i = 0; i < 2; i++) {
+            try {
+                idTokenVerifier.verify(token, "other");
+            } catch (IdTokenValidationException ignored) {
+                // expected
+            }
+        }
+
+        verify(verifier, times(2)).verifySignature(token);
+    }
+
+    @Test
+    public void doesNotReturnCachedTokenOnceExpired() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Expiration Time (exp) claim error in the ID token");
+
+        String token = createToken("org_123");
+        SignatureVerifier verifier = mockVerifier(token);
+        IdTokenVerifier.Builder builder = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withVerificationCache(10);
+        builder.build().verify(token);
+
+        Calendar cal = Calendar.getInstance();
+        cal.add(Calendar.DATE, 2);
+        try {
+            builder.withClock(cal.getTime()).build().verify(token);
+        } finally {
+            verify(verifier, times(2)).verifySignature(token);
+        }
+    }
+
+    @Test
+    public void evictsLeastRecentlyVerifiedTokens() {
+        String first = createToken("org_1");
+        String second = createToken("org_2");
+        SignatureVerifier verifier = mock(SignatureVerifier.class);
+        when(verifier.verifySignature(first)).thenReturn(JWT.decode(first));
+        when(verifier.verifySignature(second)).thenReturn(JWT.decode(second));
+
+        IdTokenVerifier idTokenVerifier = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withVerificationCache(1)
+                .build();
+        idTokenVerifier.verify(first);
+        idTokenVerifier.verify(second);
+        idTokenVerifier.verify(second);
+        idTokenVerifier.verify(first);
+
+        verify(verifier, times(2)).verifySignature(first);
+        verify(verifier, times(1)).verifySignature(second);
+    }
+
+    @Test
+    public void failsToSetNullClock() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'clock' cannot be null!");
+        IdTokenVerifier.init("issuer", "audience", signatureVerifier).withClock((Clock) null);
+    }
+
+    @Test
+    public void verifiesTimeClaimsAsOfTheGivenClock() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Expiration Time (exp) claim error in the ID token");
+
+        String token = createToken("org_123");
+        IdTokenVerifier.Builder builder = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, mockVerifier(token));
+        Instant now = Instant.now();
+        builder.withClock(Clock.fixed(now, ZoneOffset.UTC)).build().verify(token);
+        builder.withClock(Clock.fixed(now.plus(2, ChronoUnit.DAYS), ZoneOffset.UTC)).build().verify(token);
+    }
+
+    @Test
+    public void verifiesAllTokensOfBatch() {
+        String valid = createToken("org_123");
+        String other = createToken("org_abc");
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            tokens.add(i % 2 == 0 ? valid : other);
+        }
+        tokens.add("boom!");
+        SignatureVerifier verifier = mock(SignatureVerifier.class);
+        when(verifier.verifySignature(valid)).thenReturn(JWT.decode(valid));
+        when(verifier.verifySignature(other)).thenReturn(JWT.decode(other));
+        when(verifier.verifySignature("boom!")).thenThrow(new IdTokenValidationException("ID token could not be decoded"));
+
+        Map<String, IdTokenValidationException> failures = IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withOrganization("org_123")
+                .build()
+                .verifyAll(tokens, new ForkJoinPool(4));
+
+        assertThat(failures.keySet(), contains(other, "boom!"));
+        assertThat(failures.get(other).getMessage(), is("Organization (org_id) claim mismatch in the ID token; expected \"org_123\" but found \"org_abc\""));
+        assertThat(failures.get("boom!").getMessage(), is("ID token could not be decoded"));
+        verify(verifier, times(50)).verifySignature(valid);
+        verify(verifier, times(50)).verifySignature(other);
+    }
+
+    @Test
+    public void verifiesEmptyBatch() {
+        Map<String, IdTokenValidationException> failures = IdTokenVerifier.init("issuer", "audience", signatureVerifier)
+                .build()
+                .verifyAll(new ArrayList<>());
+
+        assertThat(failures.isEmpty(), is(true));
+        verifyNoInteractions(signatureVerifier);
+    }
+
+    @Test
+    public void failsToVerifyNullBatch() {
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("'tokens' cannot be null!");
+        IdTokenVerifier.init("issuer", "audience", signatureVerifier).build().verifyAll(null);
+    }
+
+    @Test
+    public void rejectsInvalidClaimsBeforeVerifyingSignatureWithFastRejection() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Issuer (iss) claim mismatch in the ID token, expected \"https://other.auth0.com/\", found \"https://" + DOMAIN + "/\"");
+
+        String token = createToken("org_123");
+        SignatureVerifier verifier = spy(SignatureVerifier.forHS256("secret"));
+        try {
+            IdTokenVerifier.init("https://other.auth0.com/", AUDIENCE, verifier)
+                    .withFastRejection(true)
+                    .build()
+                    .verify(token);
+        } finally {
+            verify(verifier).decodeToken(token);
+            verify(verifier, never()).verifySignature(any(DecodedJWT.class));
+        }
+    }
+
+    @Test
+    public void rejectsExpiredTokenBeforeVerifyingSignatureWithFastRejection() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Expiration Time (exp) claim error in the ID token");
+
+        String token = createToken("org_123");
+        SignatureVerifier verifier = spy(SignatureVerifier.forHS256("secret"));
+        try {
+            IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                    .withFastRejection(true)
+                    .withClock(Clock.fixed(Instant.now().plus(2, ChronoUnit.DAYS), ZoneOffset.UTC))
+                    .build()
+                    .verify(token);
+        } finally {
+            verify(verifier, never()).verifySignature(any(DecodedJWT.class));
+        }
+    }
+
+    @Test
+    public void verifiesSignatureOfTokenWithValidClaimsWithFastRejection() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Invalid ID token signature");
+
+        String token = createToken("org_123");
+        IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, SignatureVerifier.forHS256("other-secret"))
+                .withFastRejection(true)
+                .build()
+                .verify(token);
+    }
+
+    @Test
+    public void succeedsWithFastRejection() {
+        String token = createToken("org_123");
+        SignatureVerifier verifier = spy(SignatureVerifier.forHS256("secret"));
+
+        IdTokenVerifier.init("https://" + DOMAIN + "/", AUDIENCE, verifier)
+                .withFastRejection(true)
+                .withOrganization("org_123")
+                .build()
+                .verify(token, "nonce", 2 * 24 * 60 * 60);
+
+        verify(verifier).decodeToken(token);
+        verify(verifier).verifySignature(any(DecodedJWT.class));
+        verify(verifier, never()).verifySignature(token);
+    }
+
+    @Test
+    public void verifiesSignatureBeforeClaimsByDefault() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Invalid ID token signature");
+
+        String token = createToken("org_123");
+        IdTokenVerifier.init("https://other.auth0.com/", AUDIENCE, SignatureVerifier.forHS256("other-secret"))
+                .build()
+                .verify(token);
+    }
+
+    private String createToken(String organization) {
+        return JWT.create()
+            .withSubject("auth0|sdk458fks")
+            .withAudience(AUDIENCE)
+            .withIssuedAt(getYesterday())
+            .withExpiresAt(getTomorrow())
+            .withIssuer("https://" + DOMAIN + "/")
+            .withClaim("nonce", "nonce")
+            .withClaim("auth_time", getYesterday())
+            .withClaim("org_id", organization)
+            .sign(Algorithm.HMAC256("secret"));
+    }
+
+    private SignatureVerifier mockVerifier(String token) {
+        SignatureVerifier verifier = mock(SignatureVerifier.class);
+        when(verifier.verifySignature(token)).thenReturn(JWT.decode(token));
+        return verifier;
+    }
+
     private IdTokenVerifier.Builder configureVerifier(String token) {
         DecodedJWT decodedJWT = JWT.decode(token);
         SignatureVerifier verifier = mock(SignatureVerifier.class);
@@ -21,6 +21,8 @@ import java.security.interfaces.RSAPublicKey;
 import java.security.spec.EncodedKeySpec;
 import java.security.spec.X509EncodedKeySpec;
 import java.util.Scanner;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 import static org.hamcrest.CoreMatchers.*;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -94,6 +96,24 @@ public class SignatureVerifierTest {
         assertThat(decodedJWT, notNullValue());
     }
 
+    @Test
+    public void succeedsWithValidSignatureOfDecodedHS256Token() {
+        SignatureVerifier verifier = SignatureVerifier.forHS256("secret");
+        DecodedJWT decodedJWT = verifier.decodeToken(HS_JWT);
+        verifier.verifySignature(decodedJWT);
+
+        assertThat(decodedJWT.getToken(), is(HS_JWT));
+    }
+
+    @Test
+    public void failsWithInvalidSignatureOfDecodedHS256Token() {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Invalid ID token signature");
+
+        SignatureVerifier verifier = SignatureVerifier.forHS256("badsecret");
+        verifier.verifySignature(verifier.decodeToken(HS_JWT));
+    }
+
     @Test
     public void failsWithInvalidSignatureHS256Token() {
         exception.expect(IdTokenValidationException.class);
@@ -143,6 +163,80 @@ public class SignatureVerifierTest {
         new NullVerifier();
     }
 
+    @Test
+    public void getsPublicKeyForEveryTokenWhenProviderDoesNotReportKeyChanges() throws Exception {
+        CountingProvider provider = new CountingProvider(-1);
+        SignatureVerifier verifier = SignatureVerifier.forRS256(provider);
+
+        verifier.verifySignature(RS_JWT);
+        verifier.verifySignature(RS_JWT);
+
+        assertThat(provider.lookups.get(), is(2));
+    }
+
+    @Test
+    public void reusesVerifierOfKeyIdUntilKeysChange() throws Exception {
+        CountingProvider provider = new CountingProvider(0);
+        SignatureVerifier verifier = SignatureVerifier.forRS256(provider);
+
+        verifier.verifySignature(RS_JWT);
+        verifier.verifySignature(RS_JWT);
+        assertThat(provider.lookups.get(), is(1));
+
+        provider.version.set(1);
+        verifier.verifySignature(RS_JWT);
+        verifier.verifySignature(RS_JWT);
+        assertThat(provider.lookups.get(), is(2));
+
+        provider.version.set(-1);
+        verifier.verifySignature(RS_JWT);
+        assertThat(provider.lookups.get(), is(3));
+    }
+
+    @Test
+    public void failsWithCachedVerifierWhenSignatureIsInvalid() throws Exception {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Invalid ID token signature");
+
+        SignatureVerifier verifier = SignatureVerifier.forRS256(new CountingProvider(0));
+        verifier.verifySignature(RS_JWT);
+        verifier.verifySignature(RS_JWT.substring(0, RS_JWT.length() - 4) + "AAAA");
+    }
+
+    @Test
+    public void failsWhenAlgorithmHS256IsNotExpectedAndProviderReportsKeyChanges() throws Exception {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Signature algorithm of \"HS256\" is not supported. Expected the ID token to be signed with \"RS256\"");
+        exception.expectCause(isA(AlgorithmMismatchException.class));
+
+        CountingProvider provider = new CountingProvider(0);
+        try {
+            SignatureVerifier.forRS256(provider).verifySignature(HS_JWT);
+        } finally {
+            assertThat(provider.lookups.get(), is(0));
+        }
+    }
+
+    @Test
+    public void failsWhenPublicKeyNotFoundAndProviderReportsKeyChanges() throws Exception {
+        exception.expect(IdTokenValidationException.class);
+        exception.expectMessage("Could not find a public key for Key ID (kid) \"abc123\"");
+        exception.expectCause(isA(PublicKeyProviderException.class));
+
+        SignatureVerifier verifier = SignatureVerifier.forRS256(new PublicKeyProvider() {
+            @Override
+            public RSAPublicKey getPublicKeyById(String keyId) throws PublicKeyProviderException {
+                throw new PublicKeyProviderException("error");
+            }
+
+            @Override
+            public long getKeysVersion() {
+                return 0;
+            }
+        });
+        verifier.verifySignature(RS_JWT);
+    }
+
     private PublicKeyProvider getRSProvider(String rsaPath) {
         return new PublicKeyProvider() {
             @Override
@@ -187,6 +281,31 @@ public class SignatureVerifierTest {
         }
     }
 
+    private static class CountingProvider implements PublicKeyProvider {
+
+        private final AtomicLong version;
+        private final AtomicInteger lookups = new AtomicInteger();
+
+        CountingProvider(long version) {
+            this.version = new AtomicLong(version);
+        }
+
+        @Override
+        public RSAPublicKey getPublicKeyById(String keyId) throws PublicKeyProviderException {
+            lookups.incrementAndGet();
+            try {
+                return readPublicKeyFromFile(RS_PUBLIC_KEY);
+            } catch (IOException ioe) {
+                throw new PublicKeyProviderException("Error reading public key", ioe);
+            }
+        }
+
+        @Override
+        public long getKeysVersion() {
+            return version.get();
+        }
+    }
+
     private static class NullVerifier extends SignatureVerifier {
         NullVerifier() {
             super(null);
@@ -0,0 +1,110 @@
+package com.auth0.utils.tokens;
+
+import com.auth0.jwt.interfaces.DecodedJWT;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.mockito.Mockito.mock;
+
+public class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long EXPIRES_AT = NOW + TimeUnit.HOURS.toMillis(1);
+
+    private final DecodedJWT decoded = mock(DecodedJWT.class);
+
+    private static ByteBuffer key(int i) {
+        return VerifiedTokenCache.keyOf("token-" + i);
+    }
+
+    @Test
+    public void shouldReturnCachedTokenUntilItExpires() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        cache.put(key(1), decoded, EXPIRES_AT, NOW);
+
+        assertThat(cache.get(key(1), EXPIRES_AT), is(sameInstance(decoded)));
+        assertThat(cache.get(key(2), NOW), is(nullValue()));
+        assertThat(cache.get(key(1), EXPIRES_AT + 1), is(nullValue()));
+        assertThat(cache.size(), is(0));
+    }
+
+    @Test
+    public void shouldEvictLeastRecentlyUsedTokensOnceFull() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(key(i), decoded, EXPIRES_AT, NOW + i);
+        }
+        // used again, so no longer among the least recently used
+        cache.get(key(0), NOW + 10);
+        cache.put(key(10), decoded, EXPIRES_AT, NOW + 11);
+
+        // a tenth below the maximum size, so that the next tokens are cached without evicting
+        assertThat(cache.size(), is(9));
+        assertThat(cache.get(key(1), NOW + 12), is(nullValue()));
+        assertThat(cache.get(key(2), NOW + 12), is(nullValue()));
+        assertThat(cache.get(key(0), NOW + 12), is(notNullValue()));
+        assertThat(cache.get(key(3), NOW + 12), is(notNullValue()));
+        assertThat(cache.get(key(10), NOW + 12), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldEvictExpiredTokensFirst() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        for (int i = 0; i < 10; i++) {
+            cache.put(key(i), decoded, i < 5 ? NOW + 5 : EXPIRES_AT, NOW);
+        }
+        cache.put(key(10), decoded, EXPIRES_AT, NOW + 6);
+
+        assertThat(cache.size(), is(6));
+        for (int i = 5; i <= 10; i++) {
+            assertThat(cache.get(key(i), NOW + 6), is(notNullValue()));
+        }
+    }
+
+    @Test
+    public void shouldKeepTokenJustCached() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(1);
+        cache.put(key(1), decoded, EXPIRES_AT, NOW);
+        cache.put(key(2), decoded, EXPIRES_AT, NOW);
+
+        assertThat(cache.size(), is(1));
+        assertThat(cache.get(key(2), NOW), is(notNullValue()));
+    }
+
+    @Test
+    public void shouldStayBoundedWhenUsedConcurrently() throws Exception {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> results = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                results.add(executor.submit(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        ByteBuffer key = key(thread * 10_000 + i % 500);
+                        if (cache.get(key, NOW + i) == null) {
+                            cache.put(key, decoded, EXPIRES_AT, NOW + i);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        // evictions are skipped while another thread is evicting, and caught up with by the next one
+        cache.put(key(-1), decoded, EXPIRES_AT, NOW + 10_000);
+        assertThat(cache.size(), is(lessThanOrEqualTo(100)));
+    }
+}